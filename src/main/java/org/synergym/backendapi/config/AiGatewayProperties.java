@@ -0,0 +1,50 @@
+package org.synergym.backendapi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * application.yml의 ai-gateway 설정값 (FastAPI 호출 공통 설정)
+ * routes에 없는 값은 최상위 기본값을 사용
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "ai-gateway")
+public class AiGatewayProperties {
+
+    private String baseUrl = "http://127.0.0.1:8000";
+
+    // 연결 풀 (모든 경로가 공유)
+    private int maxConnections = 50;
+    private int pendingAcquireMaxCount = 200;
+    private long pendingAcquireTimeoutMs = 5000;
+    private long maxIdleTimeMs = 30000;
+    private long maxLifeTimeMs = 300000;
+
+    // 응답 본문 최대 버퍼 크기
+    private DataSize maxInMemorySize = DataSize.ofMegabytes(4);
+
+    // 경로별 기본값
+    private long connectTimeoutMs = 3000;
+    private long responseTimeoutMs = 30000;
+    private int maxConcurrent = 20;
+
+    // 경로 이름 -> 경로별 설정
+    private Map<String, Route> routes = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Route {
+        private String baseUrl;
+        private Long connectTimeoutMs;
+        private Long responseTimeoutMs;
+        private Integer maxConcurrent;
+    }
+}
@@ -0,0 +1,145 @@
+package org.synergym.backendapi.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 게시글/댓글 검색용 Postgres trigram/bigram 인덱스 초기화
+ * ddl-auto로는 GIN 인덱스를 만들 수 없으므로 시작 시 직접 생성 (IF NOT EXISTS)
+ *
+ * pg_trgm은 문자 3-gram 단위로 인덱싱하므로 형태소 분석 없이도 한글 부분 일치 검색(ILIKE '%키워드%')을 인덱스로 처리
+ * 확장을 설치할 수 없는 환경에서는 trigramAvailable=false로 두고 일반 LIKE 검색으로 동작
+ *
+ * [인덱스 생성]
+ * - CREATE INDEX CONCURRENTLY로 생성하여 운영 중 테이블 쓰기를 막지 않음 (트랜잭션 밖에서 실행해야 하므로 JdbcTemplate 자동 커밋)
+ * - 이전 생성이 중단되어 INVALID로 남은 인덱스는 삭제 후 다시 생성
+ * - 생성이 끝날 때까지는 일반 LIKE 검색으로 동작
+ *
+ * [짧은 검색어]
+ * trigram은 3글자 미만 패턴('%운동%' 등)에서 인덱스 조건을 만들 수 없으므로,
+ * 2글자 검색어(운동, 어깨 등 한글 두 음절 단어)는 문자 bigram 배열 GIN 인덱스로 처리
+ * - search_bigrams(text): 소문자로 바꾼 문자열의 2글자 조각 배열을 돌려주는 IMMUTABLE 함수 (인덱스 표현식)
+ * - search_bigrams(title) @> ARRAY[검색어]로 후보를 찾고 ILIKE로 재확인
+ * - pg_trgm과 무관하게 기본 Postgres에서 동작 (pg_bigm은 기본 Postgres에 없어 사용하지 않음)
+ * 1글자 검색어와 bigram 인덱스가 준비되지 않은 경우에만 서비스에서 최근 N개 행 안에서 검색 (응답에 truncated 표시)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // trigram 인덱스로 처리할 수 있는 최소 검색어 길이, bigram 인덱스로 처리하는 검색어 길이
+    public static final int TRIGRAM_MIN_KEYWORD_LENGTH = 3;
+    public static final int BIGRAM_KEYWORD_LENGTH = 2;
+
+    // 문자 bigram 배열 함수 (인덱스 표현식에 쓰이므로 IMMUTABLE)
+    private static final String BIGRAM_FUNCTION =
+            "CREATE OR REPLACE FUNCTION search_bigrams(t text) RETURNS text[] " +
+            "LANGUAGE sql IMMUTABLE STRICT PARALLEL SAFE AS " +
+            "'SELECT COALESCE(array_agg(DISTINCT substr(lower(t), i, 2)), ''{}''::text[]) " +
+            "FROM generate_series(1, char_length(t) - 1) AS i'";
+
+    // 인덱스 이름 -> 정의
+    private static final Map<String, String> TRIGRAM_INDEXES = Map.of(
+            "idx_posts_title_trgm", "ON Posts USING gin (title gin_trgm_ops)",
+            "idx_posts_content_trgm", "ON Posts USING gin (content gin_trgm_ops)",
+            "idx_comments_content_trgm", "ON Comments USING gin (content gin_trgm_ops)");
+
+    private static final Map<String, String> BIGRAM_INDEXES = Map.of(
+            "idx_posts_title_bigram", "ON Posts USING gin (search_bigrams(title))",
+            "idx_posts_content_bigram", "ON Posts USING gin (search_bigrams(content))",
+            "idx_comments_content_bigram", "ON Comments USING gin (search_bigrams(content))");
+
+    private volatile boolean trigramAvailable = false;
+    private volatile boolean bigramAvailable = false;
+
+    // 인덱스 생성이 오래 걸릴 수 있으므로 시작 스레드를 막지 않도록 비동기로
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void createSearchIndexes() {
+        createTrigramIndexes();
+        createBigramIndexes();
+    }
+
+    private void createTrigramIndexes() {
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+        } catch (Exception e) {
+            log.warn("pg_trgm is not available, falling back to plain LIKE search - {}", e.getMessage());
+            return;
+        }
+        TRIGRAM_INDEXES.forEach(this::createIndexConcurrently);
+
+        // 다른 노드가 같은 인덱스를 동시에 만들다 실패했을 수 있으므로 결과는 유효 여부로 판단
+        trigramAvailable = allValid(TRIGRAM_INDEXES);
+        if (trigramAvailable) {
+            log.info("Trigram search indexes are ready");
+        } else {
+            log.warn("Trigram search indexes are not ready, using plain LIKE search");
+        }
+    }
+
+    private void createBigramIndexes() {
+        try {
+            jdbcTemplate.execute(BIGRAM_FUNCTION);
+        } catch (Exception e) {
+            // 다른 노드가 같은 함수를 동시에 교체하는 경우 등 - 이미 있으면 인덱스 생성은 계속 진행
+            log.warn("Failed to create search_bigrams function - {}", e.getMessage());
+        }
+        BIGRAM_INDEXES.forEach(this::createIndexConcurrently);
+
+        bigramAvailable = allValid(BIGRAM_INDEXES);
+        if (bigramAvailable) {
+            log.info("Bigram search indexes are ready");
+        } else {
+            log.warn("Bigram search indexes are not ready, two-character keywords use the recent-rows fallback");
+        }
+    }
+
+    private boolean allValid(Map<String, String> indexes) {
+        return indexes.keySet().stream().allMatch(name -> Boolean.TRUE.equals(isIndexValid(name)));
+    }
+
+    private void createIndexConcurrently(String name, String definition) {
+        try {
+            Boolean valid = isIndexValid(name);
+            if (Boolean.TRUE.equals(valid)) {
+                return;
+            }
+            if (valid != null) {
+                // 중단된 CONCURRENTLY 생성이 남긴 INVALID 인덱스
+                jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + name);
+            }
+            jdbcTemplate.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + name + " " + definition);
+        } catch (Exception e) {
+            log.warn("Failed to create search index {} - {}", name, e.getMessage());
+        }
+    }
+
+    // 인덱스 유효 여부 (없으면 null)
+    private Boolean isIndexValid(String name) {
+        return jdbcTemplate.query(
+                "SELECT i.indisvalid FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid WHERE c.relname = ?",
+                rs -> rs.next() ? rs.getBoolean(1) : null,
+                name);
+    }
+
+    // word_similarity 기반 관련도 정렬 사용 가능 여부
+    public boolean isTrigramAvailable() {
+        return trigramAvailable;
+    }
+
+    // 2글자 검색어 bigram 인덱스 사용 가능 여부
+    public boolean isBigramAvailable() {
+        return bigramAvailable;
+    }
+}
@@ -1,5 +1,6 @@
 package org.synergym.backendapi.config;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -64,6 +65,8 @@ public class SecurityConfig {
                 .authorizeHttpRequests(authorize -> authorize
                         // 인증 불필요 - 모든 사용자 접근 가능
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                        // 비동기 응답(SSE 스트리밍)의 재디스패치 - 최초 요청에서 이미 권한 확인됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/oauth2/**", "/login/oauth2/**").permitAll()
                         .requestMatchers("/static/**", "/css/**", "/js/**", "/images/**", "/favicon.ico").permitAll()
@@ -71,6 +74,7 @@ public class SecurityConfig {
                         // 관리자 전용
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .requestMatchers("/api/users").hasRole("ADMIN") // 모든 사용자 목록 조회
+                        .requestMatchers("/actuator/**").hasRole("ADMIN") // 운영 지표 (health, metrics)
 
                         // 회원 권한 (MEMBER, ADMIN)
                         .requestMatchers("/api/exercises/**").hasAnyRole("MEMBER", "ADMIN")
@@ -2,13 +2,19 @@ package org.synergym.backendapi.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.synergym.backendapi.dto.AdminDTO;
 import org.synergym.backendapi.service.AdminService;
 import org.synergym.backendapi.dto.UserSignupStatsResponse;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Locale;
 
 @Slf4j
 @RestController
@@ -18,10 +24,10 @@ public class AdminController {
 
     private final AdminService adminService;
 
-    // 대시보드 상단 통계 데이터 반환
+    // 대시보드 상단 통계 데이터 반환 (미리 계산된 스냅샷, refresh=true면 재계산)
     @GetMapping("/dashboard")
-    public ResponseEntity<AdminDTO.DashboardResponse> getDashboardData() {
-        return ResponseEntity.ok(adminService.getDashboardData());
+    public ResponseEntity<AdminDTO.DashboardResponse> getDashboardData(@RequestParam(defaultValue = "false") boolean refresh) {
+        return ResponseEntity.ok(adminService.getDashboardData(refresh));
     }
 
     // 회원 관리 목록 반환
@@ -30,6 +36,31 @@ public class AdminController {
         return ResponseEntity.ok(adminService.getAllMembers());
     }
 
+    // 회원 관리 목록 keyset 페이지 반환 (afterId: 이전 페이지의 마지막 회원 ID)
+    @GetMapping("/members/page")
+    public ResponseEntity<AdminDTO.MemberPageResponse> getMembersPage(
+            @RequestParam(required = false) Integer afterId,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(adminService.getMembersPage(afterId, size));
+    }
+
+    // 전체 회원 내보내기 (csv/json, 응답 본문으로 바로 스트리밍)
+    @GetMapping("/members/export")
+    public ResponseEntity<StreamingResponseBody> exportMembers(@RequestParam(defaultValue = "csv") String format) {
+        String normalizedFormat = format.toLowerCase(Locale.ROOT);
+        MediaType contentType = switch (normalizedFormat) {
+            case "csv" -> new MediaType("text", "csv", StandardCharsets.UTF_8);
+            case "json" -> MediaType.APPLICATION_JSON;
+            default -> throw new IllegalStateException("지원하지 않는 내보내기 형식입니다: " + format);
+        };
+        StreamingResponseBody body = out -> adminService.exportMembers(normalizedFormat, out);
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("members." + normalizedFormat).build().toString())
+                .body(body);
+    }
+
     // 대시보드 하단 분포 데이터 반환
     @GetMapping("/analysis-distribution")
     public ResponseEntity<AdminDTO.DashboardResponse.AnalysisDistributionResponse> getAnalysisDistribution() {
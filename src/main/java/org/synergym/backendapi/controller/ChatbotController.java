@@ -1,7 +1,9 @@
 package org.synergym.backendapi.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
 import org.synergym.backendapi.dto.ChatRequestDTO;
 import org.synergym.backendapi.dto.ChatResponseDTO;
@@ -12,6 +14,9 @@ import org.synergym.backendapi.service.AnalysisHistoryService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.synergym.backendapi.service.AiCoachClient;
 import org.synergym.backendapi.service.YoutubeClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.List;
 import java.util.Map;
@@ -30,35 +35,10 @@ public class ChatbotController {
     public ResponseEntity<ChatResponseDTO> sendMessage(@RequestBody ChatRequestDTO requestDTO) {
         try {
             Integer userId = requestDTO.getUserId();
-            Integer historyId = requestDTO.getHistoryId();
             String type = requestDTO.getType();
 
-            // 1. 분석 이력 조회
-            AnalysisHistoryDTO analysis = analysisHistoryService.getAnalysisHistoryById(historyId);
-
-            // 2. 진단/추천운동 추출
-            String diagnosis = analysis.getDiagnosis(); // JSON string
-            Map<String, Object> recommendedExercise = getRecommendedExerciseFromAnalysis(analysis);
-
-            // 2-1. diagnosis가 JSON 문자열이면 Map으로 변환
-            Map<String, Object> diagnosisMap = null;
-            try {
-                if (diagnosis != null) {
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    diagnosisMap = objectMapper.readValue(diagnosis, Map.class);
-                }
-            } catch (Exception e) {
-                System.out.println("[ERROR] diagnosis JSON 파싱 실패: " + e.getMessage());
-                diagnosisMap = new java.util.HashMap<>();
-            }
-
-            // 3. FastAPI 요청용 body 생성 (snake_case로 맞춤)
-            Map<String, Object> fastApiRequest = new java.util.HashMap<>();
-            fastApiRequest.put("userId", userId);
-            fastApiRequest.put("historyId", historyId);
-            fastApiRequest.put("diagnosis", diagnosisMap);
-            fastApiRequest.put("recommended_exercise", recommendedExercise);
-            fastApiRequest.put("message", requestDTO.getMessage());
+            // 1~3. 분석 이력 기반 FastAPI 요청 body 생성
+            Map<String, Object> fastApiRequest = buildFastApiRequest(requestDTO);
 
             System.out.println("[DEBUG] FastAPI 요청 바디: " + fastApiRequest);
 
@@ -76,12 +56,7 @@ public class ChatbotController {
 
             // 6. 응답 반환 (세션ID도 포함)
             // Redis 저장 전에 세션ID 보장
-            String sessionId = chatbotRedisService.getActiveSession(userId);
-            if (sessionId == null || sessionId.isEmpty()) {
-                sessionId = chatbotRedisService.generateSessionId();
-                chatbotRedisService.setActiveSession(userId, sessionId);
-            }
-            aiResponse.setSessionId(sessionId);
+            aiResponse.setSessionId(resolveActiveSession(userId));
 
             // Redis 저장
             if (aiResponse.getResponse() != null && !aiResponse.getResponse().isEmpty()) {
@@ -121,28 +96,117 @@ public class ChatbotController {
         }
     }
 
-    // 대화 이력 조회 (현재 활성 세션)
+    /**
+     * 메시지 전송 (스트리밍, AI 코치)
+     * FastAPI /ai-coach/stream 응답 조각을 SSE(token 이벤트)로 바로 전달하고,
+     * 스트림이 끝나면 대화 이력을 저장한 뒤 done 이벤트(data: 세션ID)로 종료
+     * 응답을 기다리는 동안 요청 스레드를 점유하지 않음
+     */
+    @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> streamMessage(@RequestBody ChatRequestDTO requestDTO) {
+        Integer userId = requestDTO.getUserId();
+        Map<String, Object> fastApiRequest;
+        String sessionId;
+        try {
+            fastApiRequest = buildFastApiRequest(requestDTO);
+            sessionId = resolveActiveSession(userId);
+        } catch (Exception e) {
+            return Flux.just(errorEvent(e));
+        }
+
+        StringBuilder answer = new StringBuilder();
+        Mono<ServerSentEvent<String>> done = Mono.fromCallable(() -> {
+                    if (!answer.isEmpty()) {
+                        chatbotRedisService.saveChatMessage(userId, sessionId, requestDTO.getMessage(), answer.toString());
+                    }
+                    return ServerSentEvent.<String>builder(sessionId).event("done").build();
+                })
+                // Redis 저장은 네트워크 스레드가 아닌 별도 스레드에서
+                .subscribeOn(Schedulers.boundedElastic());
+
+        return aiCoachClient.streamAiCoach(fastApiRequest)
+                .doOnNext(answer::append)
+                .map(chunk -> ServerSentEvent.<String>builder(chunk).event("token").build())
+                .concatWith(done)
+                .onErrorResume(e -> Flux.just(errorEvent(e)));
+    }
+
+    private ServerSentEvent<String> errorEvent(Throwable e) {
+        return ServerSentEvent.<String>builder("챗봇 응답 중 오류가 발생했습니다. 다시 시도해 주세요.\n" + e.getMessage())
+                .event("error")
+                .build();
+    }
+
+    // 분석 이력(진단, 추천 운동)과 사용자 메시지로 FastAPI 요청 body 생성
+    private Map<String, Object> buildFastApiRequest(ChatRequestDTO requestDTO) {
+        Integer historyId = requestDTO.getHistoryId();
+
+        // 1. 분석 이력 조회
+        AnalysisHistoryDTO analysis = analysisHistoryService.getAnalysisHistoryById(historyId);
+
+        // 2. 진단/추천운동 추출
+        String diagnosis = analysis.getDiagnosis(); // JSON string
+        Map<String, Object> recommendedExercise = getRecommendedExerciseFromAnalysis(analysis);
+
+        // 2-1. diagnosis가 JSON 문자열이면 Map으로 변환
+        Map<String, Object> diagnosisMap = null;
+        try {
+            if (diagnosis != null) {
+                ObjectMapper objectMapper = new ObjectMapper();
+                diagnosisMap = objectMapper.readValue(diagnosis, Map.class);
+            }
+        } catch (Exception e) {
+            System.out.println("[ERROR] diagnosis JSON 파싱 실패: " + e.getMessage());
+            diagnosisMap = new java.util.HashMap<>();
+        }
+
+        // 3. FastAPI 요청용 body 생성 (snake_case로 맞춤)
+        Map<String, Object> fastApiRequest = new java.util.HashMap<>();
+        fastApiRequest.put("userId", requestDTO.getUserId());
+        fastApiRequest.put("historyId", historyId);
+        fastApiRequest.put("diagnosis", diagnosisMap);
+        fastApiRequest.put("recommended_exercise", recommendedExercise);
+        fastApiRequest.put("message", requestDTO.getMessage());
+        return fastApiRequest;
+    }
+
+    // 활성 세션 조회 (없으면 새로 생성)
+    private String resolveActiveSession(Integer userId) {
+        String sessionId = chatbotRedisService.getActiveSession(userId);
+        if (sessionId == null || sessionId.isEmpty()) {
+            sessionId = chatbotRedisService.generateSessionId();
+            chatbotRedisService.setActiveSession(userId, sessionId);
+        }
+        return sessionId;
+    }
+
+    // 대화 이력 조회 (현재 활성 세션, 최신 메시지부터 offset개 건너뛰고 limit개를 시간순으로)
     @GetMapping("/history/{userId}")
-    public ResponseEntity<List<ChatMessageDTO>> getHistory(@PathVariable Integer userId) {
+    public ResponseEntity<List<ChatMessageDTO>> getHistory(
+            @PathVariable Integer userId,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "50") int limit) {
         try {
             String sessionId = chatbotRedisService.getActiveSession(userId);
             if (sessionId == null || sessionId.isEmpty()) {
                 return ResponseEntity.ok(List.of());
             }
-            List<ChatMessageDTO> history = chatbotRedisService.getChatHistory(userId, sessionId);
+            List<ChatMessageDTO> history = chatbotRedisService.getChatHistory(userId, sessionId, offset, limit);
             return ResponseEntity.ok(history != null ? history : List.of());
         } catch (Exception e) {
             return ResponseEntity.ok(List.of());
         }
     }
 
-    // 대화 이력 조회 (특정 세션)
+    // 대화 이력 조회 (특정 세션, 페이지 기준은 위와 같음)
     @GetMapping("/history/{userId}/{sessionId}")
     public ResponseEntity<List<ChatMessageDTO>> getHistoryBySession(
             @PathVariable Integer userId,
-            @PathVariable String sessionId) {
+            @PathVariable String sessionId,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "50") int limit) {
         try {
-            List<ChatMessageDTO> history = chatbotRedisService.getChatHistory(userId, sessionId);
+            List<ChatMessageDTO> history = chatbotRedisService.getChatHistory(userId, sessionId, offset, limit);
             return ResponseEntity.ok(history != null ? history : List.of());
         } catch (Exception e) {
             return ResponseEntity.ok(List.of());
@@ -6,6 +6,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.synergym.backendapi.dto.CommentDTO;
+import org.synergym.backendapi.dto.SearchHitDTO;
+import org.synergym.backendapi.dto.SearchPageDTO;
 import org.synergym.backendapi.service.CommentService;
 
 import java.util.List;
@@ -79,4 +81,10 @@ public class CommentController {
     public ResponseEntity<List<CommentDTO>> searchComments(@RequestParam String keyword) {
         return ResponseEntity.ok(commentService.searchComments(keyword));
     }
+
+    // 댓글 검색 (관련도순, 페이징, 하이라이트 포함)
+    @GetMapping("/search/ranked")
+    public ResponseEntity<SearchPageDTO<SearchHitDTO<CommentDTO>>> searchCommentsRanked(@RequestParam String keyword, Pageable pageable) {
+        return ResponseEntity.ok(commentService.searchCommentsRanked(keyword, pageable));
+    }
 }
\ No newline at end of file
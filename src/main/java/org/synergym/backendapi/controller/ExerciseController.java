@@ -60,6 +60,16 @@ public class ExerciseController {
         return ResponseEntity.ok(exercises);
     }
 
+    // 카테고리/부위/자세/난이도 조건 검색
+    @GetMapping("/search/filter")
+    public ResponseEntity<List<ExerciseDTO>> searchExercises(@RequestParam(required = false) String category,
+                                                             @RequestParam(required = false) String bodyPart,
+                                                             @RequestParam(required = false) String posture,
+                                                             @RequestParam(required = false) String difficulty) {
+        List<ExerciseDTO> exercises = exerciseService.searchExercises(category, bodyPart, posture, difficulty);
+        return ResponseEntity.ok(exercises);
+    }
+
     // 운동 생성
     @PostMapping
     public ResponseEntity<Integer> createExercise(@RequestBody ExerciseDTO exerciseDTO) {
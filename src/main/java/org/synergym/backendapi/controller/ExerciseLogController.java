@@ -3,6 +3,8 @@ package org.synergym.backendapi.controller;
 import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,8 +15,10 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.synergym.backendapi.dto.CalendarSummaryDTO;
 import org.synergym.backendapi.dto.ExerciseLogDTO;
 import org.synergym.backendapi.dto.WeeklyMonthlyStats;
+import org.synergym.backendapi.service.ActivityCalendarService;
 import org.synergym.backendapi.service.ExerciseLogService;
 
 import lombok.RequiredArgsConstructor;
@@ -25,6 +29,7 @@ import lombok.RequiredArgsConstructor;
 public class ExerciseLogController {
 
     private final ExerciseLogService exerciseLogService;
+    private final ActivityCalendarService activityCalendarService;
 
     // 운동기록 전체 조회
     @GetMapping
@@ -64,6 +69,27 @@ public class ExerciseLogController {
         return ResponseEntity.ok(logs);
     }
 
+    // 사용자별 기간 운동기록 페이지 조회 (캘린더/기록 화면용, 최신 날짜순)
+    @GetMapping("/user/{userId}/range")
+    public ResponseEntity<Page<ExerciseLogDTO>> getExerciseLogsByUserAndDateRange(
+            @PathVariable Integer userId,
+            @RequestParam("startDate") String startDateStr,
+            @RequestParam("endDate") String endDateStr,
+            Pageable pageable) {
+        Page<ExerciseLogDTO> logs = exerciseLogService.getExerciseLogsByUserAndDateRange(
+                userId, LocalDate.parse(startDateStr), LocalDate.parse(endDateStr), pageable);
+        return ResponseEntity.ok(logs);
+    }
+
+    // 사용자별 운동 캘린더 요약 조회 (주간/월간 횟수, 연속 운동일, 연간 히트맵)
+    @GetMapping("/user/{userId}/calendar-summary")
+    public ResponseEntity<CalendarSummaryDTO> getCalendarSummary(
+            @PathVariable Integer userId,
+            @RequestParam(value = "year", required = false) Integer year) {
+        int targetYear = year != null ? year : LocalDate.now().getYear();
+        return ResponseEntity.ok(activityCalendarService.getCalendarSummary(userId, targetYear));
+    }
+
     // 운동기록 생성
     @PostMapping
     public ResponseEntity<Integer> createExerciseLog(@RequestBody ExerciseLogDTO exerciseLogDTO) {
@@ -5,7 +5,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.synergym.backendapi.dto.PostCursorPageDTO;
 import org.synergym.backendapi.dto.PostDTO;
+import org.synergym.backendapi.dto.SearchHitDTO;
+import org.synergym.backendapi.dto.SearchPageDTO;
 import org.synergym.backendapi.service.PostService;
 
 import java.util.List;
@@ -35,6 +38,26 @@ public class PostController {
         return ResponseEntity.ok(postService.getPostsWithPagingByPopularity(pageable));
     }
 
+    // 페이징 게시글 조회 (hot 점수순)
+    @GetMapping("/paging/hot")
+    public ResponseEntity<Page<PostDTO>> getHotPostsWithPaging(Pageable pageable) {
+        return ResponseEntity.ok(postService.getHotPostsWithPaging(pageable));
+    }
+
+    // 커서 기반 게시글 조회 (최신순, 무한 스크롤용)
+    @GetMapping("/feed")
+    public ResponseEntity<PostCursorPageDTO> getFeed(@RequestParam(required = false) String cursor,
+                                                     @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(postService.getFeed(cursor, size));
+    }
+
+    // 커서 기반 게시글 조회 (인기순)
+    @GetMapping("/feed/popular")
+    public ResponseEntity<PostCursorPageDTO> getPopularFeed(@RequestParam(required = false) String cursor,
+                                                            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(postService.getPopularFeed(cursor, size));
+    }
+
     // 단일 게시글 조회
     @GetMapping("/{id}")
     public ResponseEntity<PostDTO> getPost(@PathVariable int id) {
@@ -68,6 +91,12 @@ public class PostController {
         return ResponseEntity.ok(postService.searchPosts(keyword));
     }
 
+    // 게시글 검색 (관련도순, 페이징, 하이라이트 포함)
+    @GetMapping("/search/ranked")
+    public ResponseEntity<SearchPageDTO<SearchHitDTO<PostDTO>>> searchPostsRanked(@RequestParam String keyword, Pageable pageable) {
+        return ResponseEntity.ok(postService.searchPostsRanked(keyword, pageable));
+    }
+
     // 사용자별 게시글 조회 (페이징)
     @GetMapping("/user/{userId}")
     public ResponseEntity<Page<PostDTO>> getPostsByUserIdWithPaging(@PathVariable Integer userId, Pageable pageable) {
@@ -85,4 +114,26 @@ public class PostController {
     public ResponseEntity<Page<PostDTO>> getPostsByCategoryIdWithPagingByPopularity(@PathVariable Integer categoryId, Pageable pageable) {
         return ResponseEntity.ok(postService.getPostsByCategoryIdWithPagingByPopularity(categoryId, pageable));
     }
-}
\ No newline at end of file
+
+    // 카테고리별 게시글 조회 (페이징, hot 점수순)
+    @GetMapping("/category/{categoryId}/hot")
+    public ResponseEntity<Page<PostDTO>> getHotPostsByCategoryIdWithPaging(@PathVariable Integer categoryId, Pageable pageable) {
+        return ResponseEntity.ok(postService.getHotPostsByCategoryIdWithPaging(categoryId, pageable));
+    }
+
+    // 카테고리별 커서 기반 게시글 조회 (최신순)
+    @GetMapping("/category/{categoryId}/feed")
+    public ResponseEntity<PostCursorPageDTO> getCategoryFeed(@PathVariable Integer categoryId,
+                                                             @RequestParam(required = false) String cursor,
+                                                             @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(postService.getCategoryFeed(categoryId, cursor, size));
+    }
+
+    // 카테고리별 커서 기반 게시글 조회 (인기순)
+    @GetMapping("/category/{categoryId}/feed/popular")
+    public ResponseEntity<PostCursorPageDTO> getCategoryPopularFeed(@PathVariable Integer categoryId,
+                                                                    @RequestParam(required = false) String cursor,
+                                                                    @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(postService.getCategoryPopularFeed(categoryId, cursor, size));
+    }
+}
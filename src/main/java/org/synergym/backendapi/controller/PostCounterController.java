@@ -1,11 +1,13 @@
 package org.synergym.backendapi.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.synergym.backendapi.dto.PostCounterDTO;
 import org.synergym.backendapi.service.PostCounterService;
+import org.synergym.backendapi.util.SecurityUtils;
 
 @Slf4j
 @RestController
@@ -79,12 +81,12 @@ public class PostCounterController {
         }
     }
 
-    // 게시글 조회 수 증가
+    // 게시글 조회 수 증가 (같은 방문자는 하루 한 번만 집계)
     @PostMapping("/{postId}/view-count")
-    public ResponseEntity<Void> incrementViewCount(@PathVariable Integer postId) {
+    public ResponseEntity<Void> incrementViewCount(@PathVariable Integer postId, HttpServletRequest request) {
         try {
             log.debug("Incrementing view count for postId: {}", postId);
-            postCounterService.incrementViewCount(postId);
+            postCounterService.incrementViewCount(postId, resolveViewerKey(request));
             return ResponseEntity.ok().build();
         } catch (Exception e) {
             log.error("Error incrementing view count for postId: {}", postId, e);
@@ -92,6 +94,23 @@ public class PostCounterController {
         }
     }
 
+    // 게시글의 오늘 순 방문자 수 (근사값)
+    @GetMapping("/{postId}/unique-viewers")
+    public ResponseEntity<Long> getUniqueViewerCount(@PathVariable Integer postId) {
+        log.debug("Getting unique viewer count for postId: {}", postId);
+        return ResponseEntity.ok(postCounterService.getUniqueViewerCount(postId));
+    }
+
+    // 로그인 사용자는 이메일, 비로그인은 IP로 방문자 식별
+    // (프록시 헤더는 server.forward-headers-strategy로 신뢰하는 프록시에서 온 것만 remoteAddr에 반영)
+    private String resolveViewerKey(HttpServletRequest request) {
+        String email = SecurityUtils.getCurrentUserEmail();
+        if (email != null && !"anonymousUser".equals(email)) {
+            return "user:" + email;
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
     // 댓글 수 동기화 (마이그레이션용)
     @PostMapping("/sync-comment-counts")
     public ResponseEntity<String> syncCommentCounts() {
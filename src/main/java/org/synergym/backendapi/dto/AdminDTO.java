@@ -1,6 +1,7 @@
 package org.synergym.backendapi.dto;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 // 관리자 페이지 관련 DTO
@@ -15,7 +16,8 @@ public class AdminDTO {
             List<PopularExerciseDto> popularByRoutine,
             List<PopularPostDto> popularByViews,
             List<PopularPostDto> popularByComments,
-            List<PopularPostDto> popularByPostLikes
+            List<PopularPostDto> popularByPostLikes,
+            LocalDateTime snapshotAt  // 집계 시각 (스냅샷이 계산된 시점)
     ) {
         public record StatsDto(long totalMembers, long totalPosts, long totalAnalysis, WeeklyActiveUsersDto weeklyActiveUsers) {}
         public record WeeklyActiveUsersDto(long value, double change) {}
@@ -49,4 +51,12 @@ public class AdminDTO {
             LocalDate birthDate,
             String gender
     ) {}
+
+    // 회원 목록 keyset 페이지 응답 (다음 페이지는 nextAfterId 이후부터 조회)
+    public record MemberPageResponse(
+            List<MemberResponse> content,
+            Integer nextAfterId,  // 다음 페이지 요청 시 전달할 마지막 회원 ID (마지막 페이지면 null)
+            boolean hasNext,
+            int size
+    ) {}
 }
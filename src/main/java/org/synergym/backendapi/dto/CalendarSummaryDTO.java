@@ -0,0 +1,27 @@
+package org.synergym.backendapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+
+// 운동 캘린더 요약 DTO (주간/월간 횟수, 연속 운동일, 연간 히트맵)
+public class CalendarSummaryDTO {
+
+    private int year;  // 히트맵 대상 연도
+    private int weeklyExerciseCount;  // 이번 주 운동 횟수
+    private int monthlyExerciseCount;  // 이번 달 운동 횟수
+    private int currentStreak;  // 현재 연속 운동일 (오늘 또는 어제까지 이어진 경우)
+    private int longestStreak;  // 최장 연속 운동일
+    private LocalDate lastExerciseDate;  // 마지막 운동일
+    private int activeDays;  // 해당 연도 운동한 날 수
+    private List<Integer> dailyCounts;  // 해당 연도 일별 운동 횟수 (1월 1일부터, 길이 = 연도의 일 수)
+}
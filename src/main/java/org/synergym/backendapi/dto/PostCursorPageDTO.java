@@ -0,0 +1,23 @@
+package org.synergym.backendapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+
+// 커서 기반 게시글 목록 응답 DTO (무한 스크롤용)
+// 전체 개수를 세지 않고 다음 페이지 커서만 내려줌
+public class PostCursorPageDTO {
+
+    private List<PostDTO> content;  // 게시글 목록
+    private String nextCursor;  // 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+    private boolean hasNext;  // 다음 페이지 존재 여부
+    private int size;  // 요청한 페이지 크기
+}
@@ -0,0 +1,28 @@
+package org.synergym.backendapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.synergym.backendapi.entity.PostureAnalysisJobStatus;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+
+// 비동기 자세 분석 작업 상태 DTO
+public class PostureAnalysisJobDTO {
+
+    private String jobId; // 작업 id
+    private int userId; // 요청 유저 id
+    private String type; // single 또는 merge
+    private PostureAnalysisJobStatus status; // 작업 상태
+    private int attempts; // 시도 횟수
+    private Integer historyId; // 완료 시 저장된 분석기록 id
+    private String error; // 마지막 실패 사유
+    private LocalDateTime createdAt; // 작업 등록 시각
+    private LocalDateTime updatedAt; // 마지막 상태 변경 시각
+}
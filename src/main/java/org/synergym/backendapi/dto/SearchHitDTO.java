@@ -0,0 +1,21 @@
+package org.synergym.backendapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+
+// 검색 결과 DTO (관련도 순 검색 결과 한 건)
+public class SearchHitDTO<T> {
+
+    private T item;  // 검색된 게시글/댓글
+    private double score;  // 관련도 점수 (높을수록 관련도 높음)
+    private List<String> highlights;  // 키워드가 <mark>로 강조된 스니펫 (제목, 본문 순)
+}
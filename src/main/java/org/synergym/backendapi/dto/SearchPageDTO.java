@@ -0,0 +1,26 @@
+package org.synergym.backendapi.dto;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+// 검색 결과 페이지 DTO (기존 Page 응답 형식에 truncated 필드 추가)
+// 인덱스를 쓸 수 없는 검색어는 최근 글 범위만 검색하므로, 그보다 오래된 글이 빠졌을 수 있으면 truncated = true
+public class SearchPageDTO<T> extends PageImpl<T> {
+
+    private final boolean truncated;  // 검색 범위 제한으로 결과(및 totalElements)가 일부만 포함되었는지 여부
+
+    public SearchPageDTO(List<T> content, Pageable pageable, long total, boolean truncated) {
+        super(content, pageable, total);
+        this.truncated = truncated;
+    }
+
+    public static <T> SearchPageDTO<T> empty(Pageable pageable) {
+        return new SearchPageDTO<>(List.of(), pageable, 0, false);
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+}
@@ -0,0 +1,8 @@
+package org.synergym.backendapi.entity;
+
+public enum ClassificationJobStatus {
+    PENDING,     // 처리 대기 (재시도 대기 포함)
+    PROCESSING,  // 워커가 가져가 처리 중
+    DONE,        // 처리 완료 (대상 기록이 삭제/변경되어 건너뛴 경우 포함)
+    FAILED       // 최대 재시도 횟수 초과
+}
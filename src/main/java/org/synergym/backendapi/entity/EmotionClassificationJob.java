@@ -0,0 +1,84 @@
+package org.synergym.backendapi.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 감정 분류 작업 (outbox)
+ * 운동 기록 저장과 같은 트랜잭션에서 등록되고, EmotionClassificationWorker가 가져가 처리
+ * 운동 기록 삭제를 막지 않도록 log_id는 외래 키 없이 값으로만 보관
+ */
+@Entity
+@Table(name = "Emotion_Classification_Jobs", indexes = {
+        // 처리 대상 조회용 (status, next_attempt_at)
+        @Index(name = "idx_emotion_jobs_status_next_attempt", columnList = "status, next_attempt_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EmotionClassificationJob extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_id")
+    private int id;
+
+    @Column(name = "log_id", nullable = false)
+    private Integer exerciseLogId;
+
+    // 등록 시점의 메모 (처리 전에 메모가 바뀌면 이 작업은 건너뜀)
+    @Column(name = "memo", nullable = false, columnDefinition = "TEXT")
+    private String memo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ClassificationJobStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // 다음 처리 가능 시각 (PROCESSING 상태에서는 작업 점유 만료 시각)
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Builder
+    public EmotionClassificationJob(Integer exerciseLogId, String memo) {
+        this.exerciseLogId = exerciseLogId;
+        this.memo = memo;
+        this.status = ClassificationJobStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    // 처리 완료
+    public void complete() {
+        this.status = ClassificationJobStatus.DONE;
+        this.lastError = null;
+    }
+
+    // 처리 실패 (최대 재시도 횟수를 넘으면 FAILED, 아니면 retryAt 이후 재시도)
+    public void fail(String error, int maxAttempts, LocalDateTime retryAt) {
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        if (attempts >= maxAttempts) {
+            this.status = ClassificationJobStatus.FAILED;
+        } else {
+            this.status = ClassificationJobStatus.PENDING;
+            this.nextAttemptAt = retryAt;
+        }
+    }
+}
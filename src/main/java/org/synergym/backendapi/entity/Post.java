@@ -11,7 +11,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "Posts")
+@Table(name = "Posts", indexes = {
+        // 커서 페이지네이션 (created_at, post_id) seek용
+        @Index(name = "idx_posts_created_at_id", columnList = "created_at, post_id"),
+        @Index(name = "idx_posts_category_created_at_id", columnList = "category_id, created_at, post_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
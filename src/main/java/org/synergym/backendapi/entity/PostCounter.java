@@ -15,7 +15,10 @@ import lombok.NoArgsConstructor;
  * - PostCounter: "몇 명이 좋아요를 눌렀는지" 집계 숫자만 저장
  */
 @Entity
-@Table(name = "Post_Counters")
+@Table(name = "Post_Counters", indexes = {
+        // 인기순 커서 페이지네이션 (like_count, post_id) seek용
+        @Index(name = "idx_post_counters_like_count_id", columnList = "like_count, post_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PostCounter {
@@ -0,0 +1,116 @@
+package org.synergym.backendapi.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 비동기 자세 분석 작업
+ * 등록 API가 저장하고 PostureAnalysisJobQueue의 워커가 가져가 처리
+ * 노드가 재시작되어도 작업이 남아 있으며, 점유가 만료된 작업은 다른 노드가 다시 가져감
+ */
+@Entity
+@Table(name = "Posture_Analysis_Jobs", indexes = {
+        // 처리 대상 조회용 (status, next_attempt_at)
+        @Index(name = "idx_posture_jobs_status_next_attempt", columnList = "status, next_attempt_at")
+}, uniqueConstraints = {
+        // 같은 사용자의 같은 Idempotency-Key는 작업 하나만 등록
+        @UniqueConstraint(name = "uk_posture_jobs_user_idempotency_key", columnNames = {"user_id", "idempotency_key"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostureAnalysisJob extends BaseEntity {
+
+    public static final String TYPE_SINGLE = "single";
+    public static final String TYPE_MERGE = "merge";
+
+    @Id
+    @Column(name = "job_id", length = 36)
+    private String id;
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+
+    // single 또는 merge
+    @Column(name = "type", nullable = false, length = 10)
+    private String type;
+
+    // single: imageUrl + mode, merge: frontImageUrl + sideImageUrl
+    @Column(name = "image_url", length = 1000)
+    private String imageUrl;
+
+    @Column(name = "mode", length = 50)
+    private String mode;
+
+    @Column(name = "front_image_url", length = 1000)
+    private String frontImageUrl;
+
+    @Column(name = "side_image_url", length = 1000)
+    private String sideImageUrl;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private PostureAnalysisJobStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // 다음 처리 가능 시각 (RUNNING 상태에서는 작업 점유 만료 시각)
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 완료 시 저장된 분석기록 id
+    @Column(name = "history_id")
+    private Integer historyId;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Builder
+    public PostureAnalysisJob(String id, Integer userId, String idempotencyKey, String type,
+                              String imageUrl, String mode, String frontImageUrl, String sideImageUrl) {
+        this.id = id;
+        this.userId = userId;
+        this.idempotencyKey = idempotencyKey;
+        this.type = type;
+        this.imageUrl = imageUrl;
+        this.mode = mode;
+        this.frontImageUrl = frontImageUrl;
+        this.sideImageUrl = sideImageUrl;
+        this.status = PostureAnalysisJobStatus.QUEUED;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    // 처리 완료
+    public void complete(Integer historyId) {
+        this.status = PostureAnalysisJobStatus.SUCCEEDED;
+        this.historyId = historyId;
+        this.lastError = null;
+    }
+
+    // 처리 실패 (최대 시도 횟수에 도달했거나 재시도할 수 없으면 FAILED, 아니면 retryAt 이후 재시도)
+    public void fail(String error, boolean retryable, int maxAttempts, LocalDateTime retryAt) {
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        if (!retryable || attempts >= maxAttempts) {
+            this.status = PostureAnalysisJobStatus.FAILED;
+        } else {
+            this.status = PostureAnalysisJobStatus.RETRYING;
+            this.nextAttemptAt = retryAt;
+        }
+    }
+}
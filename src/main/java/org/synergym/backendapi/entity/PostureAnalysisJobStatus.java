@@ -0,0 +1,13 @@
+package org.synergym.backendapi.entity;
+
+public enum PostureAnalysisJobStatus {
+    QUEUED,    // 대기 중
+    RUNNING,   // 워커가 가져가 분석 중
+    RETRYING,  // 실패 후 재시도 대기 중
+    SUCCEEDED, // 분석 기록 저장 완료
+    FAILED;    // 재시도 후에도 실패 (최대 시도 횟수 초과)
+
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED;
+    }
+}
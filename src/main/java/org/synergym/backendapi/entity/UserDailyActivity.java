@@ -0,0 +1,21 @@
+package org.synergym.backendapi.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 사용자별 일별 운동 기록 수 (Exercise_Logs 집계 롤업)
+ * 운동 기록 생성/삭제와 같은 트랜잭션에서 갱신되며, 주간/월간 통계와 캘린더 요약은 이 테이블만 조회
+ */
+@Entity
+@Table(name = "User_Daily_Activity")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserDailyActivity {
+
+    @EmbeddedId
+    private UserDailyActivityId id;
+
+    @Column(name = "log_count", nullable = false)
+    private int logCount;
+}
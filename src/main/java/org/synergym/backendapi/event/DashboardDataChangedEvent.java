@@ -0,0 +1,10 @@
+package org.synergym.backendapi.event;
+
+/**
+ * 관리자 대시보드 집계에 영향을 주는 데이터 변경 이벤트
+ * (회원 가입/탈퇴, 게시글 작성/삭제, 게시글 집계 반영, 자세 분석 기록, 운동 좋아요/루틴 변경)
+ *
+ * @param source 변경 출처 (로그용)
+ */
+public record DashboardDataChangedEvent(String source) {
+}
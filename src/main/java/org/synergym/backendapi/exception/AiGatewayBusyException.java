@@ -0,0 +1,22 @@
+package org.synergym.backendapi.exception;
+
+import lombok.Getter;
+
+/**
+ * AI 서버 호출 동시 요청 수 제한을 넘었을 때 발생시키는 예외
+ * 대기하지 않고 바로 거절하여 느린 모델 호출이 요청 스레드를 모두 점유하지 않도록 함
+ */
+@Getter
+public class AiGatewayBusyException extends RuntimeException {
+
+    /** 에러 코드 (AI_SERVER_BUSY) */
+    private final ErrorCode errorCode = ErrorCode.AI_SERVER_BUSY;
+
+    /** 제한에 걸린 호출 경로 이름 */
+    private final String route;
+
+    public AiGatewayBusyException(String route) {
+        super(ErrorCode.AI_SERVER_BUSY.getMessage());
+        this.route = route;
+    }
+}
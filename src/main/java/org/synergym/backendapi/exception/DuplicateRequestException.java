@@ -0,0 +1,18 @@
+package org.synergym.backendapi.exception;
+
+import lombok.Getter;
+
+/**
+ * 같은 멱등성 키(Idempotency-Key)로 보낸 요청이 아직 처리 중일 때 발생시키는 예외
+ * 중복 클릭이나 재시도로 같은 작업이 두 번 실행되지 않도록 거절
+ */
+@Getter
+public class DuplicateRequestException extends RuntimeException {
+
+    /** 에러 코드 (DUPLICATE_REQUEST) */
+    private final ErrorCode errorCode = ErrorCode.DUPLICATE_REQUEST;
+
+    public DuplicateRequestException() {
+        super(ErrorCode.DUPLICATE_REQUEST.getMessage());
+    }
+}
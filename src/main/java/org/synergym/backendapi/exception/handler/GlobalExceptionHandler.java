@@ -8,6 +8,8 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 import org.synergym.backendapi.dto.ErrorResponse;
+import org.synergym.backendapi.exception.AiGatewayBusyException;
+import org.synergym.backendapi.exception.DuplicateRequestException;
 import org.synergym.backendapi.exception.EntityNotFoundException;
 import org.synergym.backendapi.exception.ErrorCode;
 
@@ -57,6 +59,30 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * AI 서버 호출 동시 요청 수 제한 초과 시 처리 (503)
+     */
+    @ExceptionHandler(AiGatewayBusyException.class)
+    public ResponseEntity<ErrorResponse> handleAiGatewayBusyException(AiGatewayBusyException ex, WebRequest request) {
+        log.warn("AiGatewayBusyException: route={}", ex.getRoute());
+        return ErrorResponse.toResponseEntity(
+                ex.getErrorCode(),
+                request.getDescription(false).replace("uri=", "")
+        );
+    }
+
+    /**
+     * 같은 Idempotency-Key 요청이 아직 처리 중일 때 처리 (409)
+     */
+    @ExceptionHandler(DuplicateRequestException.class)
+    public ResponseEntity<ErrorResponse> handleDuplicateRequestException(DuplicateRequestException ex, WebRequest request) {
+        log.warn("DuplicateRequestException: {}", ex.getMessage());
+        return ErrorResponse.toResponseEntity(
+                ex.getErrorCode(),
+                request.getDescription(false).replace("uri=", "")
+        );
+    }
+
     /**
      * 처리되지 않은 모든 예외 처리 (최종 fallback)
      * 서버 오류 등 예상치 못한 에러에 대응
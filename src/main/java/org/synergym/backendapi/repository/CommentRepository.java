@@ -3,8 +3,11 @@ package org.synergym.backendapi.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.synergym.backendapi.entity.Comment;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Integer> {
@@ -24,6 +27,57 @@ public interface CommentRepository extends JpaRepository<Comment, Integer> {
     // 사용자별 댓글 수 조회
     long countByUserId(Integer userId);
     
-    // 내용으로 댓글 검색 (부분 일치)
-    List<Comment> findByContentContaining(String content);
+    // 내용 검색 (trigram 관련도순) - (comment_id, score), 삭제된 댓글 제외
+    @Query(value = "SELECT c.comment_id, word_similarity(:keyword, c.content) AS score " +
+                   "FROM Comments c " +
+                   "WHERE COALESCE(c.use_yn, 'Y') <> 'N' AND c.content ILIKE :pattern " +
+                   "ORDER BY score DESC, c.comment_id DESC",
+           countQuery = "SELECT COUNT(*) FROM Comments c WHERE COALESCE(c.use_yn, 'Y') <> 'N' AND c.content ILIKE :pattern",
+           nativeQuery = true)
+    Page<Object[]> searchRanked(@Param("keyword") String keyword, @Param("pattern") String pattern, Pageable pageable);
+
+    // 내용 검색 (pg_trgm 미설치 환경용) - 최신순
+    @Query(value = "SELECT c.comment_id, 0.0 AS score " +
+                   "FROM Comments c " +
+                   "WHERE COALESCE(c.use_yn, 'Y') <> 'N' AND c.content ILIKE :pattern " +
+                   "ORDER BY c.created_at DESC, c.comment_id DESC",
+           countQuery = "SELECT COUNT(*) FROM Comments c WHERE COALESCE(c.use_yn, 'Y') <> 'N' AND c.content ILIKE :pattern",
+           nativeQuery = true)
+    Page<Object[]> searchPlain(@Param("pattern") String pattern, Pageable pageable);
+
+    // 2글자 검색어용 (bigram GIN 인덱스로 후보 조회 후 ILIKE 재확인) - 최신순
+    @Query(value = "SELECT c.comment_id, 0.0 AS score " +
+                   "FROM Comments c " +
+                   "WHERE COALESCE(c.use_yn, 'Y') <> 'N' " +
+                   "AND search_bigrams(c.content) @> ARRAY[lower(CAST(:keyword AS text))] " +
+                   "AND c.content ILIKE :pattern " +
+                   "ORDER BY c.created_at DESC, c.comment_id DESC",
+           countQuery = "SELECT COUNT(*) FROM Comments c " +
+                        "WHERE COALESCE(c.use_yn, 'Y') <> 'N' " +
+                        "AND search_bigrams(c.content) @> ARRAY[lower(CAST(:keyword AS text))] " +
+                        "AND c.content ILIKE :pattern",
+           nativeQuery = true)
+    Page<Object[]> searchByBigram(@Param("keyword") String keyword, @Param("pattern") String pattern, Pageable pageable);
+
+    // 인덱스로 처리할 수 없는 짧은 검색어(1글자, bigram 인덱스 준비 전 2글자)용 - 최근 :scanLimit개 댓글 안에서만 검색, 최신순
+    @Query(value = "SELECT c.comment_id, 0.0 AS score " +
+                   "FROM (SELECT comment_id, content FROM Comments WHERE COALESCE(use_yn, 'Y') <> 'N' " +
+                   "ORDER BY comment_id DESC LIMIT :scanLimit) c " +
+                   "WHERE c.content ILIKE :pattern " +
+                   "ORDER BY c.comment_id DESC",
+           countQuery = "SELECT COUNT(*) FROM (SELECT content FROM Comments WHERE COALESCE(use_yn, 'Y') <> 'N' " +
+                        "ORDER BY comment_id DESC LIMIT :scanLimit) c " +
+                        "WHERE c.content ILIKE :pattern",
+           nativeQuery = true)
+    Page<Object[]> searchRecent(@Param("pattern") String pattern, @Param("scanLimit") int scanLimit, Pageable pageable);
+
+    // 삭제되지 않은 댓글이 :scanLimit개보다 많은지 (searchRecent 결과가 일부만 포함되었는지 판단)
+    @Query(value = "SELECT COUNT(*) > :scanLimit FROM (SELECT 1 FROM Comments WHERE COALESCE(use_yn, 'Y') <> 'N' " +
+                   "ORDER BY comment_id DESC LIMIT :scanLimit + 1) c",
+           nativeQuery = true)
+    boolean existsBeyondScanLimit(@Param("scanLimit") int scanLimit);
+
+    // ID 목록으로 댓글 조회 (작성자/게시글 함께 로딩)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user JOIN FETCH c.post WHERE c.id IN :ids")
+    List<Comment> findWithUserAndPostByIdIn(@Param("ids") Collection<Integer> ids);
 }
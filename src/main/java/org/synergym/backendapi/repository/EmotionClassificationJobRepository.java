@@ -0,0 +1,58 @@
+package org.synergym.backendapi.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.synergym.backendapi.entity.EmotionClassificationJob;
+
+public interface EmotionClassificationJobRepository extends JpaRepository<EmotionClassificationJob, Integer> {
+
+    /**
+     * 처리 가능한 작업 ID 조회 및 행 잠금
+     * 대기 중이거나 점유가 만료된(처리 중 노드 장애) 작업만 대상이며,
+     * SKIP LOCKED로 다른 노드가 잠근 작업은 건너뛰므로 여러 노드가 동시에 가져가도 중복되지 않음
+     * 점유가 만료된 작업은 최대 시도 횟수 미만일 때만 다시 가져감 (나머지는 failExhaustedLeases에서 FAILED 처리)
+     */
+    @Query(value = "SELECT job_id FROM Emotion_Classification_Jobs " +
+            "WHERE status IN ('PENDING', 'PROCESSING') AND next_attempt_at <= :now " +
+            "AND (status = 'PENDING' OR attempts < :maxAttempts) " +
+            "ORDER BY job_id " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<Integer> lockClaimableJobIds(@Param("now") LocalDateTime now, @Param("maxAttempts") int maxAttempts,
+                                      @Param("limit") int limit);
+
+    // 최대 시도 횟수만큼 점유가 만료된 작업(처리 중 노드가 계속 죽는 작업)을 FAILED로 변경
+    @Modifying
+    @Query(value = "UPDATE Emotion_Classification_Jobs " +
+            "SET status = 'FAILED', last_error = '작업 점유 만료 (최대 시도 횟수 초과)', updated_at = :now " +
+            "WHERE status = 'PROCESSING' AND next_attempt_at <= :now AND attempts >= :maxAttempts",
+            nativeQuery = true)
+    int failExhaustedLeases(@Param("now") LocalDateTime now, @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * 오래된 완료 작업 삭제 (최대 limit개)
+     * 완료 작업의 next_attempt_at은 마지막 점유 만료 시각이므로 완료 시각 기준으로 사용 (인덱스 사용)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM Emotion_Classification_Jobs WHERE job_id IN (" +
+            "SELECT job_id FROM Emotion_Classification_Jobs " +
+            "WHERE status = 'DONE' AND next_attempt_at < :cutoff " +
+            "LIMIT :limit)",
+            nativeQuery = true)
+    int deleteDoneJobsBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    // 작업 점유 (시도 횟수 증가, 점유 만료 시각 설정)
+    @Modifying
+    @Query(value = "UPDATE Emotion_Classification_Jobs " +
+            "SET status = 'PROCESSING', attempts = attempts + 1, next_attempt_at = :leaseUntil, updated_at = :now " +
+            "WHERE job_id IN (:jobIds)",
+            nativeQuery = true)
+    int markProcessing(@Param("jobIds") List<Integer> jobIds, @Param("now") LocalDateTime now,
+                       @Param("leaseUntil") LocalDateTime leaseUntil);
+}
@@ -4,6 +4,8 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -29,4 +31,21 @@ public interface ExerciseLogRepository extends JpaRepository<ExerciseLog, Intege
 
     // 사용자와 날짜로 운동 기록 조회
     List<ExerciseLog> findByUserAndExerciseDate(User user, LocalDate exerciseDate);
+
+    // 사용자별 전체 운동 기록 조회 (감정 기록을 함께 조회하여 행마다 추가 조회 방지)
+    @Query("SELECT e FROM ExerciseLog e LEFT JOIN FETCH e.emotionLog WHERE e.user.id = :userId ORDER BY e.id ASC")
+    List<ExerciseLog> findAllByUserIdWithEmotion(@Param("userId") Integer userId);
+
+    // 사용자별 특정 날짜 운동 기록 조회 (idx_exercise_logs_user_date)
+    @Query("SELECT e FROM ExerciseLog e LEFT JOIN FETCH e.emotionLog WHERE e.user.id = :userId AND e.exerciseDate = :date ORDER BY e.id ASC")
+    List<ExerciseLog> findAllByUserIdAndDateWithEmotion(@Param("userId") Integer userId, @Param("date") LocalDate date);
+
+    // 사용자별 기간 운동 기록 페이지 조회 (최신 날짜순)
+    @Query(value = "SELECT e FROM ExerciseLog e LEFT JOIN FETCH e.emotionLog " +
+            "WHERE e.user.id = :userId AND e.exerciseDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY e.exerciseDate DESC, e.id DESC",
+            countQuery = "SELECT COUNT(e) FROM ExerciseLog e " +
+            "WHERE e.user.id = :userId AND e.exerciseDate BETWEEN :startDate AND :endDate")
+    Page<ExerciseLog> findPageByUserIdAndDateBetween(@Param("userId") Integer userId, @Param("startDate") LocalDate startDate,
+                                                     @Param("endDate") LocalDate endDate, Pageable pageable);
 }
@@ -18,25 +18,27 @@ public interface ExerciseRepository extends JpaRepository<Exercise, Integer> {
     // 운동 이름과 정확히 일치
     List<Exercise> findByName(String name);
     
-    // 좋아요 수 기준 인기 운동 조회
-    @Query("SELECT e FROM Exercise e " +
-           "LEFT JOIN ExerciseLike el ON e.id = el.exercise.id " +
-           "GROUP BY e.id " +
-           "ORDER BY COUNT(el.exercise.id) DESC")
-    List<Exercise> findPopularExercisesByLikes(@Param("limit") int limit);
-    
-    // 루틴 사용 횟수 기준 인기 운동 조회
-    @Query("SELECT e FROM Exercise e " +
-           "LEFT JOIN RoutineExercise re ON e.id = re.exercise.id " +
-           "GROUP BY e.id " +
-           "ORDER BY COUNT(re.exercise.id) DESC")
-    List<Exercise> findPopularExercisesByRoutines(@Param("limit") int limit);
-    
-    // 특정 운동의 좋아요 수 조회
-    @Query("SELECT COUNT(el) FROM ExerciseLike el WHERE el.exercise.id = :exerciseId")
-    Long countLikesByExerciseId(@Param("exerciseId") Integer exerciseId);
-    
-    // 특정 운동의 루틴 사용 횟수 조회
-    @Query("SELECT COUNT(re) FROM RoutineExercise re WHERE re.exercise.id = :exerciseId")
-    Long countRoutinesByExerciseId(@Param("exerciseId") Integer exerciseId);
+    // 운동별 집계 (exercise_id, like_count, routine_count) 공통 FROM 절
+    String STATS_FROM = "FROM Exercises e " +
+            "LEFT JOIN (SELECT exercise_id, COUNT(*) AS cnt FROM Exercise_Likes GROUP BY exercise_id) l " +
+            "ON l.exercise_id = e.exercise_id " +
+            "LEFT JOIN (SELECT exercise_id, COUNT(*) AS cnt FROM Routine_Exercises GROUP BY exercise_id) r " +
+            "ON r.exercise_id = e.exercise_id ";
+    String STATS_SELECT = "SELECT e.exercise_id, COALESCE(l.cnt, 0) AS like_count, COALESCE(r.cnt, 0) AS routine_count ";
+
+    // 좋아요 수 기준 인기 운동 집계 (exercise_id, like_count, routine_count) - 한 번의 쿼리로 상위 limit개
+    @Query(value = STATS_SELECT + STATS_FROM + "ORDER BY like_count DESC, e.exercise_id LIMIT :limit", nativeQuery = true)
+    List<Object[]> findPopularStatsByLikes(@Param("limit") int limit);
+
+    // 루틴 사용 횟수 기준 인기 운동 집계 (exercise_id, like_count, routine_count)
+    @Query(value = STATS_SELECT + STATS_FROM + "ORDER BY routine_count DESC, e.exercise_id LIMIT :limit", nativeQuery = true)
+    List<Object[]> findPopularStatsByRoutines(@Param("limit") int limit);
+
+    // 특정 운동의 집계 (exercise_id, like_count, routine_count)
+    // 전체 테이블을 GROUP BY하지 않도록 해당 운동만 상관 서브쿼리로 COUNT
+    @Query(value = "SELECT e.exercise_id, " +
+            "(SELECT COUNT(*) FROM Exercise_Likes l WHERE l.exercise_id = :exerciseId) AS like_count, " +
+            "(SELECT COUNT(*) FROM Routine_Exercises r WHERE r.exercise_id = :exerciseId) AS routine_count " +
+            "FROM Exercises e WHERE e.exercise_id = :exerciseId", nativeQuery = true)
+    List<Object[]> findStatsByExerciseId(@Param("exerciseId") Integer exerciseId);
 }
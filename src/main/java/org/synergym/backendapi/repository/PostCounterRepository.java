@@ -4,6 +4,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import org.synergym.backendapi.entity.PostCounter;
 
 import java.util.Optional;
@@ -25,4 +26,32 @@ public interface PostCounterRepository extends JpaRepository<PostCounter, Intege
     @Modifying
     @Query("UPDATE PostCounter pc SET pc.likeCount = CASE WHEN pc.likeCount > 0 THEN pc.likeCount - 1 ELSE 0 END WHERE pc.postId = :postId")
     void decrementLikeCount(@Param("postId") Integer postId);
+
+    // PostCounter가 없는 게시글에 행 생성 (기존 좋아요/댓글 수로 초기화)
+    // 인기순 피드가 PostCounter와 inner join하므로 모든 게시글에 행이 있어야 함
+    @Modifying
+    @Query(value = "INSERT INTO Post_Counters (post_id, like_count, comment_count, view_count) " +
+            "SELECT p.post_id, " +
+            "(SELECT COUNT(*) FROM Post_Likes pl WHERE pl.post_id = p.post_id), " +
+            "(SELECT COUNT(*) FROM Comments cm WHERE cm.post_id = p.post_id), 0 " +
+            "FROM Posts p " +
+            "WHERE NOT EXISTS (SELECT 1 FROM Post_Counters pc WHERE pc.post_id = p.post_id) " +
+            "ON CONFLICT (post_id) DO NOTHING",
+            nativeQuery = true)
+    int insertMissingCounters();
+
+    // 누적된 delta를 한 번의 UPDATE로 반영 (write-behind flush용, 0 미만으로 내려가지 않음)
+    // 반환값: 갱신된 행 수 (0이면 아직 PostCounter가 없는 게시글)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE Post_Counters SET " +
+            "like_count = GREATEST(like_count + :likeDelta, 0), " +
+            "comment_count = GREATEST(comment_count + :commentDelta, 0), " +
+            "view_count = GREATEST(view_count + :viewDelta, 0) " +
+            "WHERE post_id = :postId",
+            nativeQuery = true)
+    int applyDeltas(@Param("postId") Integer postId,
+                    @Param("likeDelta") long likeDelta,
+                    @Param("commentDelta") long commentDelta,
+                    @Param("viewDelta") long viewDelta);
 } 
\ No newline at end of file
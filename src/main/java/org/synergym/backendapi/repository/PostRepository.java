@@ -3,50 +3,197 @@ package org.synergym.backendapi.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.synergym.backendapi.dto.PostDTO;
 import org.synergym.backendapi.entity.Post;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Integer> {
+
+    // 목록 조회용 PostDTO 프로젝션 (작성자/카테고리/집계를 한 번의 조인으로 조회)
+    // PostCounter가 없는 게시글은 댓글 수를 서브쿼리로 계산 (Post.getCommentCount()와 동일)
+    String FEED_SELECT = "SELECT new org.synergym.backendapi.dto.PostDTO(" +
+            "p.id, p.createdAt, p.updatedAt, p.useYn, " +
+            "u.id, u.name, c.id, c.name, " +
+            "p.title, p.content, p.imageUrl, " +
+            "COALESCE(pc.likeCount, 0), " +
+            "COALESCE(pc.commentCount, (SELECT CAST(COUNT(cm) AS Integer) FROM Comment cm WHERE cm.post = p)), " +
+            "COALESCE(pc.viewCount, 0)) ";
+    String FEED_FROM = "FROM Post p JOIN p.user u JOIN p.category c LEFT JOIN p.postCounter pc ";
+    // 인기순 커서 페이지네이션용 (PostCounter는 게시글과 함께 생성되므로 inner join, (like_count, post_id) 인덱스로 seek)
+    String FEED_FROM_COUNTER = "FROM PostCounter pc JOIN pc.post p JOIN p.user u JOIN p.category c ";
     
-    // 제목 또는 내용으로 검색 (부분 일치)
-    List<Post> findByTitleContainingOrContentContaining(String title, String content);
-    
-    // 사용자별 게시글 조회 (페이징)
-    Page<Post> findByUserId(Integer userId, Pageable pageable);
-    
-    // 카테고리별 게시글 조회 (페이징, 최신순)
-    Page<Post> findByCategoryIdOrderByCreatedAtDesc(Integer categoryId, Pageable pageable);
-    
-    // 전체 게시글 조회 (페이징, 최신순)
-    Page<Post> findAllByOrderByCreatedAtDesc(Pageable pageable);
-    
-    // 카테고리별 게시글 조회 (페이징, 인기순) - PostCounter와 조인하여 안정적으로 처리
-    @Query("SELECT p FROM Post p LEFT JOIN p.postCounter pc WHERE p.category.id = :categoryId ORDER BY COALESCE(pc.likeCount, 0) DESC")
-    Page<Post> findByCategoryIdOrderByLikeCountDesc(@Param("categoryId") Integer categoryId, Pageable pageable);
-    
-    // 전체 게시글 조회 (페이징, 인기순) - PostCounter와 조인하여 안정적으로 처리
-    @Query("SELECT p FROM Post p LEFT JOIN p.postCounter pc ORDER BY COALESCE(pc.likeCount, 0) DESC")
-    Page<Post> findAllByOrderByLikeCountDesc(Pageable pageable);
-    
-    // 조회수 순으로 인기 게시글 조회 (상위 10개)
+    // 조회수 순으로 인기 게시글 조회 (상위 N개, Pageable로 제한)
     @Query("SELECT p.title, COALESCE(pc.viewCount, 0), c.name, p.id " +
            "FROM Post p LEFT JOIN p.postCounter pc LEFT JOIN p.category c " +
            "ORDER BY COALESCE(pc.viewCount, 0) DESC")
-    List<Object[]> findPopularPostsByViews();
+    List<Object[]> findPopularPostsByViews(Pageable pageable);
     
-    // 댓글수 순으로 인기 게시글 조회 (상위 10개)
+    // 댓글수 순으로 인기 게시글 조회 (상위 N개, Pageable로 제한)
     @Query("SELECT p.title, COALESCE(pc.commentCount, 0), c.name, p.id " +
            "FROM Post p LEFT JOIN p.postCounter pc LEFT JOIN p.category c " +
            "ORDER BY COALESCE(pc.commentCount, 0) DESC")
-    List<Object[]> findPopularPostsByComments();
+    List<Object[]> findPopularPostsByComments(Pageable pageable);
     
-    // 좋아요 순으로 인기 게시글 조회 (상위 10개)
+    // 좋아요 순으로 인기 게시글 조회 (상위 N개, Pageable로 제한)
     @Query("SELECT p.title, COALESCE(pc.likeCount, 0), c.name, p.id " +
            "FROM Post p LEFT JOIN p.postCounter pc LEFT JOIN p.category c " +
            "ORDER BY COALESCE(pc.likeCount, 0) DESC")
-    List<Object[]> findPopularPostsByLikes();
+    List<Object[]> findPopularPostsByLikes(Pageable pageable);
+
+    // 전체 게시글 조회 (DTO 프로젝션)
+    @Query(FEED_SELECT + FEED_FROM)
+    List<PostDTO> findAllFeed();
+
+    // ID로 게시글 조회 (DTO 프로젝션)
+    @Query(FEED_SELECT + FEED_FROM + "WHERE p.id = :id")
+    Optional<PostDTO> findFeedById(@Param("id") Integer id);
+
+    // 전체 게시글 조회 (DTO 프로젝션, 페이징, 최신순)
+    @Query(value = FEED_SELECT + FEED_FROM + "ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p")
+    Page<PostDTO> findFeedOrderByCreatedAtDesc(Pageable pageable);
+
+    // 전체 게시글 조회 (DTO 프로젝션, 페이징, 인기순)
+    @Query(value = FEED_SELECT + FEED_FROM + "ORDER BY COALESCE(pc.likeCount, 0) DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p")
+    Page<PostDTO> findFeedOrderByLikeCountDesc(Pageable pageable);
+
+    // 사용자별 게시글 조회 (DTO 프로젝션, 페이징)
+    @Query(value = FEED_SELECT + FEED_FROM + "WHERE u.id = :userId",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.user.id = :userId")
+    Page<PostDTO> findFeedByUserId(@Param("userId") Integer userId, Pageable pageable);
+
+    // 카테고리별 게시글 조회 (DTO 프로젝션, 페이징, 최신순)
+    @Query(value = FEED_SELECT + FEED_FROM + "WHERE c.id = :categoryId ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.category.id = :categoryId")
+    Page<PostDTO> findFeedByCategoryIdOrderByCreatedAtDesc(@Param("categoryId") Integer categoryId, Pageable pageable);
+
+    // 카테고리별 게시글 조회 (DTO 프로젝션, 페이징, 인기순)
+    @Query(value = FEED_SELECT + FEED_FROM + "WHERE c.id = :categoryId ORDER BY COALESCE(pc.likeCount, 0) DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.category.id = :categoryId")
+    Page<PostDTO> findFeedByCategoryIdOrderByLikeCountDesc(@Param("categoryId") Integer categoryId, Pageable pageable);
+
+    // 제목/내용 검색 (trigram 관련도순) - (post_id, score), 삭제된 게시글 제외
+    // 제목 일치에 가중치를 두고 word_similarity로 세부 정렬
+    @Query(value = "SELECT p.post_id, " +
+                   "(CASE WHEN p.title ILIKE :pattern THEN 1.0 ELSE 0.0 END) " +
+                   "+ word_similarity(:keyword, p.title) + 0.5 * word_similarity(:keyword, p.content) AS score " +
+                   "FROM Posts p " +
+                   "WHERE COALESCE(p.use_yn, 'Y') <> 'N' AND (p.title ILIKE :pattern OR p.content ILIKE :pattern) " +
+                   "ORDER BY score DESC, p.post_id DESC",
+           countQuery = "SELECT COUNT(*) FROM Posts p " +
+                        "WHERE COALESCE(p.use_yn, 'Y') <> 'N' AND (p.title ILIKE :pattern OR p.content ILIKE :pattern)",
+           nativeQuery = true)
+    Page<Object[]> searchRanked(@Param("keyword") String keyword, @Param("pattern") String pattern, Pageable pageable);
+
+    // 제목/내용 검색 (pg_trgm 미설치 환경용) - 제목 일치 우선, 최신순
+    @Query(value = "SELECT p.post_id, (CASE WHEN p.title ILIKE :pattern THEN 1.0 ELSE 0.0 END) AS score " +
+                   "FROM Posts p " +
+                   "WHERE COALESCE(p.use_yn, 'Y') <> 'N' AND (p.title ILIKE :pattern OR p.content ILIKE :pattern) " +
+                   "ORDER BY score DESC, p.created_at DESC, p.post_id DESC",
+           countQuery = "SELECT COUNT(*) FROM Posts p " +
+                        "WHERE COALESCE(p.use_yn, 'Y') <> 'N' AND (p.title ILIKE :pattern OR p.content ILIKE :pattern)",
+           nativeQuery = true)
+    Page<Object[]> searchPlain(@Param("pattern") String pattern, Pageable pageable);
+
+    // 2글자 검색어용 (bigram GIN 인덱스로 후보 조회 후 ILIKE 재확인) - 제목 일치 우선, 최신순
+    @Query(value = "SELECT p.post_id, (CASE WHEN p.title ILIKE :pattern THEN 1.0 ELSE 0.0 END) AS score " +
+                   "FROM Posts p " +
+                   "WHERE COALESCE(p.use_yn, 'Y') <> 'N' " +
+                   "AND (search_bigrams(p.title) @> ARRAY[lower(CAST(:keyword AS text))] " +
+                   "OR search_bigrams(p.content) @> ARRAY[lower(CAST(:keyword AS text))]) " +
+                   "AND (p.title ILIKE :pattern OR p.content ILIKE :pattern) " +
+                   "ORDER BY score DESC, p.created_at DESC, p.post_id DESC",
+           countQuery = "SELECT COUNT(*) FROM Posts p " +
+                        "WHERE COALESCE(p.use_yn, 'Y') <> 'N' " +
+                        "AND (search_bigrams(p.title) @> ARRAY[lower(CAST(:keyword AS text))] " +
+                        "OR search_bigrams(p.content) @> ARRAY[lower(CAST(:keyword AS text))]) " +
+                        "AND (p.title ILIKE :pattern OR p.content ILIKE :pattern)",
+           nativeQuery = true)
+    Page<Object[]> searchByBigram(@Param("keyword") String keyword, @Param("pattern") String pattern, Pageable pageable);
+
+    // 인덱스로 처리할 수 없는 짧은 검색어(1글자, bigram 인덱스 준비 전 2글자)용 - 최근 :scanLimit개 게시글 안에서만 검색, 제목 일치 우선, 최신순
+    @Query(value = "SELECT p.post_id, (CASE WHEN p.title ILIKE :pattern THEN 1.0 ELSE 0.0 END) AS score " +
+                   "FROM (SELECT post_id, title, content FROM Posts WHERE COALESCE(use_yn, 'Y') <> 'N' " +
+                   "ORDER BY post_id DESC LIMIT :scanLimit) p " +
+                   "WHERE p.title ILIKE :pattern OR p.content ILIKE :pattern " +
+                   "ORDER BY score DESC, p.post_id DESC",
+           countQuery = "SELECT COUNT(*) FROM (SELECT title, content FROM Posts WHERE COALESCE(use_yn, 'Y') <> 'N' " +
+                        "ORDER BY post_id DESC LIMIT :scanLimit) p " +
+                        "WHERE p.title ILIKE :pattern OR p.content ILIKE :pattern",
+           nativeQuery = true)
+    Page<Object[]> searchRecent(@Param("pattern") String pattern, @Param("scanLimit") int scanLimit, Pageable pageable);
+
+    // 삭제되지 않은 게시글이 :scanLimit개보다 많은지 (searchRecent 결과가 일부만 포함되었는지 판단)
+    @Query(value = "SELECT COUNT(*) > :scanLimit FROM (SELECT 1 FROM Posts WHERE COALESCE(use_yn, 'Y') <> 'N' " +
+                   "ORDER BY post_id DESC LIMIT :scanLimit + 1) p",
+           nativeQuery = true)
+    boolean existsBeyondScanLimit(@Param("scanLimit") int scanLimit);
+
+    // ID 목록으로 게시글 조회 (DTO 프로젝션, 랭킹 조회용 - 순서는 호출 측에서 맞춤)
+    @Query(FEED_SELECT + FEED_FROM + "WHERE p.id IN :ids")
+    List<PostDTO> findFeedByIds(@Param("ids") Collection<Integer> ids);
+
+    // 랭킹 재구성용 스냅샷 (post_id, category_id, created_at, like_count, comment_count, view_count)
+    @Query(value = "SELECT p.post_id, p.category_id, p.created_at, " +
+                   "COALESCE(pc.like_count, 0), COALESCE(pc.comment_count, 0), COALESCE(pc.view_count, 0) " +
+                   "FROM Posts p LEFT JOIN Post_Counters pc ON pc.post_id = p.post_id", nativeQuery = true)
+    List<Object[]> findRankingSnapshot();
+
+    // created_at이 없는 게시글(감사 필드 도입 이전 데이터)에 값 채움 (최신순 커서 정렬 키)
+    @Modifying
+    @Query(value = "UPDATE Posts SET created_at = COALESCE(updated_at, CURRENT_TIMESTAMP) WHERE created_at IS NULL",
+           nativeQuery = true)
+    int backfillMissingCreatedAt();
+
+    // ===== 커서(keyset) 페이지네이션: OFFSET/COUNT 없이 마지막 행 이후부터 조회 =====
+
+    // 전체 게시글 첫 페이지 (최신순)
+    @Query(FEED_SELECT + FEED_FROM + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostDTO> findFeedFirstByCreatedAt(Pageable pageable);
+
+    // 전체 게시글 다음 페이지 (최신순, (createdAt, id) 이후)
+    @Query(FEED_SELECT + FEED_FROM +
+           "WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostDTO> findFeedAfterByCreatedAt(@Param("createdAt") LocalDateTime createdAt, @Param("id") Integer id, Pageable pageable);
+
+    // 전체 게시글 첫 페이지 (인기순)
+    @Query(FEED_SELECT + FEED_FROM_COUNTER + "ORDER BY pc.likeCount DESC, pc.postId DESC")
+    List<PostDTO> findFeedFirstByLikeCount(Pageable pageable);
+
+    // 전체 게시글 다음 페이지 (인기순, (likeCount, postId) 행 값 비교로 이후 행부터)
+    @Query(FEED_SELECT + FEED_FROM_COUNTER +
+           "WHERE (pc.likeCount, pc.postId) < (:likeCount, :id) " +
+           "ORDER BY pc.likeCount DESC, pc.postId DESC")
+    List<PostDTO> findFeedAfterByLikeCount(@Param("likeCount") Integer likeCount, @Param("id") Integer id, Pageable pageable);
+
+    // 카테고리별 첫 페이지 (최신순)
+    @Query(FEED_SELECT + FEED_FROM + "WHERE c.id = :categoryId ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostDTO> findCategoryFeedFirstByCreatedAt(@Param("categoryId") Integer categoryId, Pageable pageable);
+
+    // 카테고리별 다음 페이지 (최신순)
+    @Query(FEED_SELECT + FEED_FROM +
+           "WHERE c.id = :categoryId AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostDTO> findCategoryFeedAfterByCreatedAt(@Param("categoryId") Integer categoryId, @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") Integer id, Pageable pageable);
+
+    // 카테고리별 첫 페이지 (인기순)
+    @Query(FEED_SELECT + FEED_FROM_COUNTER + "WHERE c.id = :categoryId ORDER BY pc.likeCount DESC, pc.postId DESC")
+    List<PostDTO> findCategoryFeedFirstByLikeCount(@Param("categoryId") Integer categoryId, Pageable pageable);
 
+    // 카테고리별 다음 페이지 (인기순)
+    @Query(FEED_SELECT + FEED_FROM_COUNTER +
+           "WHERE c.id = :categoryId AND (pc.likeCount, pc.postId) < (:likeCount, :id) " +
+           "ORDER BY pc.likeCount DESC, pc.postId DESC")
+    List<PostDTO> findCategoryFeedAfterByLikeCount(@Param("categoryId") Integer categoryId, @Param("likeCount") Integer likeCount,
+                                                   @Param("id") Integer id, Pageable pageable);
 }
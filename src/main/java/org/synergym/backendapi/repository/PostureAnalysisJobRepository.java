@@ -0,0 +1,77 @@
+package org.synergym.backendapi.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.synergym.backendapi.entity.PostureAnalysisJob;
+
+public interface PostureAnalysisJobRepository extends JpaRepository<PostureAnalysisJob, String> {
+
+    Optional<PostureAnalysisJob> findByUserIdAndIdempotencyKey(Integer userId, String idempotencyKey);
+
+    // 처리 대기 중인 작업 수 (대기열 깊이)
+    @Query(value = "SELECT COUNT(*) FROM Posture_Analysis_Jobs WHERE status IN ('QUEUED', 'RETRYING')",
+            nativeQuery = true)
+    long countWaitingJobs();
+
+    /**
+     * 처리 가능한 작업 ID 조회 및 행 잠금
+     * 대기/재시도 대기 중이거나 점유가 만료된(처리 중 노드 종료) 작업만 대상이며,
+     * SKIP LOCKED로 다른 노드가 잠근 작업은 건너뛰므로 여러 노드가 동시에 가져가도 중복되지 않음
+     * 점유가 만료된 작업은 최대 시도 횟수 미만일 때만 다시 가져감 (나머지는 lockExhaustedLeaseJobIds + markFailed로 FAILED 처리)
+     */
+    @Query(value = "SELECT job_id FROM Posture_Analysis_Jobs " +
+            "WHERE status IN ('QUEUED', 'RETRYING', 'RUNNING') AND next_attempt_at <= :now " +
+            "AND (status <> 'RUNNING' OR attempts < :maxAttempts) " +
+            "ORDER BY next_attempt_at " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<String> lockClaimableJobIds(@Param("now") LocalDateTime now, @Param("maxAttempts") int maxAttempts,
+                                     @Param("limit") int limit);
+
+    // 작업 점유 (시도 횟수 증가, 점유 만료 시각 설정)
+    @Modifying
+    @Query(value = "UPDATE Posture_Analysis_Jobs " +
+            "SET status = 'RUNNING', attempts = attempts + 1, next_attempt_at = :leaseUntil, updated_at = :now " +
+            "WHERE job_id IN (:jobIds)",
+            nativeQuery = true)
+    int markRunning(@Param("jobIds") List<String> jobIds, @Param("now") LocalDateTime now,
+                    @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 최대 시도 횟수만큼 점유가 만료된 작업(처리 중 노드 종료 반복) ID 조회 및 행 잠금
+    @Query(value = "SELECT job_id FROM Posture_Analysis_Jobs " +
+            "WHERE status = 'RUNNING' AND next_attempt_at <= :now AND attempts >= :maxAttempts " +
+            "FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<String> lockExhaustedLeaseJobIds(@Param("now") LocalDateTime now, @Param("maxAttempts") int maxAttempts);
+
+    @Modifying
+    @Query(value = "UPDATE Posture_Analysis_Jobs " +
+            "SET status = 'FAILED', last_error = :error, updated_at = :now " +
+            "WHERE job_id IN (:jobIds)",
+            nativeQuery = true)
+    int markFailed(@Param("jobIds") List<String> jobIds, @Param("now") LocalDateTime now, @Param("error") String error);
+
+    // 처리 중이던 작업을 바로 재시도 대기로 되돌림 (정상 종료로 중단된 시도는 횟수에서 제외)
+    @Modifying
+    @Query(value = "UPDATE Posture_Analysis_Jobs " +
+            "SET status = 'RETRYING', attempts = GREATEST(attempts - 1, 0), next_attempt_at = :now, updated_at = :now " +
+            "WHERE job_id IN (:jobIds) AND status = 'RUNNING'",
+            nativeQuery = true)
+    int requeue(@Param("jobIds") List<String> jobIds, @Param("now") LocalDateTime now);
+
+    // 보관 기간이 지난 완료/실패 작업 삭제 (최대 limit개)
+    @Modifying
+    @Query(value = "DELETE FROM Posture_Analysis_Jobs WHERE job_id IN (" +
+            "SELECT job_id FROM Posture_Analysis_Jobs " +
+            "WHERE status IN ('SUCCEEDED', 'FAILED') AND updated_at < :cutoff " +
+            "LIMIT :limit)",
+            nativeQuery = true)
+    int deleteFinishedJobsBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
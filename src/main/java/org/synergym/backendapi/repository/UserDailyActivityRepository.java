@@ -0,0 +1,52 @@
+package org.synergym.backendapi.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.synergym.backendapi.entity.UserDailyActivity;
+import org.synergym.backendapi.entity.UserDailyActivityId;
+
+public interface UserDailyActivityRepository extends JpaRepository<UserDailyActivity, UserDailyActivityId> {
+
+    // 일별 기록 수에 delta 반영 (행이 없으면 생성, 음수로 내려가지 않음)
+    @Modifying
+    @Query(value = "INSERT INTO User_Daily_Activity (user_id, activity_date, log_count) " +
+            "VALUES (:userId, :date, GREATEST(:delta, 0)) " +
+            "ON CONFLICT (user_id, activity_date) " +
+            "DO UPDATE SET log_count = GREATEST(User_Daily_Activity.log_count + :delta, 0)",
+            nativeQuery = true)
+    int addLogCount(@Param("userId") Integer userId, @Param("date") LocalDate date, @Param("delta") int delta);
+
+    // 기간 내 운동 기록 수 합계 (기본 키 범위 조회)
+    @Query("SELECT COALESCE(SUM(a.logCount), 0) FROM UserDailyActivity a " +
+            "WHERE a.id.userId = :userId AND a.id.activityDate BETWEEN :startDate AND :endDate")
+    Long sumLogCount(@Param("userId") Integer userId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 운동한 날짜 목록 (날짜 오름차순)
+    @Query("SELECT a FROM UserDailyActivity a WHERE a.id.userId = :userId AND a.logCount > 0 ORDER BY a.id.activityDate ASC")
+    List<UserDailyActivity> findActiveDays(@Param("userId") Integer userId);
+
+    // :fromDate 이후 운동 기록으로 롤업 재계산 (기존 행도 실제 기록 수로 덮어씀)
+    @Modifying
+    @Query(value = "INSERT INTO User_Daily_Activity (user_id, activity_date, log_count) " +
+            "SELECT e.user_id, e.exercise_date, COUNT(*) FROM Exercise_Logs e " +
+            "WHERE e.exercise_date >= :fromDate " +
+            "GROUP BY e.user_id, e.exercise_date " +
+            "ON CONFLICT (user_id, activity_date) DO UPDATE SET log_count = EXCLUDED.log_count " +
+            "WHERE User_Daily_Activity.log_count <> EXCLUDED.log_count",
+            nativeQuery = true)
+    int reconcileFromExerciseLogs(@Param("fromDate") LocalDate fromDate);
+
+    // :fromDate 이후 운동 기록이 모두 삭제된 날짜의 기록 수를 0으로
+    @Modifying
+    @Query(value = "UPDATE User_Daily_Activity a SET log_count = 0 " +
+            "WHERE a.activity_date >= :fromDate AND a.log_count > 0 " +
+            "AND NOT EXISTS (SELECT 1 FROM Exercise_Logs e " +
+            "WHERE e.user_id = a.user_id AND e.exercise_date = a.activity_date)",
+            nativeQuery = true)
+    int clearDaysWithoutLogs(@Param("fromDate") LocalDate fromDate);
+}
@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -53,4 +54,26 @@ public interface UserRepository extends JpaRepository<User, Integer> {
      * @return 사용자 수
      */
     long countByUpdatedAtBetween(LocalDateTime start, LocalDateTime end);
-}
\ No newline at end of file
+
+    /**
+     * 기간 내 일별 가입자 수 집계 (idx_users_created_at 범위 조회)
+     * @param start 시작 시각 (포함)
+     * @param end 종료 시각 (미포함)
+     * @return [가입일(date), 가입자 수]
+     */
+    @Query(value = "SELECT CAST(u.created_at AS date) AS signup_date, COUNT(*) AS signup_count " +
+            "FROM Users u " +
+            "WHERE u.created_at >= :start AND u.created_at < :end " +
+            "GROUP BY CAST(u.created_at AS date)",
+            nativeQuery = true)
+    List<Object[]> countSignupsByDate(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    /**
+     * 관리자 회원 목록 keyset 페이지 조회 (엔티티 대신 필요한 컬럼만 조회, 프로필 이미지 제외)
+     * @param afterId 이전 페이지의 마지막 회원 ID (첫 페이지는 0)
+     * @return [id, name, email, updatedAt, createdAt, goal, birthday, gender]
+     */
+    @Query("SELECT u.id, u.name, u.email, u.updatedAt, u.createdAt, u.goal, u.birthday, u.gender " +
+            "FROM User u WHERE u.id > :afterId ORDER BY u.id ASC")
+    List<Object[]> findMemberRowsAfter(@Param("afterId") int afterId, Pageable pageable);
+}
@@ -0,0 +1,20 @@
+package org.synergym.backendapi.service;
+
+import java.time.LocalDate;
+
+import org.synergym.backendapi.dto.CalendarSummaryDTO;
+
+public interface ActivityCalendarService {
+
+    // 운동 기록 생성 반영 (호출한 트랜잭션 안에서 롤업 갱신)
+    void recordLogAdded(Integer userId, LocalDate exerciseDate);
+
+    // 운동 기록 삭제 반영 (호출한 트랜잭션 안에서 롤업 갱신)
+    void recordLogRemoved(Integer userId, LocalDate exerciseDate);
+
+    // 기간 내 운동 기록 수
+    int countLogs(Integer userId, LocalDate startDate, LocalDate endDate);
+
+    // 캘린더 요약 조회 (주간/월간 횟수, 연속 운동일, 연간 히트맵)
+    CalendarSummaryDTO getCalendarSummary(Integer userId, int year);
+}
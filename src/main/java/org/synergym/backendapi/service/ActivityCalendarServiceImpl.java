@@ -0,0 +1,139 @@
+package org.synergym.backendapi.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.synergym.backendapi.dto.CalendarSummaryDTO;
+import org.synergym.backendapi.entity.UserDailyActivity;
+import org.synergym.backendapi.repository.UserDailyActivityRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 일별 운동 기록 수 롤업(User_Daily_Activity) 기반 캘린더 서비스
+ * 주간/월간 횟수는 최대 31행 범위 합계로, 캘린더 요약은 사용자의 운동일 목록 한 번 조회로 계산
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActivityCalendarServiceImpl implements ActivityCalendarService {
+
+    // 주기 재계산 대상 기간 (오늘 포함 최근 N일)
+    private static final int RECONCILE_DAYS = 7;
+    // 시작 시 전체 재계산 기준일 (전체 기간)
+    private static final LocalDate FULL_RECONCILE_FROM = LocalDate.of(1900, 1, 1);
+
+    private final UserDailyActivityRepository userDailyActivityRepository;
+
+    // 시작 시 전체 기간을 실제 운동 기록 기준으로 재계산 (롤업 도입 전 기록, 이전 버전 노드가 남긴 차이 보정)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillOnStartup() {
+        reconcileSince(FULL_RECONCILE_FROM);
+    }
+
+    /**
+     * 최근 기간 롤업을 운동 기록 기준으로 주기 재계산
+     * 롤링 배포 중 이전 버전 노드가 롤업 갱신 없이 남긴 기록, 재계산과 동시에 커밋된 증감을 다음 주기에 보정
+     */
+    @Scheduled(fixedDelayString = "${activity-calendar.reconcile-interval-ms:600000}",
+               initialDelayString = "${activity-calendar.reconcile-interval-ms:600000}")
+    @Transactional
+    public void reconcileRecent() {
+        reconcileSince(LocalDate.now().minusDays(RECONCILE_DAYS - 1));
+    }
+
+    private void reconcileSince(LocalDate fromDate) {
+        int updated = userDailyActivityRepository.reconcileFromExerciseLogs(fromDate);
+        int cleared = userDailyActivityRepository.clearDaysWithoutLogs(fromDate);
+        if (updated > 0 || cleared > 0) {
+            log.info("Reconciled user daily activity rollup since {} - updated: {}, cleared: {}", fromDate, updated, cleared);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void recordLogAdded(Integer userId, LocalDate exerciseDate) {
+        userDailyActivityRepository.addLogCount(userId, exerciseDate, 1);
+    }
+
+    @Override
+    @Transactional
+    public void recordLogRemoved(Integer userId, LocalDate exerciseDate) {
+        userDailyActivityRepository.addLogCount(userId, exerciseDate, -1);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int countLogs(Integer userId, LocalDate startDate, LocalDate endDate) {
+        Long count = userDailyActivityRepository.sumLogCount(userId, startDate, endDate);
+        return count != null ? count.intValue() : 0;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CalendarSummaryDTO getCalendarSummary(Integer userId, int year) {
+        LocalDate today = LocalDate.now();
+        LocalDate weekStart = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate weekEnd = today.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+        LocalDate monthStart = today.with(TemporalAdjusters.firstDayOfMonth());
+        LocalDate monthEnd = today.with(TemporalAdjusters.lastDayOfMonth());
+
+        int[] dailyCounts = new int[LocalDate.of(year, 1, 1).lengthOfYear()];
+        int weeklyCount = 0;
+        int monthlyCount = 0;
+        int activeDays = 0;
+        int longestStreak = 0;
+        int streak = 0;
+        LocalDate previous = null;
+
+        // 운동일 목록(오름차순)을 한 번 순회하며 모든 값 계산
+        for (UserDailyActivity activity : userDailyActivityRepository.findActiveDays(userId)) {
+            LocalDate date = activity.getId().getActivityDate();
+            int count = activity.getLogCount();
+
+            streak = (previous != null && previous.plusDays(1).equals(date)) ? streak + 1 : 1;
+            longestStreak = Math.max(longestStreak, streak);
+            previous = date;
+
+            if (date.getYear() == year) {
+                dailyCounts[date.getDayOfYear() - 1] = count;
+                activeDays++;
+            }
+            if (!date.isBefore(weekStart) && !date.isAfter(weekEnd)) {
+                weeklyCount += count;
+            }
+            if (!date.isBefore(monthStart) && !date.isAfter(monthEnd)) {
+                monthlyCount += count;
+            }
+        }
+
+        // 마지막 운동일이 오늘 또는 어제면 연속 기록 유지 중
+        int currentStreak = (previous != null && !previous.isBefore(today.minusDays(1))) ? streak : 0;
+
+        List<Integer> heatmap = new ArrayList<>(dailyCounts.length);
+        for (int count : dailyCounts) {
+            heatmap.add(count);
+        }
+
+        return CalendarSummaryDTO.builder()
+                .year(year)
+                .weeklyExerciseCount(weeklyCount)
+                .monthlyExerciseCount(monthlyCount)
+                .currentStreak(currentStreak)
+                .longestStreak(longestStreak)
+                .lastExerciseDate(previous)
+                .activeDays(activeDays)
+                .dailyCounts(heatmap)
+                .build();
+    }
+}
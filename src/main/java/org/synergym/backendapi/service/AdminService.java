@@ -1,15 +1,25 @@
 package org.synergym.backendapi.service;
 
 import org.synergym.backendapi.dto.AdminDTO;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import org.synergym.backendapi.dto.UserSignupStatsResponse;
 
 public interface AdminService {
     /**
      * 관리자 대시보드에 필요한 전체 통계 데이터 조회
-     * @return 대시보드 응답 객체
+     * 미리 계산된 스냅샷을 반환하며, 스냅샷이 없거나 forceRefresh면 즉시 재계산
+     * @param forceRefresh true면 스냅샷을 다시 계산
+     * @return 대시보드 응답 객체 (snapshotAt: 집계 시각)
      */
-    AdminDTO.DashboardResponse getDashboardData();
+    AdminDTO.DashboardResponse getDashboardData(boolean forceRefresh);
+
+    /**
+     * 대시보드 스냅샷 재계산
+     * @return 새로 계산된 대시보드 응답 객체
+     */
+    AdminDTO.DashboardResponse refreshDashboardSnapshot();
 
     /**
      * 모든 회원에 대한 상세 정보를 조회
@@ -17,6 +27,21 @@ public interface AdminService {
      */
     List<AdminDTO.MemberResponse> getAllMembers();
 
+    /**
+     * 회원 목록 keyset 페이지 조회 (회원 ID 오름차순)
+     * @param afterId 이전 페이지의 마지막 회원 ID (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 회원 페이지 응답 객체
+     */
+    AdminDTO.MemberPageResponse getMembersPage(Integer afterId, int size);
+
+    /**
+     * 전체 회원을 JDBC 커서로 읽으며 바로 출력 스트림에 기록 (메모리 사용량이 회원 수와 무관)
+     * @param format csv 또는 json
+     * @param out 응답 출력 스트림
+     */
+    void exportMembers(String format, OutputStream out) throws IOException;
+
     /**
      * 분석 횟수 분포에 대한 통계 데이터 조회
      * 성별/연령대/분석횟수별 유저 수 통계 등 시각화용 데이터 제공
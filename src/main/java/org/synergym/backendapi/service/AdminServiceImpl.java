@@ -1,22 +1,47 @@
 package org.synergym.backendapi.service;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.synergym.backendapi.dto.AdminDTO;
-import org.synergym.backendapi.dto.ExerciseDTO;
 import org.synergym.backendapi.entity.User;
+import org.synergym.backendapi.event.DashboardDataChangedEvent;
 import org.synergym.backendapi.repository.AnalysisHistoryRepository;
 import org.synergym.backendapi.repository.CategoryRepository;
 import org.synergym.backendapi.repository.PostRepository;
 import org.synergym.backendapi.repository.UserRepository;
 import org.synergym.backendapi.dto.UserSignupStatsResponse;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.time.temporal.WeekFields;
 import java.util.Locale;
@@ -31,10 +56,164 @@ public class AdminServiceImpl implements AdminService {
     private final PostRepository postRepository;
     private final AnalysisHistoryRepository analysisHistoryRepository;
     private final ExerciseService exerciseService;
+    private final ParallelQueryExecutor parallelQueryExecutor;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 대시보드 인기 게시글 표시 개수
+    private static final int POPULAR_POST_LIMIT = 10;
+
+    // 회원 목록 페이지 최대 크기 및 내보내기 설정
+    private static final int MAX_MEMBER_PAGE_SIZE = 100;
+    private static final int MEMBER_EXPORT_FETCH_SIZE = 500;
+    static final String EXPORT_FORMAT_CSV = "csv";
+    static final String EXPORT_FORMAT_JSON = "json";
+    private static final String MEMBER_EXPORT_SQL =
+            "SELECT user_id, name, email, updated_at, created_at, goal, birthday, gender FROM Users ORDER BY user_id";
+
+    // 구간 조회 실패 시 대체 값 (이전 스냅샷이 없을 때)
+    private static final AdminDTO.DashboardResponse.StatsDto EMPTY_STATS = new AdminDTO.DashboardResponse.StatsDto(
+            0, 0, 0, new AdminDTO.DashboardResponse.WeeklyActiveUsersDto(0, 0.0));
+    private static final AdminDTO.DashboardResponse.GenderAnalysisDto EMPTY_GENDER_ANALYSIS =
+            new AdminDTO.DashboardResponse.GenderAnalysisDto(0.0, 0.0, 100.0, 0, 0);
+
+    // 대시보드 스냅샷 (주기적으로, 그리고 관련 데이터 변경 이벤트 후 재계산)
+    private volatile AdminDTO.DashboardResponse dashboardSnapshot;
+    // 마지막 계산 이후 관련 데이터가 변경되었는지 여부
+    private final AtomicBoolean dashboardStale = new AtomicBoolean(false);
+    // 스냅샷 계산/조회 시각 (마지막 계산 이후 조회된 적이 없으면 재계산하지 않음)
+    private volatile long dashboardRefreshedAt;
+    private volatile long dashboardReadAt;
+
+    // 지난 연도 가입 통계 캐시 (key: 연도)
+    private final Map<Integer, UserSignupStatsResponse> signupStatsCache = new ConcurrentHashMap<>();
 
     @Override
-    public AdminDTO.DashboardResponse getDashboardData() {
-        // --- 1. 기본 통계 (Stats) 계산 ---
+    public AdminDTO.DashboardResponse getDashboardData(boolean forceRefresh) {
+        long requestedAt = System.currentTimeMillis();
+        dashboardReadAt = requestedAt;
+        AdminDTO.DashboardResponse snapshot = dashboardSnapshot;
+        if (snapshot == null || forceRefresh) {
+            return refreshDashboardSnapshot(forceRefresh, requestedAt);
+        }
+        return snapshot;
+    }
+
+    @Override
+    public AdminDTO.DashboardResponse refreshDashboardSnapshot() {
+        return refreshDashboardSnapshot(true, System.currentTimeMillis());
+    }
+
+    /**
+     * 스냅샷 재계산 (한 번에 하나만)
+     * 락을 기다리는 동안 다른 요청이 계산을 마쳤으면 다시 계산하지 않고 그 결과를 반환
+     * - 일반 조회: 스냅샷이 이미 있으면 반환 (최초 조회가 몰려도 계산은 한 번)
+     * - 강제 새로고침: 요청 이후 시작된 계산이 끝났으면 반환 (연속 새로고침 요청은 한 번으로 합침)
+     */
+    private synchronized AdminDTO.DashboardResponse refreshDashboardSnapshot(boolean force, long requestedAt) {
+        AdminDTO.DashboardResponse current = dashboardSnapshot;
+        if (current != null && (!force || dashboardRefreshedAt >= requestedAt)) {
+            return current;
+        }
+        dashboardStale.set(false);
+        long startedAt = System.currentTimeMillis();
+        dashboardRefreshedAt = startedAt;
+        ParallelQueryExecutor.Batch batch = parallelQueryExecutor.newBatch();
+        AdminDTO.DashboardResponse snapshot = computeDashboardData(batch, current);
+        dashboardSnapshot = snapshot;
+        // 일부 구간이 이전 값/빈 값으로 대체되었으면 다음 debounce 주기에 다시 계산
+        if (batch.isDegraded()) {
+            dashboardStale.set(true);
+        }
+        log.info("Dashboard snapshot refreshed in {} ms (degraded: {})", System.currentTimeMillis() - startedAt, batch.isDegraded());
+        return snapshot;
+    }
+
+    // 주기적 스냅샷 재계산 (마지막 계산 이후 조회된 스냅샷만)
+    @Scheduled(initialDelayString = "${admin-dashboard.refresh-interval-ms:300000}",
+               fixedDelayString = "${admin-dashboard.refresh-interval-ms:300000}")
+    public void scheduledDashboardRefresh() {
+        if (!isDashboardReadSinceRefresh()) {
+            return;
+        }
+        try {
+            refreshDashboardSnapshot();
+        } catch (Exception e) {
+            log.error("Failed to refresh dashboard snapshot", e);
+        }
+    }
+
+    // 데이터 변경 이벤트는 표시만 하고, 아래 debounce 주기에 한 번만 재계산
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDashboardDataChanged(DashboardDataChangedEvent event) {
+        log.debug("Dashboard data changed - source: {}", event.source());
+        dashboardStale.set(true);
+    }
+
+    // 변경 이벤트가 있었고 마지막 계산 이후 스냅샷이 조회된 경우에만 재계산
+    @Scheduled(fixedDelayString = "${admin-dashboard.event-debounce-ms:30000}")
+    public void refreshDashboardIfStale() {
+        if (!dashboardStale.get() || !isDashboardReadSinceRefresh()) {
+            return;
+        }
+        try {
+            refreshDashboardSnapshot();
+        } catch (Exception e) {
+            log.error("Failed to refresh stale dashboard snapshot", e);
+        }
+    }
+
+    // 아무도 보지 않는 스냅샷은 재계산하지 않음 (다음 조회 이후 주기에 재계산)
+    private boolean isDashboardReadSinceRefresh() {
+        return dashboardSnapshot != null && dashboardReadAt >= dashboardRefreshedAt;
+    }
+
+    /**
+     * 대시보드 전체 집계 계산
+     * 각 구간(통계, 성별, 나이대, 인기 운동, 인기 게시글)은 서로 독립적이므로 병렬로 조회하고,
+     * 모두 끝나면 응답을 조립
+     * 시간 초과/실패 구간은 이전 스냅샷의 값을 유지하고, 이전 스냅샷이 없을 때만 빈 값으로 대체
+     */
+    private AdminDTO.DashboardResponse computeDashboardData(ParallelQueryExecutor.Batch batch,
+                                                            AdminDTO.DashboardResponse previous) {
+        Pageable popularPostPage = PageRequest.of(0, POPULAR_POST_LIMIT);
+        boolean hasPrevious = previous != null;
+
+        CompletableFuture<AdminDTO.DashboardResponse.StatsDto> stats = batch.submit("stats",
+                this::computeStats, hasPrevious ? previous.stats() : EMPTY_STATS);
+        CompletableFuture<AdminDTO.DashboardResponse.GenderAnalysisDto> genderAnalysis = batch.submit("gender-analysis",
+                this::computeGenderAnalysis, hasPrevious ? previous.genderAnalysis() : EMPTY_GENDER_ANALYSIS);
+        CompletableFuture<List<AdminDTO.DashboardResponse.AgeGroupAnalysisDTO>> ageGroupAnalysis = batch.submit("age-group-analysis",
+                this::computeAgeGroupAnalysis, hasPrevious ? previous.ageGroupAnalysis() : List.of());
+        CompletableFuture<List<AdminDTO.DashboardResponse.PopularExerciseDto>> popularByLikes = batch.submit("popular-exercises-likes",
+                () -> exerciseService.getPopularExercisesByLikes(250).stream()
+                        .map(e -> new AdminDTO.DashboardResponse.PopularExerciseDto(e.getName(), e.getLikeCount().intValue()))
+                        .collect(Collectors.toList()),
+                hasPrevious ? previous.popularByLikes() : List.of());
+        CompletableFuture<List<AdminDTO.DashboardResponse.PopularExerciseDto>> popularByRoutine = batch.submit("popular-exercises-routines",
+                () -> exerciseService.getPopularExercisesByRoutines(250).stream()
+                        .map(e -> new AdminDTO.DashboardResponse.PopularExerciseDto(e.getName(), e.getRoutineCount().intValue()))
+                        .collect(Collectors.toList()),
+                hasPrevious ? previous.popularByRoutine() : List.of());
+        CompletableFuture<List<AdminDTO.DashboardResponse.PopularPostDto>> popularByViews = batch.submit("popular-posts-views",
+                () -> toPopularPosts(postRepository.findPopularPostsByViews(popularPostPage)),
+                hasPrevious ? previous.popularByViews() : List.of());
+        CompletableFuture<List<AdminDTO.DashboardResponse.PopularPostDto>> popularByComments = batch.submit("popular-posts-comments",
+                () -> toPopularPosts(postRepository.findPopularPostsByComments(popularPostPage)),
+                hasPrevious ? previous.popularByComments() : List.of());
+        CompletableFuture<List<AdminDTO.DashboardResponse.PopularPostDto>> popularByPostLikes = batch.submit("popular-posts-likes",
+                () -> toPopularPosts(postRepository.findPopularPostsByLikes(popularPostPage)),
+                hasPrevious ? previous.popularByPostLikes() : List.of());
+
+        batch.awaitAll();
+
+        return new AdminDTO.DashboardResponse(stats.join(), genderAnalysis.join(), ageGroupAnalysis.join(),
+                popularByLikes.join(), popularByRoutine.join(),
+                popularByViews.join(), popularByComments.join(), popularByPostLikes.join(), LocalDateTime.now());
+    }
+
+    // --- 1. 기본 통계 (Stats) 계산 ---
+    private AdminDTO.DashboardResponse.StatsDto computeStats() {
         long totalMembers = userRepository.count();
         long totalPosts = postRepository.count();
         // '총 분석 횟수'는 AnalysisHistory 테이블의 전체 레코드 수로 계산
@@ -48,12 +227,14 @@ public class AdminServiceImpl implements AdminService {
         long previousWeekActiveUsers = userRepository.countByUpdatedAtBetween(twoWeeksAgo, oneWeekAgo);
         double weeklyChange = (previousWeekActiveUsers > 0) ? ((double) (currentWeekActiveUsers - previousWeekActiveUsers) / previousWeekActiveUsers) * 100 : 0.0;
 
-        AdminDTO.DashboardResponse.StatsDto stats = new AdminDTO.DashboardResponse.StatsDto(
+        return new AdminDTO.DashboardResponse.StatsDto(
                 totalMembers, totalPosts, totalAnalysis,
                 new AdminDTO.DashboardResponse.WeeklyActiveUsersDto(currentWeekActiveUsers, Double.parseDouble(String.format("%.1f", weeklyChange)))
         );
+    }
 
-        // --- 2. 성별 분석 데이터 계산 (점수 및 횟수) ---
+    // --- 2. 성별 분석 데이터 계산 (점수 및 횟수) ---
+    private AdminDTO.DashboardResponse.GenderAnalysisDto computeGenderAnalysis() {
         // 2.1. 성별 평균 점수
         List<Object[]> scoreResults = analysisHistoryRepository.findAverageScoreByGender();
         Map<String, Double> averageScoresByGender = scoreResults.stream()
@@ -75,15 +256,17 @@ public class AdminServiceImpl implements AdminService {
         long femaleCount = countsByGender.getOrDefault("FEMALE", 0L);
 
         // 2.3. DTO 생성 (점수와 횟수 포함)
-        AdminDTO.DashboardResponse.GenderAnalysisDto genderAnalysis = new AdminDTO.DashboardResponse.GenderAnalysisDto(
+        return new AdminDTO.DashboardResponse.GenderAnalysisDto(
                 roundToOneDecimal(maleAverageScore),
                 roundToOneDecimal(femaleAverageScore),
                 100.0, // 점수는 100점 만점으로 가정
                 maleCount,
                 femaleCount
         );
+    }
 
-        // --- 3. 나이대별 분석 데이터 계산 (점수 및 횟수) ---
+    // --- 3. 나이대별 분석 데이터 계산 (점수 및 횟수) ---
+    private List<AdminDTO.DashboardResponse.AgeGroupAnalysisDTO> computeAgeGroupAnalysis() {
         // 3.1. 나이대별 분석 횟수 조회 후 Map으로 변환
         Map<String, Long> countsByAgeGroup = analysisHistoryRepository.countByAgeGroup().stream()
                 .collect(Collectors.toMap(
@@ -92,48 +275,21 @@ public class AdminServiceImpl implements AdminService {
                 ));
 
         // 3.2. 나이대별 평균 점수를 조회하며, 위에서 구한 횟수 Map을 사용하여 DTO 생성
-        List<AdminDTO.DashboardResponse.AgeGroupAnalysisDTO> ageGroupAnalysis =
-                analysisHistoryRepository.findAverageScoreByAgeGroup().stream()
-                        .map(result -> {
-                            String ageGroup = (String) result[0];
-                            double averageScore = Double.parseDouble(String.format("%.1f", (Double) result[1]));
-                            long count = countsByAgeGroup.getOrDefault(ageGroup, 0L); // 맵에서 횟수 조회
-                            return new AdminDTO.DashboardResponse.AgeGroupAnalysisDTO(ageGroup, averageScore, count);
-                        })
-                        .collect(Collectors.toList());
-
-        // --- 4. 인기 운동 데이터 조회 ---
-        List<ExerciseDTO> likesTop3 = exerciseService.getPopularExercisesByLikes(250);
-        List<ExerciseDTO> routinesTop3 = exerciseService.getPopularExercisesByRoutines(250);
-        List<AdminDTO.DashboardResponse.PopularExerciseDto> popularByLikes = likesTop3.stream()
-                .map(e -> new AdminDTO.DashboardResponse.PopularExerciseDto(e.getName(), e.getLikeCount().intValue()))
-                .collect(Collectors.toList());
-        List<AdminDTO.DashboardResponse.PopularExerciseDto> popularByRoutine = routinesTop3.stream()
-                .map(e -> new AdminDTO.DashboardResponse.PopularExerciseDto(e.getName(), e.getRoutineCount().intValue()))
-                .collect(Collectors.toList());
-
-        // --- 5. 인기 게시글 데이터 조회 ---
-        List<Object[]> viewsResults = postRepository.findPopularPostsByViews();
-        List<AdminDTO.DashboardResponse.PopularPostDto> popularByViews = viewsResults.stream()
-                .limit(10)
-                .map(result -> new AdminDTO.DashboardResponse.PopularPostDto((String) result[0], ((Number) result[1]).intValue(), (String) result[2], ((Number) result[3]).intValue()))
-                .collect(Collectors.toList());
-
-        List<Object[]> commentsResults = postRepository.findPopularPostsByComments();
-        List<AdminDTO.DashboardResponse.PopularPostDto> popularByComments = commentsResults.stream()
-                .limit(10)
-                .map(result -> new AdminDTO.DashboardResponse.PopularPostDto((String) result[0], ((Number) result[1]).intValue(), (String) result[2], ((Number) result[3]).intValue()))
+        return analysisHistoryRepository.findAverageScoreByAgeGroup().stream()
+                .map(result -> {
+                    String ageGroup = (String) result[0];
+                    double averageScore = Double.parseDouble(String.format("%.1f", (Double) result[1]));
+                    long count = countsByAgeGroup.getOrDefault(ageGroup, 0L); // 맵에서 횟수 조회
+                    return new AdminDTO.DashboardResponse.AgeGroupAnalysisDTO(ageGroup, averageScore, count);
+                })
                 .collect(Collectors.toList());
+    }
 
-        List<Object[]> likesResults = postRepository.findPopularPostsByLikes();
-        List<AdminDTO.DashboardResponse.PopularPostDto> popularByPostLikes = likesResults.stream()
-                .limit(10)
+    // --- 5. 인기 게시글 조회 결과 변환 ---
+    private List<AdminDTO.DashboardResponse.PopularPostDto> toPopularPosts(List<Object[]> results) {
+        return results.stream()
                 .map(result -> new AdminDTO.DashboardResponse.PopularPostDto((String) result[0], ((Number) result[1]).intValue(), (String) result[2], ((Number) result[3]).intValue()))
                 .collect(Collectors.toList());
-
-        // --- 6. 최종 응답 생성 ---
-        return new AdminDTO.DashboardResponse(stats, genderAnalysis, ageGroupAnalysis, popularByLikes, popularByRoutine,
-                popularByViews, popularByComments, popularByPostLikes);
     }
 
     @Override
@@ -143,6 +299,135 @@ public class AdminServiceImpl implements AdminService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public AdminDTO.MemberPageResponse getMembersPage(Integer afterId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_MEMBER_PAGE_SIZE));
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<Object[]> rows = userRepository.findMemberRowsAfter(afterId != null ? afterId : 0, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        List<AdminDTO.MemberResponse> content = rows.stream()
+                .limit(pageSize)
+                .map(row -> new AdminDTO.MemberResponse(
+                        (Integer) row[0],
+                        (String) row[1],
+                        (String) row[2],
+                        toDate((LocalDateTime) row[3]),
+                        toDate((LocalDateTime) row[4]),
+                        (String) row[5],
+                        (LocalDate) row[6],
+                        (String) row[7]))
+                .collect(Collectors.toList());
+        Integer nextAfterId = hasNext ? content.get(content.size() - 1).id() : null;
+        return new AdminDTO.MemberPageResponse(content, nextAfterId, hasNext, pageSize);
+    }
+
+    /**
+     * 전체 회원 내보내기
+     * 읽기 전용 트랜잭션 안에서 forward-only 커서로 fetch size 단위만 읽어 오므로
+     * (PostgreSQL은 autocommit이 꺼져 있어야 커서로 나눠 읽음) 회원 수와 무관하게 메모리 사용량이 일정
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportMembers(String format, OutputStream out) throws IOException {
+        switch (format) {
+            case EXPORT_FORMAT_CSV -> exportMembersAsCsv(out);
+            case EXPORT_FORMAT_JSON -> exportMembersAsJson(out);
+            default -> throw new IllegalStateException("지원하지 않는 내보내기 형식입니다: " + format);
+        }
+    }
+
+    private void exportMembersAsCsv(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+        writer.write('\uFEFF');
+        writer.write("id,name,email,lastModified,signedUp,goal,birthDate,gender\n");
+        streamMemberRows(rs -> {
+            try {
+                writer.write(rs.getInt("user_id") + ","
+                        + csv(rs.getString("name")) + ","
+                        + csv(rs.getString("email")) + ","
+                        + csv(toDateString(rs.getTimestamp("updated_at"))) + ","
+                        + csv(toDateString(rs.getTimestamp("created_at"))) + ","
+                        + csv(rs.getString("goal")) + ","
+                        + csv(Objects.toString(rs.getObject("birthday", LocalDate.class), null)) + ","
+                        + csv(rs.getString("gender")) + "\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+    }
+
+    private void exportMembersAsJson(OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            // 응답 스트림은 컨테이너가 닫도록 둠
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            streamMemberRows(rs -> {
+                try {
+                    generator.writeStartObject();
+                    generator.writeNumberField("id", rs.getInt("user_id"));
+                    generator.writeStringField("name", rs.getString("name"));
+                    generator.writeStringField("email", rs.getString("email"));
+                    generator.writeStringField("lastModified", toDateString(rs.getTimestamp("updated_at")));
+                    generator.writeStringField("signedUp", toDateString(rs.getTimestamp("created_at")));
+                    generator.writeStringField("goal", rs.getString("goal"));
+                    generator.writeStringField("birthDate", Objects.toString(rs.getObject("birthday", LocalDate.class), null));
+                    generator.writeStringField("gender", rs.getString("gender"));
+                    generator.writeEndObject();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeEndArray();
+        }
+    }
+
+    // 회원 행을 forward-only 커서로 한 행씩 처리 (프로필 이미지 등 LOB 컬럼은 읽지 않음)
+    private void streamMemberRows(RowCallbackHandler handler) throws IOException {
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(MEMBER_EXPORT_SQL,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(MEMBER_EXPORT_FETCH_SIZE);
+                return statement;
+            }, handler);
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료 등 쓰기 실패
+            throw e.getCause();
+        }
+    }
+
+    private String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        // 엑셀이 수식으로 실행하지 않도록 수식 시작 문자로 시작하는 값은 ' 를 붙이고 따옴표로 감쌈
+        if (startsLikeFormula(value)) {
+            return "\"'" + value.replace("\"", "\"\"") + "\"";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    private boolean startsLikeFormula(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        char first = value.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+
+    private String toDateString(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime().toLocalDate().toString() : null;
+    }
+
+    private LocalDate toDate(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toLocalDate() : null;
+    }
+
     @Override
     public AdminDTO.DashboardResponse.AnalysisDistributionResponse getAnalysisDistributionData() {
         log.info("--- 분석 분포 데이터 서비스 로직 시작 ---");
@@ -195,11 +480,19 @@ public class AdminServiceImpl implements AdminService {
         return new AdminDTO.DashboardResponse.AnalysisDistributionResponse(genderList, ageList);
     }
 
+    /**
+     * 연도별 월/주차 가입자 수
+     * 가입일은 변경되지 않으므로 지난 연도 결과는 캐시하고, 올해만 매번 다시 집계
+     */
     @Override
     public UserSignupStatsResponse getUserSignupStats(int year) {
-        // 전체 사용자 목록 조회
-        List<User> users = userRepository.findAll();
+        if (year < LocalDate.now().getYear()) {
+            return signupStatsCache.computeIfAbsent(year, this::computeUserSignupStats);
+        }
+        return computeUserSignupStats(year);
+    }
 
+    private UserSignupStatsResponse computeUserSignupStats(int year) {
         // 월별로 주차별 가입자 수를 저장할 맵 생성 (key: 월, value: 주차별 가입 수 배열[5칸])
         Map<Integer, int[]> monthWeekCounts = new java.util.HashMap<>();
         for (int m = 1; m <= 12; m++) monthWeekCounts.put(m, new int[5]);
@@ -207,19 +500,19 @@ public class AdminServiceImpl implements AdminService {
         // Locale 기준 주차 계산 방식 설정 (한국 기준: 월요일 시작)
         WeekFields weekFields = WeekFields.of(Locale.getDefault());
 
-        // 사용자 생성일 기준으로 연도, 월, 주차별 가입자 수 집계
-        for (User user : users) {
-            LocalDateTime created = user.getCreatedAt();
-
-            // 입력된 연도와 다른 경우 무시
-            if (created.getYear() != year) continue;
+        // DB에서 일별로 집계된 가입자 수를 연도, 월, 주차별로 합산 (사용자 수가 아닌 최대 366개 행만 처리)
+        LocalDateTime start = LocalDate.of(year, 1, 1).atStartOfDay();
+        List<Object[]> dailyCounts = userRepository.countSignupsByDate(start, start.plusYears(1));
+        for (Object[] row : dailyCounts) {
+            LocalDate signupDate = toLocalDate(row[0]);
+            int count = safeCastToInt(row[1]);
 
-            int month = created.getMonthValue();  // 가입 월
-            int weekOfMonth = created.toLocalDate().get(weekFields.weekOfMonth());  // 가입 주차 (1~5)
+            int month = signupDate.getMonthValue();  // 가입 월
+            int weekOfMonth = signupDate.get(weekFields.weekOfMonth());  // 가입 주차 (1~5)
 
             // 1~5주차에 해당하는 경우만 카운팅 (6주차는 제외)
             if (weekOfMonth >= 1 && weekOfMonth <= 5) {
-                monthWeekCounts.get(month)[weekOfMonth - 1]++;
+                monthWeekCounts.get(month)[weekOfMonth - 1] += count;
             }
         }
 
@@ -240,6 +533,13 @@ public class AdminServiceImpl implements AdminService {
         return new UserSignupStatsResponse(monthly);
     }
 
+    private LocalDate toLocalDate(Object value) {
+        if (value instanceof java.sql.Date date) return date.toLocalDate();
+        if (value instanceof LocalDate date) return date;
+        if (value instanceof java.sql.Timestamp timestamp) return timestamp.toLocalDateTime().toLocalDate();
+        throw new IllegalArgumentException("지원되지 않는 날짜 타입: " + value.getClass().getName());
+    }
+
 
     // --- Entity to DTO 변환 헬퍼 메소드 ---
 
@@ -1,14 +1,18 @@
 package org.synergym.backendapi.service;
 
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.synergym.backendapi.dto.ChatResponseDTO;
+import reactor.core.publisher.Flux;
+
 import java.util.Map;
 
 @Service
+@RequiredArgsConstructor
 public class AiCoachClient {
-    private final WebClient webClient = WebClient.create("http://localhost:8000");
+    private final AiGatewayClient aiGatewayClient;
 
     public ChatResponseDTO sendAiCoachRequest(Map<String, Object> requestBody) {
         try {
@@ -16,11 +20,8 @@ public class AiCoachClient {
             System.out.println("[DEBUG] 요청 바디: " + requestBody);
             
             // FastAPI 응답을 Map으로 받아서 ChatResponseDTO로 변환
-            Map<String, Object> fastApiResponse = webClient.post()
-                    .uri("/ai-coach")
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(Map.class)
+            Map<String, Object> fastApiResponse = aiGatewayClient
+                    .post("ai-coach", "/ai-coach", requestBody, Map.class)
                     .block();
             
             System.out.println("[DEBUG] FastAPI 응답 성공: " + fastApiResponse);
@@ -54,4 +55,10 @@ public class AiCoachClient {
             throw e;
         }
     }
-} 
\ No newline at end of file
+
+    // FastAPI /ai-coach/stream 응답 조각(SSE data)을 순서대로 전달
+    public Flux<String> streamAiCoach(Map<String, Object> requestBody) {
+        return aiGatewayClient.stream("ai-coach-stream", "/ai-coach/stream", requestBody)
+                .mapNotNull(ServerSentEvent::data);
+    }
+}
@@ -0,0 +1,234 @@
+package org.synergym.backendapi.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ConnectTimeoutException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.synergym.backendapi.config.AiGatewayProperties;
+import org.synergym.backendapi.exception.AiGatewayBusyException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * FastAPI(AI 서버) 공통 호출 클라이언트
+ * 모든 AI 연동(코치, 유튜브, 목표/추천/자세 분석, 감정 분류)은 이 클라이언트를 통해 호출
+ *
+ * [연결]
+ * - 하나의 Reactor Netty 연결 풀을 공유 (최대 연결 수, 대기 수/시간, 유휴 연결 정리)
+ * - 경로(route)별로 연결/응답 제한 시간과 base URL을 따로 설정 (ai-gateway.routes)
+ *
+ * [동시 요청 제한]
+ * - 경로별 최대 동시 요청 수를 넘으면 대기하지 않고 AiGatewayBusyException(503)으로 거절
+ *
+ * [지표]
+ * - ai.gateway.requests (route, outcome=success|client_error|server_error|timeout|rejected|error|cancelled)
+ * - ai.gateway.in-flight (route): 진행 중인 호출 수 (스트리밍은 스트림이 끝날 때까지 포함)
+ * - ai.gateway.stream.first-event (route): 스트리밍 요청부터 첫 이벤트까지 시간
+ * - reactor.netty.connection.provider.* (연결 풀 상태)
+ */
+@Slf4j
+@Component
+public class AiGatewayClient {
+
+    private static final String POOL_NAME = "ai-gateway";
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_TYPE = new ParameterizedTypeReference<>() {};
+
+    private final AiGatewayProperties properties;
+    private final WebClient.Builder webClientBuilder;
+    private final MeterRegistry meterRegistry;
+    private final ConnectionProvider connectionProvider;
+
+    // 경로 이름 -> 경로별 WebClient와 동시 요청 제한
+    private final Map<String, Route> routes = new ConcurrentHashMap<>();
+
+    private record Route(WebClient webClient, Semaphore bulkhead) {
+    }
+
+    public AiGatewayClient(AiGatewayProperties properties,
+                           WebClient.Builder webClientBuilder,
+                           MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.webClientBuilder = webClientBuilder;
+        this.meterRegistry = meterRegistry;
+        this.connectionProvider = ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(properties.getMaxConnections())
+                .pendingAcquireMaxCount(properties.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(Duration.ofMillis(properties.getPendingAcquireTimeoutMs()))
+                .maxIdleTime(Duration.ofMillis(properties.getMaxIdleTimeMs()))
+                .maxLifeTime(Duration.ofMillis(properties.getMaxLifeTimeMs()))
+                .evictInBackground(Duration.ofMillis(properties.getMaxIdleTimeMs()))
+                .metrics(true)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connectionProvider.dispose();
+    }
+
+    // JSON POST 후 응답 본문을 type으로 변환
+    public <T> Mono<T> post(String route, String uri, Object body, Class<T> type) {
+        return execute(route, webClient -> webClient.post()
+                .uri(uri)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(type));
+    }
+
+    public <T> Mono<T> post(String route, String uri, Object body, ParameterizedTypeReference<T> type) {
+        return execute(route, webClient -> webClient.post()
+                .uri(uri)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(type));
+    }
+
+    /**
+     * JSON POST 후 SSE 응답을 이벤트 단위로 전달
+     * 스트림이 끝나거나 취소될 때까지 동시 요청 제한을 점유하며, 기다리는 동안 스레드를 점유하지 않음
+     * (응답 제한 시간은 이벤트 사이 간격에 적용)
+     */
+    public Flux<ServerSentEvent<String>> stream(String route, String uri, Object body) {
+        return Flux.defer(() -> {
+            Route target = route(route);
+            Timer.Sample sample = Timer.start(meterRegistry);
+            if (!target.bulkhead().tryAcquire()) {
+                sample.stop(timer(route, "rejected"));
+                log.warn("AI gateway bulkhead full - route: {}", route);
+                return Flux.error(new AiGatewayBusyException(route));
+            }
+            Flux<ServerSentEvent<String>> events;
+            try {
+                events = target.webClient().post()
+                        .uri(uri)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .bodyValue(body)
+                        .retrieve()
+                        .bodyToFlux(SSE_TYPE);
+            } catch (RuntimeException e) {
+                // 요청 구성 중 예외 (null 본문 등) - doFinally가 붙기 전이므로 여기서 해제
+                target.bulkhead().release();
+                sample.stop(timer(route, outcomeOf(e)));
+                return Flux.error(e);
+            }
+            Timer.Sample firstEvent = Timer.start(meterRegistry);
+            AtomicBoolean waitingFirstEvent = new AtomicBoolean(true);
+            return events
+                    .doOnNext(event -> {
+                        if (waitingFirstEvent.compareAndSet(true, false)) {
+                            firstEvent.stop(Timer.builder("ai.gateway.stream.first-event")
+                                    .tag("route", route)
+                                    .register(meterRegistry));
+                        }
+                    })
+                    .doOnComplete(() -> sample.stop(timer(route, "success")))
+                    .doOnError(e -> sample.stop(timer(route, outcomeOf(e))))
+                    .doOnCancel(() -> sample.stop(timer(route, "cancelled")))
+                    .doFinally(signal -> target.bulkhead().release());
+        });
+    }
+
+    /**
+     * 경로별 WebClient로 호출하고 동시 요청 제한과 지표를 적용
+     * 구독 시점에 제한을 확인하며, 호출이 끝나거나 취소되면 제한을 해제 (요청 구성 중 예외가 나도 해제)
+     */
+    public <T> Mono<T> execute(String route, Function<WebClient, Mono<T>> call) {
+        return Mono.defer(() -> {
+            Route target = route(route);
+            Timer.Sample sample = Timer.start(meterRegistry);
+            if (!target.bulkhead().tryAcquire()) {
+                sample.stop(timer(route, "rejected"));
+                log.warn("AI gateway bulkhead full - route: {}", route);
+                return Mono.error(new AiGatewayBusyException(route));
+            }
+            Mono<T> request;
+            try {
+                request = call.apply(target.webClient());
+            } catch (RuntimeException e) {
+                // 요청 구성 중 예외 (null 본문 등) - doFinally가 붙기 전이므로 여기서 해제
+                target.bulkhead().release();
+                sample.stop(timer(route, outcomeOf(e)));
+                return Mono.error(e);
+            }
+            return request
+                    .doOnSuccess(result -> sample.stop(timer(route, "success")))
+                    .doOnError(e -> sample.stop(timer(route, outcomeOf(e))))
+                    .doOnCancel(() -> sample.stop(timer(route, "cancelled")))
+                    .doFinally(signal -> target.bulkhead().release());
+        });
+    }
+
+    private Route route(String name) {
+        return routes.computeIfAbsent(name, this::createRoute);
+    }
+
+    private Route createRoute(String name) {
+        AiGatewayProperties.Route config = properties.getRoutes().getOrDefault(name, new AiGatewayProperties.Route());
+        String baseUrl = config.getBaseUrl() != null ? config.getBaseUrl() : properties.getBaseUrl();
+        long connectTimeoutMs = config.getConnectTimeoutMs() != null ? config.getConnectTimeoutMs() : properties.getConnectTimeoutMs();
+        long responseTimeoutMs = config.getResponseTimeoutMs() != null ? config.getResponseTimeoutMs() : properties.getResponseTimeoutMs();
+        int maxConcurrent = config.getMaxConcurrent() != null ? config.getMaxConcurrent() : properties.getMaxConcurrent();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs));
+        WebClient webClient = webClientBuilder.clone()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize((int) properties.getMaxInMemorySize().toBytes()))
+                .build();
+
+        Semaphore bulkhead = new Semaphore(maxConcurrent);
+        Gauge.builder("ai.gateway.in-flight", bulkhead, permits -> maxConcurrent - permits.availablePermits())
+                .tag("route", name)
+                .register(meterRegistry);
+
+        log.info("AI gateway route created - route: {}, baseUrl: {}, connectTimeoutMs: {}, responseTimeoutMs: {}, maxConcurrent: {}",
+                name, baseUrl, connectTimeoutMs, responseTimeoutMs, maxConcurrent);
+        return new Route(webClient, bulkhead);
+    }
+
+    private Timer timer(String route, String outcome) {
+        return Timer.builder("ai.gateway.requests")
+                .tag("route", route)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static String outcomeOf(Throwable error) {
+        if (error instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is4xxClientError() ? "client_error" : "server_error";
+        }
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException
+                    || cause instanceof io.netty.handler.timeout.TimeoutException
+                    || cause instanceof ConnectTimeoutException) {
+                return "timeout";
+            }
+        }
+        return "error";
+    }
+}
@@ -1,11 +1,13 @@
 package org.synergym.backendapi.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.synergym.backendapi.dto.AnalysisHistoryDTO;
 import org.synergym.backendapi.entity.AnalysisHistory;
 import org.synergym.backendapi.entity.User;
+import org.synergym.backendapi.event.DashboardDataChangedEvent;
 import org.synergym.backendapi.exception.EntityNotFoundException;
 import org.synergym.backendapi.exception.ErrorCode;
 import org.synergym.backendapi.repository.AnalysisHistoryRepository;
@@ -20,6 +22,7 @@ public class AnalysisHistoryServiceImpl implements AnalysisHistoryService {
 
     private final AnalysisHistoryRepository analysisHistoryRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 사용자 ID로 User 엔티티 조회
@@ -51,6 +54,7 @@ public class AnalysisHistoryServiceImpl implements AnalysisHistoryService {
         User user = findUserById(userId);  // 사용자 유효성 확인
         AnalysisHistory newHistory = DTOtoEntity(requestDTO, user);  // DTO → Entity 변환
         AnalysisHistory savedHistory = analysisHistoryRepository.save(newHistory);  // 저장
+        eventPublisher.publishEvent(new DashboardDataChangedEvent("analysis-history"));
         return entityToDTO(savedHistory);  // Entity → DTO 반환
     }
 
@@ -107,5 +111,6 @@ public class AnalysisHistoryServiceImpl implements AnalysisHistoryService {
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.HISTORY_NOT_FOUND));
 
         history.softDelete();  // 실제 삭제 대신 상태만 변경
+        eventPublisher.publishEvent(new DashboardDataChangedEvent("analysis-history"));
     }
 }
\ No newline at end of file
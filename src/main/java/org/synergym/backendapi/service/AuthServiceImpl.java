@@ -6,6 +6,7 @@ import java.time.LocalDate;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -24,6 +25,7 @@ import org.synergym.backendapi.dto.SignupRequest;
 import org.synergym.backendapi.dto.SocialSignupRequest;
 import org.synergym.backendapi.entity.Role;
 import org.synergym.backendapi.entity.User;
+import org.synergym.backendapi.event.DashboardDataChangedEvent;
 import org.synergym.backendapi.provider.JwtTokenProvider;
 import org.synergym.backendapi.repository.UserRepository;
 
@@ -42,6 +44,7 @@ public class AuthServiceImpl implements AuthService {
     private final StringRedisTemplate redisTemplate;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final String VERIFICATION_CODE_PREFIX = "verification:";
 
@@ -88,6 +91,7 @@ public class AuthServiceImpl implements AuthService {
                 }
                 
                 userRepository.save(user);
+                eventPublisher.publishEvent(new DashboardDataChangedEvent("user-signup"));
                 log.info("재가입 완료: {}", signupRequest.getEmail());
                 return;
             }
@@ -112,6 +116,7 @@ public class AuthServiceImpl implements AuthService {
 
         // 사용자 저장
         userRepository.save(newUser);
+        eventPublisher.publishEvent(new DashboardDataChangedEvent("user-signup"));
     }
 
     /**
@@ -292,6 +297,7 @@ public class AuthServiceImpl implements AuthService {
                 user.updatePassword(passwordEncoder.encode("SocialLoginDummyPassword" + UUID.randomUUID()));
                 
                 userRepository.save(user);
+                eventPublisher.publishEvent(new DashboardDataChangedEvent("user-signup"));
                 log.info("소셜 재가입 완료: {}", signupRequest.getEmail());
             }
         } else {
@@ -306,6 +312,7 @@ public class AuthServiceImpl implements AuthService {
                     .build();
 
             userRepository.save(user);
+            eventPublisher.publishEvent(new DashboardDataChangedEvent("user-signup"));
             log.info("소셜 회원가입 완료 및 로그인 처리: {}", user.getEmail());
         }
 
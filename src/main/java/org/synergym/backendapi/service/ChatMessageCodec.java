@@ -0,0 +1,17 @@
+package org.synergym.backendapi.service;
+
+import org.synergym.backendapi.dto.ChatMessageDTO;
+
+/**
+ * 챗봇 대화 메시지 저장 형식 (Redis 리스트 원소 1개 = 메시지 1개)
+ * 저장은 설정된 형식 하나로 하고, 읽을 때는 첫 바이트로 형식을 판별하여 이전 형식도 그대로 읽음
+ */
+public interface ChatMessageCodec {
+
+    byte[] encode(ChatMessageDTO message);
+
+    ChatMessageDTO decode(byte[] data);
+
+    // 이 형식으로 저장된 값인지 (첫 바이트로 판별)
+    boolean supports(byte[] data);
+}
@@ -2,48 +2,108 @@ package org.synergym.backendapi.service;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.synergym.backendapi.dto.ChatMessageDTO;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+/**
+ * 챗봇 대화 기록 저장소 (Redis)
+ *
+ * [키 구조]
+ * - chat:messages:{userId}:{sessionId} : 대화 메시지 리스트 (메시지 1개 = 원소 1개, 최근 50개, 24시간 TTL)
+ *                                         원소 형식은 chat-history.codec (compact: 압축 바이너리, json: JSON)
+ * - chat:active:{userId}                : 사용자별 활성 세션 ID
+ * - chat:sessions:{userId}              : 사용자별 세션 색인 (sorted set, member: 세션 ID, score: 마지막 활동 시각 ms)
+ * - chat:session:{userId}:{sessionId}   : (이전 형식) 전체 대화를 JSON 배열 하나로 저장한 문자열
+ *
+ * 메시지 저장은 RPUSH + LTRIM + EXPIRE + 세션 색인 갱신을 한 번의 파이프라인으로 처리하여
+ * 대화 길이와 무관하게 O(1)이며, 동시에 저장해도 메시지가 유실되지 않음
+ * 이전 형식 키는 해당 세션에 처음 접근할 때 리스트로 옮기고 삭제
+ * 리스트 원소는 형식과 관계없이 첫 바이트로 판별하여 읽으므로 저장 형식을 바꿔도 기존 메시지를 그대로 읽음
+ *
+ * [세션 색인]
+ * - 세션 목록은 KEYS 대신 색인에서 조회 (O(log n + m), Redis를 막지 않음)
+ * - 색인의 TTL과 만료된 세션 정리는 메시지 저장 시 함께 처리
+ * - 시작 시 SCAN으로 기존 대화 키를 색인에 등록하고, 주기적으로 SCAN하여 오래된 색인 항목 정리
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ChatbotRedisService {
+
+    private static final String MESSAGES_KEY_PREFIX = "chat:messages:";
+    private static final String LEGACY_SESSION_KEY_PREFIX = "chat:session:";
+    private static final String ACTIVE_KEY_PREFIX = "chat:active:";
+    private static final String SESSION_INDEX_KEY_PREFIX = "chat:sessions:";
+    private static final int SCAN_BATCH_SIZE = 500;
+    private static final int MAX_MESSAGES = 50;
+    private static final Duration SESSION_TTL = Duration.ofHours(24);
+
     private final StringRedisTemplate redisTemplate;
     private final ObjectMapper objectMapper;
+    // 저장 형식과 읽기 가능한 전체 형식
+    private final ChatMessageCodec messageCodec;
+    private final List<ChatMessageCodec> readableCodecs;
+
+    public ChatbotRedisService(StringRedisTemplate redisTemplate,
+                               ObjectMapper objectMapper,
+                               @Value("${chat-history.codec:compact}") String codec,
+                               @Value("${chat-history.compress-threshold-bytes:512}") int compressThresholdBytes) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        ChatMessageCodec json = new JsonChatMessageCodec(objectMapper);
+        ChatMessageCodec compact = new CompactChatMessageCodec(compressThresholdBytes);
+        this.messageCodec = "json".equalsIgnoreCase(codec) ? json : compact;
+        this.readableCodecs = List.of(compact, json);
+    }
+
+    private String messagesKey(Integer userId, String sessionId) {
+        return MESSAGES_KEY_PREFIX + userId + ":" + sessionId;
+    }
+
+    // 메시지 리스트는 바이너리 원소를 담으므로 바이트 키로 접근
+    private byte[] messagesKeyBytes(Integer userId, String sessionId) {
+        return messagesKey(userId, sessionId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String legacySessionKey(Integer userId, String sessionId) {
+        return LEGACY_SESSION_KEY_PREFIX + userId + ":" + sessionId;
+    }
+
+    private String sessionIndexKey(Integer userId) {
+        return SESSION_INDEX_KEY_PREFIX + userId;
+    }
+
+    // 이 시각 이전에 마지막으로 활동한 세션은 이미 만료됨
+    private static long expiredBefore() {
+        return System.currentTimeMillis() - SESSION_TTL.toMillis();
+    }
 
     // 대화 메시지 저장 (24시간 TTL)
     public void saveChatMessage(Integer userId, String sessionId, String userMessage, String aiResponse) {
         try {
-            String key = "chat:session:" + userId + ":" + sessionId;
-            
-            // 기존 대화 조회
-            List<ChatMessageDTO> messages = getChatHistory(userId, sessionId);
-            
-            // 새 메시지 추가
-            messages.add(new ChatMessageDTO("user", userMessage));
-            messages.add(new ChatMessageDTO("bot", aiResponse));
-            
-            // 최대 50개 메시지로 제한
-            if (messages.size() > 50) {
-                messages = messages.subList(messages.size() - 50, messages.size());
-            }
-            
-            // Redis에 저장 (24시간 TTL)
-            String jsonData = objectMapper.writeValueAsString(messages);
-            redisTemplate.opsForValue().set(key, jsonData, Duration.ofHours(24));
-            
-            log.info("챗봇 메시지 저장 완료 - userId: {}, sessionId: {}, 메시지 수: {}", 
-                    userId, sessionId, messages.size());
-                    
+            append(userId, sessionId, List.of(
+                    new ChatMessageDTO("user", userMessage),
+                    new ChatMessageDTO("bot", aiResponse)));
+            log.info("챗봇 메시지 저장 완료 - userId: {}, sessionId: {}", userId, sessionId);
         } catch (Exception e) {
             log.error("챗봇 메시지 저장 실패 - userId: {}, sessionId: {}", userId, sessionId, e);
         }
@@ -52,50 +112,56 @@ public class ChatbotRedisService {
     // 초기 메시지 저장 (영상 추천 또는 상담)
     public void saveInitialMessage(Integer userId, String sessionId, String initialMessage, String messageType) {
         try {
-            String key = "chat:session:" + userId + ":" + sessionId;
-            
-            // 기존 대화 조회
-            List<ChatMessageDTO> messages = getChatHistory(userId, sessionId);
-            
-            // 대화 내역이 없을 때만 초기 메시지 추가
-            if (messages.isEmpty()) {
-                // 초기 메시지만 추가 (사용자 메시지 없이)
-                messages.add(new ChatMessageDTO("bot", initialMessage));
-                
-                // 최대 50개 메시지로 제한
-                if (messages.size() > 50) {
-                    messages = messages.subList(messages.size() - 50, messages.size());
-                }
-                
-                // Redis에 저장 (24시간 TTL)
-                String jsonData = objectMapper.writeValueAsString(messages);
-                redisTemplate.opsForValue().set(key, jsonData, Duration.ofHours(24));
-                
-                log.info("초기 메시지 저장 완료 - userId: {}, sessionId: {}, messageType: {}", 
+            migrateLegacySession(userId, sessionId);
+
+            // 대화 내역이 없을 때만 초기 메시지 추가 (사용자 메시지 없이)
+            Long size = redisTemplate.opsForList().size(messagesKey(userId, sessionId));
+            if (size == null || size == 0) {
+                append(userId, sessionId, List.of(new ChatMessageDTO("bot", initialMessage)));
+                log.info("초기 메시지 저장 완료 - userId: {}, sessionId: {}, messageType: {}",
                         userId, sessionId, messageType);
             } else {
-                log.info("대화 내역이 이미 존재하여 초기 메시지 저장 건너뜀 - userId: {}, sessionId: {}", 
+                log.info("대화 내역이 이미 존재하여 초기 메시지 저장 건너뜀 - userId: {}, sessionId: {}",
                         userId, sessionId);
             }
-                    
         } catch (Exception e) {
             log.error("초기 메시지 저장 실패 - userId: {}, sessionId: {}", userId, sessionId, e);
         }
     }
 
-    // 대화 기록 조회
+    // 대화 기록 조회 (전체, 최대 50개)
     public List<ChatMessageDTO> getChatHistory(Integer userId, String sessionId) {
+        return getChatHistory(userId, sessionId, 0, MAX_MESSAGES);
+    }
+
+    /**
+     * 대화 기록 페이지 조회 (LRANGE)
+     * 최신 메시지부터 offset개를 건너뛴 뒤 limit개를 시간순으로 반환
+     * 예: offset=0, limit=20 -> 가장 최근 20개
+     */
+    public List<ChatMessageDTO> getChatHistory(Integer userId, String sessionId, int offset, int limit) {
         try {
-            String key = "chat:session:" + userId + ":" + sessionId;
-            String data = redisTemplate.opsForValue().get(key);
-            
-            if (data != null) {
-                return objectMapper.readValue(data, new TypeReference<List<ChatMessageDTO>>() {});
+            if (limit <= 0) {
+                return new ArrayList<>();
             }
+            migrateLegacySession(userId, sessionId);
+            long skip = Math.max(0, offset);
+            long start = -(skip + limit);
+            long end = -(skip + 1);
+            byte[] key = messagesKeyBytes(userId, sessionId);
+            List<byte[]> values = redisTemplate.execute(
+                    (RedisCallback<List<byte[]>>) connection -> connection.listCommands().lRange(key, start, end));
+            List<ChatMessageDTO> messages = new ArrayList<>();
+            if (values != null) {
+                for (byte[] value : values) {
+                    messages.add(decode(value));
+                }
+            }
+            return messages;
         } catch (Exception e) {
             log.error("챗봇 기록 조회 실패 - userId: {}, sessionId: {}", userId, sessionId, e);
         }
-        
+
         return new ArrayList<>();
     }
 
@@ -106,52 +172,187 @@ public class ChatbotRedisService {
 
     // 사용자별 활성 세션 저장
     public void setActiveSession(Integer userId, String sessionId) {
-        String key = "chat:active:" + userId;
-        redisTemplate.opsForValue().set(key, sessionId, Duration.ofHours(24));
+        String key = ACTIVE_KEY_PREFIX + userId;
+        redisTemplate.opsForValue().set(key, sessionId, SESSION_TTL);
     }
 
     // 사용자별 활성 세션 조회
     public String getActiveSession(Integer userId) {
-        String key = "chat:active:" + userId;
+        String key = ACTIVE_KEY_PREFIX + userId;
         return redisTemplate.opsForValue().get(key);
     }
 
     // 세션 삭제
     public void deleteSession(Integer userId, String sessionId) {
-        String key = "chat:session:" + userId + ":" + sessionId;
-        redisTemplate.delete(key);
+        redisTemplate.delete(List.of(messagesKey(userId, sessionId), legacySessionKey(userId, sessionId)));
+        redisTemplate.opsForZSet().remove(sessionIndexKey(userId), sessionId);
     }
 
-    // 사용자별 모든 세션 조회
+    // 사용자별 모든 세션 조회 (최근 활동 순, 만료된 세션 제외)
     public List<String> getUserSessions(Integer userId) {
-        String pattern = "chat:session:" + userId + ":*";
-        return redisTemplate.keys(pattern).stream()
-                .map(key -> key.split(":")[3])
-                .toList();
+        Set<String> sessionIds = redisTemplate.opsForZSet()
+                .reverseRangeByScore(sessionIndexKey(userId), expiredBefore(), Double.POSITIVE_INFINITY);
+        return sessionIds != null ? new ArrayList<>(sessionIds) : new ArrayList<>();
     }
-    
+
     // 대화 내역에 무조건 메시지 추가
     public void forceAddMessage(Integer userId, String sessionId, String content, String messageType, String videoUrl) {
         try {
-            String key = "chat:session:" + userId + ":" + sessionId;
-            List<ChatMessageDTO> messages = getChatHistory(userId, sessionId);
+            ChatMessageDTO message = "video".equals(messageType) && videoUrl != null
+                    ? new ChatMessageDTO("bot", content, videoUrl)
+                    : new ChatMessageDTO("bot", content);
+            append(userId, sessionId, List.of(message));
+            log.info("강제 메시지 추가 완료 - userId: {}, sessionId: {}, messageType: {}, videoUrl: {}", userId, sessionId, messageType, videoUrl);
+        } catch (Exception e) {
+            log.error("강제 메시지 추가 실패 - userId: {}, sessionId: {}", userId, sessionId, e);
+        }
+    }
 
-            if ("video".equals(messageType) && videoUrl != null) {
-                messages.add(new ChatMessageDTO("bot", content, videoUrl));
-            } else {
-                messages.add(new ChatMessageDTO("bot", content));
+    // 메시지 추가 + 최근 50개 유지 + TTL 갱신 + 세션 색인 갱신 (한 번의 파이프라인)
+    private void append(Integer userId, String sessionId, List<ChatMessageDTO> messages) throws Exception {
+        migrateLegacySession(userId, sessionId);
+        byte[] key = messagesKeyBytes(userId, sessionId);
+        String indexKey = sessionIndexKey(userId);
+        byte[][] values = new byte[messages.size()][];
+        for (int i = 0; i < messages.size(); i++) {
+            values[i] = messageCodec.encode(messages.get(i));
+        }
+        long now = System.currentTimeMillis();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            conn.rPush(key, values);
+            conn.lTrim(key, -MAX_MESSAGES, -1);
+            conn.expire(key, SESSION_TTL.getSeconds());
+            conn.zAdd(indexKey, now, sessionId);
+            conn.zRemRangeByScore(indexKey, Double.NEGATIVE_INFINITY, now - SESSION_TTL.toMillis());
+            conn.expire(indexKey, SESSION_TTL.getSeconds());
+            return null;
+        });
+    }
+
+    private ChatMessageDTO decode(byte[] value) {
+        for (ChatMessageCodec codec : readableCodecs) {
+            if (codec.supports(value)) {
+                return codec.decode(value);
             }
+        }
+        throw new IllegalStateException("알 수 없는 대화 메시지 형식입니다.");
+    }
+
+    /**
+     * 이전 형식(JSON 배열 문자열) 세션을 리스트로 이동
+     * GETDEL로 한 요청만 옮기도록 하고, 그 사이 새로 추가된 메시지보다 앞에 오도록 LPUSH로 넣음
+     */
+    private void migrateLegacySession(Integer userId, String sessionId) throws Exception {
+        String legacy = redisTemplate.opsForValue().getAndDelete(legacySessionKey(userId, sessionId));
+        if (legacy == null) {
+            return;
+        }
+        List<ChatMessageDTO> messages = objectMapper.readValue(legacy, new TypeReference<List<ChatMessageDTO>>() {});
+        if (messages.isEmpty()) {
+            return;
+        }
+        List<byte[]> values = new ArrayList<>();
+        for (ChatMessageDTO message : messages) {
+            values.add(messageCodec.encode(message));
+        }
+        // LPUSH는 마지막 인자가 맨 앞에 오므로 역순으로 전달
+        Collections.reverse(values);
+        byte[] key = messagesKeyBytes(userId, sessionId);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            conn.lPush(key, values.toArray(new byte[0][]));
+            conn.lTrim(key, -MAX_MESSAGES, -1);
+            conn.expire(key, SESSION_TTL.getSeconds());
+            return null;
+        });
+        log.info("이전 형식 대화 기록 이동 완료 - userId: {}, sessionId: {}, 메시지 수: {}", userId, sessionId, messages.size());
+    }
 
-            // 최대 50개 제한
-            if (messages.size() > 50) {
-                messages = messages.subList(messages.size() - 50, messages.size());
+    /**
+     * 기존 대화 키를 세션 색인에 등록 (SCAN, 색인 도입 전 데이터 이전용)
+     * 마지막 활동 시각은 남은 TTL로 추정하며, 이미 색인된 세션은 덮어쓰지 않음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void indexExistingSessions() {
+        try {
+            int indexed = 0;
+            for (String prefix : List.of(MESSAGES_KEY_PREFIX, LEGACY_SESSION_KEY_PREFIX)) {
+                indexed += scanInBatches(prefix + "*", this::indexSessionKeys);
             }
+            log.info("챗봇 세션 색인 등록 완료 - 키 수: {}", indexed);
+        } catch (Exception e) {
+            log.error("챗봇 세션 색인 등록 실패", e);
+        }
+    }
 
-            String jsonData = objectMapper.writeValueAsString(messages);
-            redisTemplate.opsForValue().set(key, jsonData, Duration.ofHours(24));
-            log.info("강제 메시지 추가 완료 - userId: {}, sessionId: {}, messageType: {}, videoUrl: {}", userId, sessionId, messageType, videoUrl);
+    // 만료된 세션을 색인에서 정리 (메시지 저장이 없는 사용자의 색인 대상)
+    @Scheduled(fixedDelayString = "${chat-session-index.cleanup-interval-ms:3600000}",
+               initialDelayString = "${chat-session-index.cleanup-interval-ms:3600000}")
+    public void cleanupSessionIndexes() {
+        try {
+            int scanned = scanInBatches(SESSION_INDEX_KEY_PREFIX + "*", indexKeys -> {
+                double cutoff = expiredBefore();
+                redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    StringRedisConnection conn = (StringRedisConnection) connection;
+                    for (String indexKey : indexKeys) {
+                        conn.zRemRangeByScore(indexKey, Double.NEGATIVE_INFINITY, cutoff);
+                    }
+                    return null;
+                });
+            });
+            log.debug("챗봇 세션 색인 정리 완료 - 색인 수: {}", scanned);
         } catch (Exception e) {
-            log.error("강제 메시지 추가 실패 - userId: {}, sessionId: {}", userId, sessionId, e);
+            log.error("챗봇 세션 색인 정리 실패", e);
+        }
+    }
+
+    // pattern에 맞는 키를 SCAN으로 SCAN_BATCH_SIZE개씩 모아 처리
+    private int scanInBatches(String pattern, Consumer<List<String>> handler) {
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(SCAN_BATCH_SIZE).build();
+        int total = 0;
+        List<String> batch = new ArrayList<>();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= SCAN_BATCH_SIZE) {
+                    handler.accept(batch);
+                    total += batch.size();
+                    batch = new ArrayList<>();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            handler.accept(batch);
+            total += batch.size();
         }
+        return total;
+    }
+
+    // 대화 키({prefix}{userId}:{sessionId})의 남은 TTL로 마지막 활동 시각을 추정하여 색인에 등록
+    private void indexSessionKeys(List<String> keys) {
+        List<Object> ttls = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (String key : keys) {
+                conn.pTtl(key);
+            }
+            return null;
+        });
+        long now = System.currentTimeMillis();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (int i = 0; i < keys.size(); i++) {
+                String[] parts = keys.get(i).split(":");
+                if (parts.length != 4 || !(ttls.get(i) instanceof Long ttl) || ttl == -2) {
+                    continue;
+                }
+                // TTL이 없는 키(-1)는 지금 활동한 것으로 간주
+                long lastActivity = ttl < 0 ? now : now - (SESSION_TTL.toMillis() - ttl);
+                String indexKey = SESSION_INDEX_KEY_PREFIX + parts[2];
+                conn.zAdd(indexKey, lastActivity, parts[3], RedisZSetCommands.ZAddArgs.ifNotExists());
+                conn.expire(indexKey, SESSION_TTL.getSeconds());
+            }
+            return null;
+        });
     }
 }
@@ -3,6 +3,8 @@ package org.synergym.backendapi.service;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.synergym.backendapi.dto.CommentDTO;
+import org.synergym.backendapi.dto.SearchHitDTO;
+import org.synergym.backendapi.dto.SearchPageDTO;
 import org.synergym.backendapi.entity.Comment;
 
 import java.util.List;
@@ -39,6 +41,9 @@ public interface CommentService {
     // 내용으로 댓글 검색
     List<CommentDTO> searchComments(String keyword);
 
+    // 댓글 내용 검색 (관련도순, 페이징, 하이라이트 포함)
+    SearchPageDTO<SearchHitDTO<CommentDTO>> searchCommentsRanked(String keyword, Pageable pageable);
+
     // DTO -> Entity 변환
     default Comment DTOtoEntity(CommentDTO dto) {
         return Comment.builder()
@@ -2,10 +2,14 @@ package org.synergym.backendapi.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.synergym.backendapi.config.SearchIndexInitializer;
 import org.synergym.backendapi.dto.CommentDTO;
+import org.synergym.backendapi.dto.SearchHitDTO;
+import org.synergym.backendapi.dto.SearchPageDTO;
 import org.synergym.backendapi.entity.Comment;
 import org.synergym.backendapi.entity.Post;
 import org.synergym.backendapi.entity.User;
@@ -14,8 +18,12 @@ import org.synergym.backendapi.exception.ErrorCode;
 import org.synergym.backendapi.repository.CommentRepository;
 import org.synergym.backendapi.repository.PostRepository;
 import org.synergym.backendapi.repository.UserRepository;
+import org.synergym.backendapi.util.SearchTextUtils;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 //게시글 댓글의 생성, 수정, 삭제, 조회 등 비즈니스 로직 처리
@@ -28,6 +36,7 @@ public class CommentServiceImpl implements CommentService {
     private final PostRepository postRepository;
     private final PostCounterService postCounterService;
     private final NotificationService notificationService;
+    private final SearchIndexInitializer searchIndexInitializer;
 
     // ID로 댓글 조회 (없으면 예외 발생)
     private Comment findCommentById(int id) {
@@ -153,13 +162,66 @@ public class CommentServiceImpl implements CommentService {
         return commentRepository.countByUserId(userId);
     }
 
-    //댓글 내용 키워드 검색
+    //댓글 내용 키워드 검색 (관련도순 상위 결과만 반환)
     @Override
     @Transactional(readOnly = true)
     public List<CommentDTO> searchComments(String keyword) {
-        return commentRepository.findByContentContaining(keyword)
+        return searchCommentsRanked(keyword, PageRequest.of(0, SearchTextUtils.LEGACY_SEARCH_LIMIT))
+                .getContent()
                 .stream()
-                .map(this::entityToDTO)
+                .map(SearchHitDTO::getItem)
                 .collect(Collectors.toList());
     }
+
+    //댓글 내용 키워드 검색 (관련도순, 페이징, 하이라이트 포함)
+    @Override
+    @Transactional(readOnly = true)
+    public SearchPageDTO<SearchHitDTO<CommentDTO>> searchCommentsRanked(String keyword, Pageable pageable) {
+        if (keyword == null || keyword.isBlank()) {
+            return SearchPageDTO.empty(pageable);
+        }
+        String trimmed = keyword.trim();
+        String pattern = SearchTextUtils.toContainsPattern(trimmed);
+        // 정렬은 관련도로 고정 (클라이언트 sort 파라미터는 무시)
+        Pageable page = PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), SearchTextUtils.MAX_SEARCH_SIZE));
+        Page<Object[]> hits;
+        int keywordLength = SearchTextUtils.keywordLength(trimmed);
+        boolean truncated = false;
+        if (keywordLength >= SearchIndexInitializer.TRIGRAM_MIN_KEYWORD_LENGTH) {
+            hits = searchIndexInitializer.isTrigramAvailable()
+                    ? commentRepository.searchRanked(trimmed, pattern, page)
+                    : commentRepository.searchPlain(pattern, page);
+        } else if (keywordLength == SearchIndexInitializer.BIGRAM_KEYWORD_LENGTH && searchIndexInitializer.isBigramAvailable()) {
+            // '운동', '어깨' 같은 2글자 검색어는 bigram 인덱스로 전체 범위 검색
+            hits = commentRepository.searchByBigram(trimmed, pattern, page);
+        } else {
+            // 인덱스를 쓸 수 없는 검색어는 전체 테이블 대신 최근 댓글 범위만 검색하고, 범위 밖 댓글이 있으면 truncated로 알림
+            hits = commentRepository.searchRecent(pattern, SearchTextUtils.SHORT_KEYWORD_SCAN_LIMIT, page);
+            truncated = commentRepository.existsBeyondScanLimit(SearchTextUtils.SHORT_KEYWORD_SCAN_LIMIT);
+        }
+        if (hits.isEmpty()) {
+            return new SearchPageDTO<>(List.of(), page, hits.getTotalElements(), truncated);
+        }
+
+        List<Integer> ids = hits.getContent().stream()
+                .map(row -> ((Number) row[0]).intValue())
+                .collect(Collectors.toList());
+        Map<Integer, Comment> commentsById = commentRepository.findWithUserAndPostByIdIn(ids).stream()
+                .collect(Collectors.toMap(Comment::getId, Function.identity()));
+
+        List<SearchHitDTO<CommentDTO>> content = new ArrayList<>();
+        for (Object[] row : hits.getContent()) {
+            Comment comment = commentsById.get(((Number) row[0]).intValue());
+            if (comment == null) {
+                continue;
+            }
+            String snippet = SearchTextUtils.highlight(comment.getContent(), trimmed);
+            content.add(SearchHitDTO.<CommentDTO>builder()
+                    .item(entityToDTO(comment))
+                    .score(((Number) row[1]).doubleValue())
+                    .highlights(snippet != null ? List.of(snippet) : List.of())
+                    .build());
+        }
+        return new SearchPageDTO<>(content, page, hits.getTotalElements(), truncated);
+    }
 } 
\ No newline at end of file
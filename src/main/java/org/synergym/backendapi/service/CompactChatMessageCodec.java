@@ -0,0 +1,192 @@
+package org.synergym.backendapi.service;
+
+import org.synergym.backendapi.dto.ChatMessageDTO;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 압축 바이너리 형식
+ * 필드 이름 없이 값만 순서대로 저장하고, 본문이 임계값보다 크면 Deflate로 압축
+ *
+ * [구조]
+ * - 1바이트 헤더: 0xC1(비압축) / 0xC2(압축, 뒤에 원본 길이 varint + Deflate 데이터)
+ * - 본문: 유형(0 user, 1 bot, 2 기타 + 문자열) / 필드 존재 플래그 / 내용 / 영상 URL / 시각(초 varint + 나노초 varint)
+ * - 문자열: UTF-8 길이 varint + 바이트
+ */
+public class CompactChatMessageCodec implements ChatMessageCodec {
+
+    private static final byte PLAIN = (byte) 0xC1;
+    private static final byte DEFLATED = (byte) 0xC2;
+
+    private static final int TYPE_USER = 0;
+    private static final int TYPE_BOT = 1;
+    private static final int TYPE_OTHER = 2;
+
+    private static final int HAS_CONTENT = 1;
+    private static final int HAS_VIDEO_URL = 1 << 1;
+    private static final int HAS_TIMESTAMP = 1 << 2;
+
+    private final int compressThreshold;
+
+    public CompactChatMessageCodec(int compressThreshold) {
+        this.compressThreshold = compressThreshold;
+    }
+
+    @Override
+    public byte[] encode(ChatMessageDTO message) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(64);
+        if ("user".equals(message.getType())) {
+            body.write(TYPE_USER);
+        } else if ("bot".equals(message.getType())) {
+            body.write(TYPE_BOT);
+        } else {
+            body.write(TYPE_OTHER);
+            writeString(body, message.getType() != null ? message.getType() : "");
+        }
+        int flags = (message.getContent() != null ? HAS_CONTENT : 0)
+                | (message.getVideoUrl() != null ? HAS_VIDEO_URL : 0)
+                | (message.getTimestamp() != null ? HAS_TIMESTAMP : 0);
+        body.write(flags);
+        if (message.getContent() != null) {
+            writeString(body, message.getContent());
+        }
+        if (message.getVideoUrl() != null) {
+            writeString(body, message.getVideoUrl());
+        }
+        if (message.getTimestamp() != null) {
+            writeVarLong(body, message.getTimestamp().toEpochSecond(ZoneOffset.UTC));
+            writeVarLong(body, message.getTimestamp().getNano());
+        }
+
+        byte[] plain = body.toByteArray();
+        if (plain.length >= compressThreshold) {
+            byte[] deflated = deflate(plain);
+            // 압축 효과가 없으면 원본 저장
+            if (deflated.length + 6 < plain.length) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream(deflated.length + 6);
+                out.write(DEFLATED);
+                writeVarLong(out, plain.length);
+                out.writeBytes(deflated);
+                return out.toByteArray();
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(plain.length + 1);
+        out.write(PLAIN);
+        out.writeBytes(plain);
+        return out.toByteArray();
+    }
+
+    @Override
+    public ChatMessageDTO decode(byte[] data) {
+        ByteBuffer buffer = ByteBuffer.wrap(data, 1, data.length - 1);
+        if (data[0] == DEFLATED) {
+            int length = (int) readVarLong(buffer);
+            buffer = ByteBuffer.wrap(inflate(data, buffer.position(), length));
+        }
+
+        ChatMessageDTO message = new ChatMessageDTO();
+        int type = buffer.get();
+        message.setType(switch (type) {
+            case TYPE_USER -> "user";
+            case TYPE_BOT -> "bot";
+            default -> readString(buffer);
+        });
+        int flags = buffer.get();
+        message.setContent((flags & HAS_CONTENT) != 0 ? readString(buffer) : null);
+        message.setVideoUrl((flags & HAS_VIDEO_URL) != 0 ? readString(buffer) : null);
+        if ((flags & HAS_TIMESTAMP) != 0) {
+            long epochSecond = readVarLong(buffer);
+            int nano = (int) readVarLong(buffer);
+            message.setTimestamp(LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC));
+        } else {
+            message.setTimestamp(null);
+        }
+        return message;
+    }
+
+    @Override
+    public boolean supports(byte[] data) {
+        return data.length > 0 && (data[0] == PLAIN || data[0] == DEFLATED);
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.writeBytes(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = (int) readVarLong(buffer);
+        String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    // 부호 없는 7비트 가변 길이 정수 (작은 값일수록 적은 바이트)
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("잘못된 대화 메시지 형식입니다.");
+    }
+
+    private static byte[] deflate(byte[] plain) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try {
+            deflater.setInput(plain);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(plain.length / 2 + 16);
+            byte[] chunk = new byte[1024];
+            while (!deflater.finished()) {
+                out.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] data, int offset, int length) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data, offset, data.length - offset);
+            byte[] plain = new byte[length];
+            int read = 0;
+            while (read < length) {
+                int n = inflater.inflate(plain, read, length - read);
+                if (n == 0 && (inflater.finished() || inflater.needsInput())) {
+                    break;
+                }
+                read += n;
+            }
+            if (read != length) {
+                throw new IllegalStateException("잘못된 대화 메시지 형식입니다.");
+            }
+            return plain;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("잘못된 대화 메시지 형식입니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
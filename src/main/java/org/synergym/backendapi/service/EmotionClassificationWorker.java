@@ -0,0 +1,211 @@
+package org.synergym.backendapi.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.synergym.backendapi.entity.EmotionClassificationJob;
+import org.synergym.backendapi.entity.EmotionLog;
+import org.synergym.backendapi.entity.EmotionType;
+import org.synergym.backendapi.entity.ExerciseLog;
+import org.synergym.backendapi.repository.EmotionClassificationJobRepository;
+import org.synergym.backendapi.repository.EmotionLogRepository;
+import org.synergym.backendapi.repository.ExerciseLogRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 감정 분류 작업 처리기
+ * 운동 기록/감성 기록 저장 요청은 작업만 등록하고 바로 응답하며,
+ * 이 워커가 주기적으로 작업을 묶음으로 가져가 FastAPI 분류 결과를 EmotionLog로 반영
+ *
+ * [처리 흐름]
+ * 1. 짧은 트랜잭션에서 처리 가능한 작업을 SKIP LOCKED로 잠그고 PROCESSING으로 점유
+ * 2. 트랜잭션 밖에서 EmotionClassifier로 분류 (DB 연결을 잡지 않음, 캐시 미스 메모는 묶음 호출로 합쳐짐)
+ * 3. 작업별 트랜잭션에서 결과 반영, 실패 시 지수 backoff로 재시도
+ *
+ * [실행 스레드]
+ * - 분류 대기(block)가 길어질 수 있으므로 @Scheduled 공용 스케줄러가 아닌 전용 스레드에서 폴링
+ *   (집계 flush, 대시보드/랭킹 재계산 등 다른 주기 작업을 막지 않음)
+ *
+ * [정리]
+ * - 점유가 최대 시도 횟수만큼 만료된 작업(처리 중 노드 장애 반복)은 다시 가져가지 않고 FAILED 처리
+ * - 완료(DONE) 작업은 retention-days가 지나면 purge-interval마다 삭제
+ */
+@Slf4j
+@Component
+public class EmotionClassificationWorker {
+
+    private static final Duration BASE_RETRY_DELAY = Duration.ofSeconds(10);
+    // 완료 작업 삭제 시 한 번에 지우는 행 수
+    private static final int PURGE_BATCH_SIZE = 1000;
+
+    private final EmotionClassificationJobRepository jobRepository;
+    private final ExerciseLogRepository exerciseLogRepository;
+    private final EmotionLogRepository emotionLogRepository;
+    private final EmotionClassifier emotionClassifier;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final long pollIntervalMs;
+    private final long purgeIntervalMs;
+    private final Duration retention;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "emotion-classification-worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public EmotionClassificationWorker(EmotionClassificationJobRepository jobRepository,
+                                       ExerciseLogRepository exerciseLogRepository,
+                                       EmotionLogRepository emotionLogRepository,
+                                       EmotionClassifier emotionClassifier,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${emotion-classification.batch-size:20}") int batchSize,
+                                       @Value("${emotion-classification.max-attempts:5}") int maxAttempts,
+                                       @Value("${emotion-classification.lease-ms:60000}") long leaseMs,
+                                       @Value("${emotion-classification.poll-interval-ms:1000}") long pollIntervalMs,
+                                       @Value("${emotion-classification.purge-interval-ms:3600000}") long purgeIntervalMs,
+                                       @Value("${emotion-classification.retention-days:7}") long retentionDays) {
+        this.jobRepository = jobRepository;
+        this.exerciseLogRepository = exerciseLogRepository;
+        this.emotionLogRepository = emotionLogRepository;
+        this.emotionClassifier = emotionClassifier;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = Duration.ofMillis(leaseMs);
+        this.pollIntervalMs = pollIntervalMs;
+        this.purgeIntervalMs = purgeIntervalMs;
+        this.retention = Duration.ofDays(retentionDays);
+    }
+
+    // 애플리케이션 준비 후 전용 스레드에서 폴링/정리 시작 (같은 스레드이므로 서로 겹치지 않음)
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::processPendingJobs, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::purgeDoneJobs, purgeIntervalMs, purgeIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    // 분류 결과 (실패 시 emotion은 null)
+    private record Outcome(Integer jobId, EmotionType emotion, String error) {
+    }
+
+    public void processPendingJobs() {
+        try {
+            List<EmotionClassificationJob> jobs;
+            // 가져온 작업 수가 묶음 크기와 같으면 남은 작업이 있을 수 있으므로 이어서 처리
+            do {
+                jobs = claimBatch();
+                if (!jobs.isEmpty()) {
+                    processBatch(jobs);
+                }
+            } while (jobs.size() == batchSize);
+        } catch (Exception e) {
+            log.error("Emotion classification worker failed", e);
+        }
+    }
+
+    private List<EmotionClassificationJob> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            int exhausted = jobRepository.failExhaustedLeases(now, maxAttempts);
+            if (exhausted > 0) {
+                log.warn("Emotion classification jobs failed after repeated lease expiry - count: {}", exhausted);
+            }
+            List<Integer> jobIds = jobRepository.lockClaimableJobIds(now, maxAttempts, batchSize);
+            if (jobIds.isEmpty()) {
+                return List.<EmotionClassificationJob>of();
+            }
+            jobRepository.markProcessing(jobIds, now, now.plus(lease));
+            return jobRepository.findAllById(jobIds);
+        });
+    }
+
+    // retention이 지난 완료 작업 삭제 (짧은 트랜잭션으로 나누어 삭제)
+    public void purgeDoneJobs() {
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+            int total = 0;
+            Integer deleted;
+            do {
+                deleted = transactionTemplate.execute(status -> jobRepository.deleteDoneJobsBefore(cutoff, PURGE_BATCH_SIZE));
+                total += deleted != null ? deleted : 0;
+            } while (deleted != null && deleted == PURGE_BATCH_SIZE);
+            if (total > 0) {
+                log.info("Purged done emotion classification jobs - count: {}", total);
+            }
+        } catch (Exception e) {
+            log.error("Failed to purge done emotion classification jobs", e);
+        }
+    }
+
+    private void processBatch(List<EmotionClassificationJob> jobs) {
+        // 묶음 전체를 한 번에 요청해야 캐시 미스 메모가 하나의 분류 호출로 합쳐짐 (점유 시간 안에 끝나도록 대기)
+        List<Outcome> outcomes = Flux.fromIterable(jobs)
+                .flatMap(job -> emotionClassifier.classify(job.getMemo())
+                        .map(emotion -> new Outcome(job.getId(), emotion, null))
+                        .onErrorResume(e -> Mono.just(new Outcome(job.getId(), null, e.getMessage()))))
+                .collectList()
+                .block(lease);
+
+        if (outcomes == null) {
+            return;
+        }
+        for (Outcome outcome : outcomes) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> applyOutcome(outcome));
+            } catch (Exception e) {
+                log.error("Failed to apply emotion classification - jobId: {}", outcome.jobId(), e);
+            }
+        }
+        log.debug("Processed emotion classification jobs - count: {}", outcomes.size());
+    }
+
+    private void applyOutcome(Outcome outcome) {
+        Optional<EmotionClassificationJob> found = jobRepository.findById(outcome.jobId());
+        if (found.isEmpty()) {
+            return;
+        }
+        EmotionClassificationJob job = found.get();
+
+        if (outcome.emotion() == null) {
+            long delaySeconds = BASE_RETRY_DELAY.getSeconds() << Math.min(job.getAttempts() - 1, 10);
+            job.fail(outcome.error(), maxAttempts, LocalDateTime.now().plusSeconds(delaySeconds));
+            log.warn("Emotion classification failed - jobId: {}, attempts: {}, error: {}",
+                    job.getId(), job.getAttempts(), outcome.error());
+            return;
+        }
+
+        // 처리 전에 운동 기록이 삭제되었거나 메모가 바뀌었으면(새 작업이 등록됨) 결과를 버림
+        Optional<ExerciseLog> exerciseLog = exerciseLogRepository.findById(job.getExerciseLogId());
+        if (exerciseLog.isPresent() && job.getMemo().equals(exerciseLog.get().getMemo())) {
+            EmotionLog emotionLog = emotionLogRepository.findByExerciseLog(exerciseLog.get())
+                    .orElseGet(() -> EmotionLog.builder().exerciseLog(exerciseLog.get()).build());
+            emotionLog.updateEmotion(outcome.emotion());
+            emotionLogRepository.save(emotionLog);
+        }
+        job.complete();
+    }
+}
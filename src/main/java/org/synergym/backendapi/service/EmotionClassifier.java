@@ -0,0 +1,356 @@
+package org.synergym.backendapi.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.synergym.backendapi.dto.EmotionAnalysisRequest;
+import org.synergym.backendapi.dto.EmotionResponseDTO;
+import org.synergym.backendapi.entity.EmotionType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 감정 분류 클라이언트 (FastAPI /emotion, ai-gateway 경로: emotion)
+ * 같은 메모를 반복 분류하지 않도록 캐시하고, 짧은 시간 안에 들어온 메모를 묶어 한 번에 분류
+ *
+ * [캐시]
+ * - 키: 공백 정리 + 소문자화한 메모의 SHA-256
+ * - 1차: 노드 로컬 LRU, 2차: Redis (emotion:label:{hash})
+ *
+ * [묶음 처리]
+ * - 캐시에 없는 메모는 대기열에 모았다가 max-batch-size에 도달하거나 max-wait가 지나면 한 번에 전송
+ * - 같은 메모가 처리 중이면 새로 보내지 않고 같은 결과를 공유
+ * - FastAPI에 묶음 엔드포인트가 없으면(404) 메모별 단건 호출로 대체하고, backoff(1분부터 2배씩, 최대 30분) 후 다시 확인
+ * - 단건 호출은 메모별로 결과/오류를 따로 반영 (한 메모의 실패가 같은 묶음의 다른 메모를 실패시키지 않음)
+ *
+ * [지표]
+ * - emotion.classifier.cache.requests (result=local_hit|redis_hit|miss), emotion.classifier.cache.hit.ratio
+ * - emotion.classifier.batch.size
+ */
+@Slf4j
+@Component
+public class EmotionClassifier {
+
+    private static final String CACHE_KEY_PREFIX = "emotion:label:";
+    private static final Duration CACHE_TTL = Duration.ofDays(30);
+    private static final String ROUTE = "emotion";
+    // 묶음 엔드포인트가 없을 때 단건 호출 동시 수 (ai-gateway 동시 요청 제한보다 작게)
+    private static final int SINGLE_REQUEST_CONCURRENCY = 4;
+    // 묶음 엔드포인트 재확인 간격 (404가 반복되면 2배씩 늘림)
+    private static final Duration BATCH_REPROBE_INITIAL_BACKOFF = Duration.ofMinutes(1);
+    private static final Duration BATCH_REPROBE_MAX_BACKOFF = Duration.ofMinutes(30);
+
+    private final AiGatewayClient aiGatewayClient;
+    private final StringRedisTemplate redisTemplate;
+    private final int maxBatchSize;
+    private final long maxWaitMs;
+    private final String batchPath;
+
+    private final Map<String, EmotionType> localCache;
+    private final ScheduledExecutorService flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "emotion-classifier-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter misses;
+    private final DistributionSummary batchSizes;
+
+    // 대기열과 처리 중인 메모 (lock으로 보호)
+    private final Object lock = new Object();
+    private List<PendingMemo> buffer = new ArrayList<>();
+    private final Map<String, Sinks.One<EmotionType>> inFlight = new HashMap<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    // 묶음 엔드포인트를 다시 사용해 볼 시각과 다음 backoff (404 이후)
+    private volatile long batchEndpointRetryAt;
+    private volatile long batchEndpointBackoffMs = BATCH_REPROBE_INITIAL_BACKOFF.toMillis();
+
+    // 분류 대기 중인 메모 (key: 캐시 키, text: 전송할 메모)
+    private record PendingMemo(String key, String text) {
+    }
+
+    // 단건 호출 결과 (response 또는 error 중 하나)
+    private record MemoResult(PendingMemo memo, EmotionResponseDTO response, Throwable error) {
+    }
+
+    public EmotionClassifier(AiGatewayClient aiGatewayClient,
+                             StringRedisTemplate redisTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${emotion-classification.max-batch-size:32}") int maxBatchSize,
+                             @Value("${emotion-classification.max-wait-ms:50}") long maxWaitMs,
+                             @Value("${emotion-classification.cache-size:10000}") int cacheSize,
+                             @Value("${emotion-classification.batch-path:/emotion/batch}") String batchPath) {
+        this.aiGatewayClient = aiGatewayClient;
+        this.redisTemplate = redisTemplate;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitMs = maxWaitMs;
+        this.batchPath = batchPath;
+        this.localCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, EmotionType> eldest) {
+                return size() > cacheSize;
+            }
+        });
+
+        this.localHits = Counter.builder("emotion.classifier.cache.requests").tag("result", "local_hit").register(meterRegistry);
+        this.redisHits = Counter.builder("emotion.classifier.cache.requests").tag("result", "redis_hit").register(meterRegistry);
+        this.misses = Counter.builder("emotion.classifier.cache.requests").tag("result", "miss").register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("emotion.classifier.batch.size").register(meterRegistry);
+        Gauge.builder("emotion.classifier.cache.hit.ratio", this, EmotionClassifier::hitRatio).register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushScheduler.shutdown();
+    }
+
+    private double hitRatio() {
+        double hits = localHits.count() + redisHits.count();
+        double total = hits + misses.count();
+        return total == 0 ? 0.0 : hits / total;
+    }
+
+    /**
+     * 메모 감정 분류
+     * 캐시에 있으면 바로 반환하고, 없으면 묶음 처리 대기열에 넣은 뒤 결과를 기다림
+     * (Redis 조회가 있으므로 요청 처리 스레드가 아닌 워커 스레드에서 호출)
+     */
+    public Mono<EmotionType> classify(String memo) {
+        String text = normalize(memo);
+        if (text.isEmpty()) {
+            return Mono.just(EmotionType.NEUTRAL);
+        }
+        String key = cacheKey(text);
+
+        EmotionType cached = localCache.get(key);
+        if (cached != null) {
+            localHits.increment();
+            return Mono.just(cached);
+        }
+        EmotionType stored = readRedis(key);
+        if (stored != null) {
+            redisHits.increment();
+            localCache.put(key, stored);
+            return Mono.just(stored);
+        }
+        misses.increment();
+        return enqueue(key, text);
+    }
+
+    private Mono<EmotionType> enqueue(String key, String text) {
+        List<PendingMemo> ready = null;
+        Sinks.One<EmotionType> sink;
+        synchronized (lock) {
+            sink = inFlight.get(key);
+            if (sink == null) {
+                sink = Sinks.one();
+                inFlight.put(key, sink);
+                buffer.add(new PendingMemo(key, text));
+                if (buffer.size() >= maxBatchSize) {
+                    ready = takeBuffer();
+                } else if (scheduledFlush == null) {
+                    scheduledFlush = flushScheduler.schedule(this::flush, maxWaitMs, TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+        if (ready != null) {
+            send(ready);
+        }
+        return sink.asMono();
+    }
+
+    // max-wait 경과 시 대기열 전송
+    private void flush() {
+        List<PendingMemo> ready;
+        synchronized (lock) {
+            scheduledFlush = null;
+            if (buffer.isEmpty()) {
+                return;
+            }
+            ready = takeBuffer();
+        }
+        send(ready);
+    }
+
+    // lock을 잡은 상태에서 호출
+    private List<PendingMemo> takeBuffer() {
+        List<PendingMemo> ready = buffer;
+        buffer = new ArrayList<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return ready;
+    }
+
+    private void send(List<PendingMemo> batch) {
+        batchSizes.record(batch.size());
+        if (batch.size() == 1 || System.currentTimeMillis() < batchEndpointRetryAt) {
+            sendEach(batch);
+            return;
+        }
+        List<String> memos = batch.stream().map(PendingMemo::text).toList();
+        aiGatewayClient.execute(ROUTE, webClient -> webClient.post()
+                        .uri(batchPath)
+                        .bodyValue(Map.of("memos", memos))
+                        .retrieve()
+                        .bodyToFlux(EmotionResponseDTO.class)
+                        .collectList())
+                // 결과 반영(Redis 쓰기)은 네트워크 스레드가 아닌 별도 스레드에서
+                .publishOn(Schedulers.boundedElastic())
+                .subscribe(labels -> {
+                    batchEndpointBackoffMs = BATCH_REPROBE_INITIAL_BACKOFF.toMillis();
+                    complete(batch, labels);
+                }, error -> {
+                    if (error instanceof WebClientResponseException.NotFound) {
+                        markBatchEndpointUnavailable();
+                        sendEach(batch);
+                    } else {
+                        fail(batch, error);
+                    }
+                });
+    }
+
+    // 묶음 엔드포인트가 없으면 backoff 동안 단건 호출 (backoff가 지나면 다시 묶음으로 시도)
+    private void markBatchEndpointUnavailable() {
+        long backoffMs = batchEndpointBackoffMs;
+        batchEndpointRetryAt = System.currentTimeMillis() + backoffMs;
+        batchEndpointBackoffMs = Math.min(backoffMs * 2, BATCH_REPROBE_MAX_BACKOFF.toMillis());
+        log.warn("Emotion batch endpoint not available ({}), using single requests for {}s", batchPath, backoffMs / 1000);
+    }
+
+    // 메모별 단건 호출, 응답이 오는 대로 해당 메모에만 결과/오류 반영
+    private void sendEach(List<PendingMemo> batch) {
+        Flux.fromIterable(batch)
+                .flatMap(memo -> aiGatewayClient.post(
+                                ROUTE, "/emotion", new EmotionAnalysisRequest(memo.text()), EmotionResponseDTO.class)
+                        .map(response -> new MemoResult(memo, response, null))
+                        .switchIfEmpty(Mono.fromSupplier(() -> new MemoResult(memo, null, null)))
+                        .onErrorResume(error -> Mono.just(new MemoResult(memo, null, error))),
+                        SINGLE_REQUEST_CONCURRENCY)
+                .publishOn(Schedulers.boundedElastic())
+                .subscribe(result -> {
+                    if (result.error() != null) {
+                        failOne(result.memo(), result.error());
+                    } else {
+                        completeOne(result.memo(), result.response());
+                    }
+                });
+    }
+
+    private void complete(List<PendingMemo> batch, List<EmotionResponseDTO> labels) {
+        if (labels.size() != batch.size()) {
+            fail(batch, new IllegalStateException(
+                    "감정 분류 결과 수가 요청 수와 다릅니다: " + labels.size() + " / " + batch.size()));
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            completeOne(batch.get(i), labels.get(i));
+        }
+    }
+
+    private void completeOne(PendingMemo memo, EmotionResponseDTO response) {
+        Sinks.One<EmotionType> sink = removeInFlight(memo.key());
+        if (sink == null) {
+            return;
+        }
+        String label = response != null ? response.getLabel() : null;
+        if (label == null) {
+            sink.tryEmitError(new IllegalStateException("메모로부터 감정을 분류할 수 없습니다."));
+            return;
+        }
+        try {
+            EmotionType emotion = EmotionType.valueOf(label);
+            localCache.put(memo.key(), emotion);
+            writeRedis(memo.key(), emotion);
+            sink.tryEmitValue(emotion);
+        } catch (IllegalArgumentException e) {
+            sink.tryEmitError(new IllegalStateException("알 수 없는 감정 분류 결과입니다: " + label));
+        }
+    }
+
+    private void fail(List<PendingMemo> batch, Throwable error) {
+        for (PendingMemo memo : batch) {
+            failOne(memo, error);
+        }
+    }
+
+    private void failOne(PendingMemo memo, Throwable error) {
+        Sinks.One<EmotionType> sink = removeInFlight(memo.key());
+        if (sink != null) {
+            sink.tryEmitError(error);
+        }
+    }
+
+    private Sinks.One<EmotionType> removeInFlight(String key) {
+        synchronized (lock) {
+            return inFlight.remove(key);
+        }
+    }
+
+    private EmotionType readRedis(String key) {
+        try {
+            String value = redisTemplate.opsForValue().get(CACHE_KEY_PREFIX + key);
+            return value != null ? EmotionType.valueOf(value) : null;
+        } catch (Exception e) {
+            log.warn("Failed to read emotion label cache: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, EmotionType emotion) {
+        try {
+            redisTemplate.opsForValue().set(CACHE_KEY_PREFIX + key, emotion.name(), CACHE_TTL);
+        } catch (Exception e) {
+            log.warn("Failed to write emotion label cache: {}", e.getMessage());
+        }
+    }
+
+    // 앞뒤 공백 제거 + 연속 공백을 하나로 (모델에는 이 텍스트를 전송)
+    private static String normalize(String memo) {
+        if (memo == null) {
+            return "";
+        }
+        return memo.strip().replaceAll("\\s+", " ");
+    }
+
+    // 대소문자만 다른 메모는 같은 키로 취급
+    private static String cacheKey(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(text.toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -11,17 +11,16 @@ import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
-import org.synergym.backendapi.dto.EmotionAnalysisRequest;
 import org.synergym.backendapi.dto.EmotionLogDTO;
-import org.synergym.backendapi.dto.EmotionResponseDTO;
 import org.synergym.backendapi.dto.EmotionStatsDTO;
+import org.synergym.backendapi.entity.EmotionClassificationJob;
 import org.synergym.backendapi.entity.EmotionLog;
 import org.synergym.backendapi.entity.EmotionType;
 import org.synergym.backendapi.entity.ExerciseLog;
 import org.synergym.backendapi.entity.User;
 import org.synergym.backendapi.exception.EntityNotFoundException;
 import org.synergym.backendapi.exception.ErrorCode;
+import org.synergym.backendapi.repository.EmotionClassificationJobRepository;
 import org.synergym.backendapi.repository.EmotionLogRepository;
 import org.synergym.backendapi.repository.ExerciseLogRepository;
 import org.synergym.backendapi.repository.UserRepository;
@@ -33,8 +32,10 @@ import lombok.RequiredArgsConstructor;
 public class EmotionLogServiceImpl implements EmotionLogService {
     private final EmotionLogRepository emotionLogRepository;
     private final ExerciseLogRepository exerciseLogRepository;
+    private final ExerciseFrequencyRanking exerciseFrequencyRanking;
+    private final ActivityCalendarService activityCalendarService;
     private final UserRepository userRepository;
-    private final WebClient fastApiWebClient;
+    private final EmotionClassificationJobRepository emotionClassificationJobRepository;
 
     private User findUserById(int id) {
         return userRepository.findById(id)
@@ -59,20 +60,6 @@ public class EmotionLogServiceImpl implements EmotionLogService {
         }
         // --- 끝: 메모가 비어있을 때의 처리
 
-        // --- 시작: FastAPI 호출
-        EmotionResponseDTO emotionResponse = fastApiWebClient.post()
-                .uri("/emotion")
-                .bodyValue(new EmotionAnalysisRequest(dto.getMemo()))
-                .retrieve()
-                .bodyToMono(EmotionResponseDTO.class)
-                .block();
-
-        if (emotionResponse == null || emotionResponse.getLabel() == null) {
-            throw new IllegalStateException("메모로부터 감정을 분류할 수 없습니다.");
-        }
-        // --- 끝: FastAPI 호출 ---
-
-
         // --- 시작: '메인' 운동 로그 찾기
         List<ExerciseLog> logsForDay = exerciseLogRepository.findByUserAndExerciseDate(user, dto.getExerciseDate());
 
@@ -97,28 +84,30 @@ public class EmotionLogServiceImpl implements EmotionLogService {
                     .memo(dto.getMemo())
                     .build();
             exerciseLog = exerciseLogRepository.save(newExerciseLog);
+            exerciseFrequencyRanking.recordLogAdded(user.getId(), exerciseLog.getExerciseDate());
+            activityCalendarService.recordLogAdded(user.getId(), exerciseLog.getExerciseDate());
         } else {
             exerciseLog.updateMemo(dto.getMemo());
         }
         // --- 끝: 운동 로그 생성 또는 업데이트 ---
 
-        EmotionType classifiedEmotion = EmotionType.valueOf(emotionResponse.getLabel());
-
-        Optional<EmotionLog> emotionLogOptional = emotionLogRepository.findByExerciseLog(exerciseLog);
-
-        EmotionLog emotionLog;
-        if (emotionLogOptional.isPresent()) {
-            emotionLog = emotionLogOptional.get();
-        } else {
-            emotionLog = EmotionLog.builder()
-                    .exerciseLog(exerciseLog)
-                    .build();
-        }
-
-        emotionLog.updateEmotion(classifiedEmotion);
-        EmotionLog savedEmotionLog = emotionLogRepository.save(emotionLog);
-
-        return entityToDTO(savedEmotionLog);
+        // --- 시작: 감정 분류 작업 등록 (분류 결과는 EmotionClassificationWorker가 비동기로 반영)
+        emotionClassificationJobRepository.save(EmotionClassificationJob.builder()
+                .exerciseLogId(exerciseLog.getId())
+                .memo(dto.getMemo())
+                .build());
+        // --- 끝: 감정 분류 작업 등록 ---
+
+        // 기존 감정 기록이 있으면 새 분류 결과가 반영되기 전까지 이전 감정을 반환
+        ExerciseLog mainLog = exerciseLog;
+        return emotionLogRepository.findByExerciseLog(mainLog)
+                .map(this::entityToDTO)
+                .orElseGet(() -> EmotionLogDTO.builder()
+                        .userId(user.getId())
+                        .exerciseDate(mainLog.getExerciseDate())
+                        .logId(mainLog.getId())
+                        .memo(mainLog.getMemo())
+                        .build());
     }
 
     @Override
@@ -0,0 +1,266 @@
+package org.synergym.backendapi.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.synergym.backendapi.entity.Exercise;
+import org.synergym.backendapi.repository.ExerciseRepository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 운동 카탈로그 (읽기 전용 인메모리 스냅샷)
+ * Exercises 테이블은 시드 데이터 기반의 거의 변하지 않는 카탈로그이므로
+ * 시작 시 한 번 읽어 불변 스냅샷으로 보관하고, 검색은 DB 조회 없이 메모리에서 처리
+ *
+ * [인덱스]
+ * - ID, 정확한 이름, 카테고리, 부위, 자세, 난이도별 목록
+ * - 이름 bigram(2글자) 인덱스: 부분 일치 검색 시 후보를 좁힌 뒤 contains로 확인
+ *
+ * [갱신]
+ * - 운동 생성/삭제 시 트랜잭션 커밋 후 재적재
+ * - 같은 트랜잭션 안에서는 변경 내용이 보이도록 DB에서 새 스냅샷을 만들어 사용
+ * - 다른 노드의 변경을 반영하기 위해 주기적으로 재적재
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExerciseCatalog {
+
+    // 현재 트랜잭션에서 운동이 변경되었음을 표시하는 리소스 키
+    private static final Object DIRTY_KEY = ExerciseCatalog.class.getName() + ".DIRTY";
+
+    private final ExerciseRepository exerciseRepository;
+
+    private volatile Snapshot snapshot;
+
+    // 불변 스냅샷 (Exercise 엔티티는 setter가 없어 분리된 상태로 공유해도 안전)
+    private static final class Snapshot {
+        private final List<Exercise> all;
+        private final Map<Integer, Exercise> byId;
+        private final Map<String, List<Exercise>> byName;
+        private final Map<String, List<Exercise>> byCategory;
+        private final Map<String, List<Exercise>> byBodyPart;
+        private final Map<String, List<Exercise>> byPosture;
+        private final Map<String, List<Exercise>> byDifficulty;
+        private final Map<String, List<Exercise>> nameBigrams;
+
+        private Snapshot(List<Exercise> exercises) {
+            List<Exercise> sorted = new ArrayList<>(exercises);
+            sorted.sort(Comparator.comparingInt(Exercise::getId));
+            this.all = Collections.unmodifiableList(sorted);
+
+            Map<Integer, Exercise> ids = new HashMap<>();
+            for (Exercise exercise : sorted) {
+                ids.put(exercise.getId(), exercise);
+            }
+            this.byId = Collections.unmodifiableMap(ids);
+            this.byName = groupBy(sorted, Exercise::getName);
+            this.byCategory = groupBy(sorted, Exercise::getCategory);
+            this.byBodyPart = groupBy(sorted, Exercise::getBodyPart);
+            this.byPosture = groupBy(sorted, Exercise::getPosture);
+            this.byDifficulty = groupBy(sorted, Exercise::getDifficulty);
+
+            Map<String, List<Exercise>> bigrams = new HashMap<>();
+            for (Exercise exercise : sorted) {
+                for (String bigram : bigramsOf(exercise.getName())) {
+                    bigrams.computeIfAbsent(bigram, key -> new ArrayList<>()).add(exercise);
+                }
+            }
+            bigrams.replaceAll((key, list) -> Collections.unmodifiableList(list));
+            this.nameBigrams = Collections.unmodifiableMap(bigrams);
+        }
+
+        private static Map<String, List<Exercise>> groupBy(List<Exercise> exercises, Function<Exercise, String> key) {
+            Map<String, List<Exercise>> grouped = new HashMap<>();
+            for (Exercise exercise : exercises) {
+                String value = key.apply(exercise);
+                if (value != null) {
+                    grouped.computeIfAbsent(value, k -> new ArrayList<>()).add(exercise);
+                }
+            }
+            grouped.replaceAll((k, list) -> Collections.unmodifiableList(list));
+            return Collections.unmodifiableMap(grouped);
+        }
+    }
+
+    // 중복 없는 2글자 조각 목록
+    private static Set<String> bigramsOf(String text) {
+        Set<String> bigrams = new LinkedHashSet<>();
+        if (text == null) {
+            return bigrams;
+        }
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            bigrams.add(text.substring(i, i + 2));
+        }
+        return bigrams;
+    }
+
+    // 애플리케이션 시작 시 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    // 다른 노드에서의 변경 반영용 주기적 재적재
+    @Scheduled(fixedDelayString = "${exercise-catalog.refresh-interval-ms:600000}",
+               initialDelayString = "${exercise-catalog.refresh-interval-ms:600000}")
+    public void reload() {
+        try {
+            snapshot = new Snapshot(exerciseRepository.findAll());
+            log.info("Exercise catalog loaded - exercises: {}", snapshot.all.size());
+        } catch (Exception e) {
+            log.error("Failed to load exercise catalog", e);
+        }
+    }
+
+    /**
+     * 운동 생성/삭제 후 호출
+     * 트랜잭션 안이면 커밋 후 재적재하고, 그 전까지 같은 트랜잭션의 조회는 DB 기준 스냅샷 사용
+     */
+    public void invalidate() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reload();
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(DIRTY_KEY)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(DIRTY_KEY, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reload();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(DIRTY_KEY);
+            }
+        });
+    }
+
+    private Snapshot current() {
+        if (TransactionSynchronizationManager.hasResource(DIRTY_KEY)) {
+            return new Snapshot(exerciseRepository.findAll());
+        }
+        Snapshot loaded = snapshot;
+        if (loaded == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    snapshot = new Snapshot(exerciseRepository.findAll());
+                }
+                loaded = snapshot;
+            }
+        }
+        return loaded;
+    }
+
+    // 전체 운동 (ID 오름차순)
+    public List<Exercise> findAll() {
+        return current().all;
+    }
+
+    public Optional<Exercise> findById(Integer id) {
+        return Optional.ofNullable(current().byId.get(id));
+    }
+
+    // 여러 ID 조회 (없는 ID는 제외)
+    public Map<Integer, Exercise> findAllById(Iterable<Integer> ids) {
+        Snapshot current = current();
+        Map<Integer, Exercise> found = new HashMap<>();
+        for (Integer id : ids) {
+            Exercise exercise = current.byId.get(id);
+            if (exercise != null) {
+                found.put(id, exercise);
+            }
+        }
+        return found;
+    }
+
+    // 이름 정확히 일치
+    public List<Exercise> findByName(String name) {
+        return current().byName.getOrDefault(name, List.of());
+    }
+
+    // 이름 부분 일치 (bigram 인덱스로 후보를 좁힌 뒤 확인)
+    public List<Exercise> findByNameContaining(String keyword) {
+        Snapshot current = current();
+        if (keyword == null || keyword.isEmpty()) {
+            return current.all;
+        }
+        List<Exercise> candidates = current.all;
+        if (keyword.length() >= 2) {
+            for (String bigram : bigramsOf(keyword)) {
+                List<Exercise> posting = current.nameBigrams.getOrDefault(bigram, List.of());
+                if (posting.size() < candidates.size()) {
+                    candidates = posting;
+                }
+                if (candidates.isEmpty()) {
+                    return List.of();
+                }
+            }
+        }
+        List<Exercise> matches = new ArrayList<>();
+        for (Exercise exercise : candidates) {
+            if (exercise.getName() != null && exercise.getName().contains(keyword)) {
+                matches.add(exercise);
+            }
+        }
+        return matches;
+    }
+
+    public List<Exercise> findByCategory(String category) {
+        return current().byCategory.getOrDefault(category, List.of());
+    }
+
+    /**
+     * 카테고리/부위/자세/난이도 조건 조회 (null 조건은 무시)
+     * 가장 작은 인덱스 목록에서 시작해 나머지 조건을 확인
+     */
+    public List<Exercise> filter(String category, String bodyPart, String posture, String difficulty) {
+        Snapshot current = current();
+        List<Exercise> candidates = current.all;
+        candidates = narrow(candidates, current.byCategory, category);
+        candidates = narrow(candidates, current.byBodyPart, bodyPart);
+        candidates = narrow(candidates, current.byPosture, posture);
+        candidates = narrow(candidates, current.byDifficulty, difficulty);
+
+        List<Exercise> matches = new ArrayList<>();
+        for (Exercise exercise : candidates) {
+            if (matches(category, exercise.getCategory())
+                    && matches(bodyPart, exercise.getBodyPart())
+                    && matches(posture, exercise.getPosture())
+                    && matches(difficulty, exercise.getDifficulty())) {
+                matches.add(exercise);
+            }
+        }
+        return matches;
+    }
+
+    private List<Exercise> narrow(List<Exercise> candidates, Map<String, List<Exercise>> index, String value) {
+        if (value == null) {
+            return candidates;
+        }
+        List<Exercise> posting = index.getOrDefault(value, List.of());
+        return posting.size() < candidates.size() ? posting : candidates;
+    }
+
+    private boolean matches(String condition, String value) {
+        return condition == null || condition.equals(value);
+    }
+}
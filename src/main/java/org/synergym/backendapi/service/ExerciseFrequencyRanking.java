@@ -0,0 +1,190 @@
+package org.synergym.backendapi.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.synergym.backendapi.repository.ExerciseLogRepository;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 최근 운동 빈도 백분위 엔진
+ * 사용자별 최근 WINDOW_DAYS일 운동 기록 수를 보관하고, "기록 수 -> 사용자 수" 히스토그램을
+ * Fenwick 트리로 유지하여 백분위를 O(log maxCount)로 계산
+ *
+ * [갱신]
+ * - 애플리케이션 시작 시, 주기적으로 DB 집계 기준 전체 재구성 (기간이 지난 기록 제외)
+ * - 운동 기록 생성/삭제 시 트랜잭션 커밋 후 해당 사용자의 기록 수만 ±1
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExerciseFrequencyRanking {
+
+    // 비교 기간 (오늘 - 30일 ~ 오늘, 양 끝 포함)
+    static final int WINDOW_DAYS = 30;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final ExerciseLogRepository exerciseLogRepository;
+
+    // 사용자 ID -> 기간 내 운동 기록 수 (0인 사용자는 보관하지 않음)
+    private Map<Integer, Long> countsByUser = new HashMap<>();
+    // 기록 수별 사용자 수 (Fenwick 트리, 1-based index = 기록 수)
+    private long[] tree = new long[INITIAL_CAPACITY + 1];
+    // 현재 구성 기준일 (날짜가 바뀌면 재구성 전까지 기존 기준 유지)
+    private LocalDate windowEnd;
+    private boolean loaded;
+
+    // 백분위 조회 결과 (usersWithLessCount / totalUsers * 100)
+    public record Percentile(long count, long usersWithLessCount, long totalUsers) {
+
+        public double percentile() {
+            return totalUsers == 0 ? 0.0 : (double) usersWithLessCount / totalUsers * 100;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * DB 집계 기준으로 전체 재구성
+     * 기간이 하루씩 밀리며 빠지는 기록을 반영하기 위해 주기적으로 실행
+     */
+    @Scheduled(fixedDelayString = "${exercise-frequency.rebuild-interval-ms:600000}",
+               initialDelayString = "${exercise-frequency.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        try {
+            LocalDate endDate = LocalDate.now();
+            List<Map<String, Object>> rows = exerciseLogRepository.countLogsGroupByUser(endDate.minusDays(WINDOW_DAYS), endDate);
+            Map<Integer, Long> counts = new HashMap<>();
+            for (Map<String, Object> row : rows) {
+                counts.put(((Number) row.get("userId")).intValue(), ((Number) row.get("count")).longValue());
+            }
+            replace(counts, endDate);
+            log.info("Rebuilt exercise frequency ranking - users: {}", counts.size());
+        } catch (Exception e) {
+            log.error("Failed to rebuild exercise frequency ranking", e);
+        }
+    }
+
+    private synchronized void replace(Map<Integer, Long> counts, LocalDate endDate) {
+        long maxCount = counts.values().stream().mapToLong(Long::longValue).max().orElse(0L);
+        this.countsByUser = counts;
+        rebuildTree(capacityFor(maxCount));
+        this.windowEnd = endDate;
+        this.loaded = true;
+    }
+
+    /**
+     * 사용자의 백분위 조회
+     * 아직 적재되지 않았으면 먼저 DB 기준으로 구성
+     */
+    public Percentile percentileOf(Integer userId) {
+        if (!isLoaded()) {
+            rebuild();
+        }
+        synchronized (this) {
+            long count = countsByUser.getOrDefault(userId, 0L);
+            long usersWithLessCount = count > 0 ? prefixSum(count - 1) : 0L;
+            return new Percentile(count, usersWithLessCount, countsByUser.size());
+        }
+    }
+
+    private synchronized boolean isLoaded() {
+        return loaded;
+    }
+
+    // 운동 기록 생성 후 호출 (트랜잭션 안이면 커밋 후 반영)
+    public void recordLogAdded(Integer userId, LocalDate exerciseDate) {
+        afterCommit(() -> adjust(userId, exerciseDate, 1));
+    }
+
+    // 운동 기록 삭제 후 호출 (트랜잭션 안이면 커밋 후 반영)
+    public void recordLogRemoved(Integer userId, LocalDate exerciseDate) {
+        afterCommit(() -> adjust(userId, exerciseDate, -1));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private synchronized void adjust(Integer userId, LocalDate exerciseDate, int delta) {
+        // 현재 기준 기간 밖의 기록은 다음 재구성에서 반영
+        if (!loaded || exerciseDate == null
+                || exerciseDate.isBefore(windowEnd.minusDays(WINDOW_DAYS)) || exerciseDate.isAfter(windowEnd)) {
+            return;
+        }
+        long before = countsByUser.getOrDefault(userId, 0L);
+        long after = Math.max(0L, before + delta);
+        if (before == after) {
+            return;
+        }
+        if (after > 0) {
+            countsByUser.put(userId, after);
+        } else {
+            countsByUser.remove(userId);
+        }
+        // 최대 기록 수가 용량을 넘으면 2배씩 늘려 전체 재구성
+        if (after >= tree.length) {
+            rebuildTree(capacityFor(after));
+            return;
+        }
+        if (before > 0) {
+            add(before, -1);
+        }
+        if (after > 0) {
+            add(after, 1);
+        }
+    }
+
+    // --- Fenwick 트리 ---
+
+    private static int capacityFor(long maxCount) {
+        int capacity = INITIAL_CAPACITY;
+        while (capacity < maxCount) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private void rebuildTree(int capacity) {
+        this.tree = new long[capacity + 1];
+        for (Long count : countsByUser.values()) {
+            add(count, 1);
+        }
+    }
+
+    private void add(long count, long delta) {
+        for (int i = (int) count; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    // 기록 수가 1 ~ count인 사용자 수
+    private long prefixSum(long count) {
+        long sum = 0;
+        for (int i = (int) Math.min(count, tree.length - 1); i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+}
@@ -1,6 +1,7 @@
 package org.synergym.backendapi.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.synergym.backendapi.dto.ExerciseLikeDTO;
@@ -8,6 +9,7 @@ import org.synergym.backendapi.entity.Exercise;
 import org.synergym.backendapi.entity.ExerciseLike;
 import org.synergym.backendapi.entity.ExerciseLikeId;
 import org.synergym.backendapi.entity.User;
+import org.synergym.backendapi.event.DashboardDataChangedEvent;
 import org.synergym.backendapi.exception.EntityNotFoundException;
 import org.synergym.backendapi.exception.ErrorCode;
 import org.synergym.backendapi.repository.ExerciseLikeRepository;
@@ -25,6 +27,7 @@ public class ExerciseLikeServiceImpl implements ExerciseLikeService {
     private final UserRepository userRepository;
     private final ExerciseRepository exerciseRepository;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     //ID로 사용자 조회 (없으면 예외 발생)
     private User findUserById(int id) {
@@ -52,6 +55,7 @@ public class ExerciseLikeServiceImpl implements ExerciseLikeService {
         
         ExerciseLike like = DTOtoEntity(exerciseLikeDTO, user, exercise);
         exerciseLikeRepository.save(like);
+        eventPublisher.publishEvent(new DashboardDataChangedEvent("exercise-like"));
     }
 
     //운동 좋아요(찜) 삭제
@@ -69,6 +73,7 @@ public class ExerciseLikeServiceImpl implements ExerciseLikeService {
         }
         
         exerciseLikeRepository.deleteById(id);
+        eventPublisher.publishEvent(new DashboardDataChangedEvent("exercise-like"));
     }
 
     //사용자가 찜한 운동 목록 조회
@@ -8,14 +8,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.synergym.backendapi.dto.EmotionLogDTO;
-import org.synergym.backendapi.dto.EmotionResponseDTO;
 import org.synergym.backendapi.dto.ExerciseLogDTO;
 import org.synergym.backendapi.dto.WeeklyMonthlyStats;
-import org.synergym.backendapi.entity.EmotionType;
 import org.synergym.backendapi.entity.ExerciseLog;
 import org.synergym.backendapi.entity.ExerciseLogRoutine;
 import org.synergym.backendapi.entity.Routine;
@@ -32,13 +33,17 @@ import lombok.RequiredArgsConstructor;
 @Service
 @RequiredArgsConstructor
 public class ExerciseLogServiceImpl implements ExerciseLogService {
+    // 기간 조회 페이지 최대 크기
+    private static final int MAX_RANGE_PAGE_SIZE = 100;
+
     private final ExerciseLogRepository exerciseLogRepository;
     private final UserRepository userRepository;
     private final RoutineRepository routineRepository;
     private final ExerciseLogRoutineRepository exerciseLogRoutineRepository;
 
     private final EmotionLogService emotionLogService;
-    private final WebClient fastApiWebClient;
+    private final ExerciseFrequencyRanking exerciseFrequencyRanking;
+    private final ActivityCalendarService activityCalendarService;
 
     //ID로 사용자 조회 (없으면 예외 발생)
     private User findUserById(int id) {
@@ -60,6 +65,8 @@ public class ExerciseLogServiceImpl implements ExerciseLogService {
         ExerciseLog log = DTOtoEntity(dto);
         log.updateUser(user);
         log = exerciseLogRepository.save(log);
+        exerciseFrequencyRanking.recordLogAdded(user.getId(), log.getExerciseDate());
+        activityCalendarService.recordLogAdded(user.getId(), log.getExerciseDate());
 
         // 여러 Routine 연동
         if (dto.getRoutineIds() != null) {
@@ -79,26 +86,16 @@ public class ExerciseLogServiceImpl implements ExerciseLogService {
             }
         }
         
-        // call classification(FastAPI)
-        EmotionResponseDTO response = fastApiWebClient.post()
-            .uri("/emotion")
-            .bodyValue(Map.of("memo", dto.getMemo()))
-            .retrieve()
-            .bodyToMono(EmotionResponseDTO.class)
-            .block();
-
-        String emotion = response.getLabel();
-
-        EmotionType emotionType = EmotionType.valueOf(emotion); // 이미 Enum에 맞게 매핑되어 있으니 바로 변환
-
-        EmotionLogDTO emotionLogDTO = EmotionLogDTO.builder()
-            .userId(dto.getUserId())
-            .exerciseDate(dto.getExerciseDate())
-            .emotion(emotionType)
-            .memo(dto.getMemo())
-            .build();
-
-        emotionLogService.saveOrUpdateEmotionLog(emotionLogDTO);
+        // 감정 분류는 작업만 등록하고 비동기로 처리 (메모가 없으면 생략)
+        if (dto.getMemo() != null && !dto.getMemo().isBlank()) {
+            EmotionLogDTO emotionLogDTO = EmotionLogDTO.builder()
+                .userId(dto.getUserId())
+                .exerciseDate(dto.getExerciseDate())
+                .memo(dto.getMemo())
+                .build();
+
+            emotionLogService.saveOrUpdateEmotionLog(emotionLogDTO);
+        }
 
         return log.getId();
     }
@@ -132,12 +129,7 @@ public class ExerciseLogServiceImpl implements ExerciseLogService {
     @Override
     @Transactional(readOnly = true)
     public List<ExerciseLogDTO> getAllExerciseLogs() {
-        return exerciseLogRepository.findAll().stream()
-                .map(log -> {
-                    List<ExerciseLogRoutine> logRoutines = exerciseLogRoutineRepository.findByExerciseLog(log);
-                    return entityToDTO(log, logRoutines);
-                })
-                .collect(Collectors.toList());
+        return toDTOs(exerciseLogRepository.findAll());
     }
 
     //ID로 운동 기록 단건 조회
@@ -153,28 +145,39 @@ public class ExerciseLogServiceImpl implements ExerciseLogService {
     @Override
     @Transactional(readOnly = true)
     public List<ExerciseLogDTO> getExerciseLogsByUser(Integer userId) {
-        List<ExerciseLog> logs = exerciseLogRepository.findAll().stream()
-                .filter(log -> log.getUser() != null && Integer.valueOf(log.getUser().getId()).equals(userId))
-                .collect(Collectors.toList());
-        List<ExerciseLogDTO> result = new ArrayList<>();
-        for (ExerciseLog log : logs) {
-            List<ExerciseLogRoutine> logRoutines = exerciseLogRoutineRepository.findByExerciseLog(log);
-            result.add(entityToDTO(log, logRoutines));
-        }
-        return result;
+        return toDTOs(exerciseLogRepository.findAllByUserIdWithEmotion(userId));
     }
 
     //사용자별 특정 날짜의 운동 기록 목록 조회
     @Override
     @Transactional(readOnly = true)
     public List<ExerciseLogDTO> getExerciseLogsByUserAndDate(Integer userId, LocalDate date) {
-        List<ExerciseLog> logs = exerciseLogRepository.findByExerciseDate(date).stream()
-                .filter(log -> log.getUser() != null && Integer.valueOf(log.getUser().getId()).equals(userId))
-                .collect(Collectors.toList());
-        List<ExerciseLogDTO> result = new ArrayList<>();
+        return toDTOs(exerciseLogRepository.findAllByUserIdAndDateWithEmotion(userId, date));
+    }
+
+    //사용자별 기간 운동 기록 페이지 조회 (정렬은 날짜 내림차순 고정)
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ExerciseLogDTO> getExerciseLogsByUserAndDateRange(Integer userId, LocalDate startDate, LocalDate endDate, Pageable pageable) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalStateException("시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        int size = Math.min(pageable.getPageSize(), MAX_RANGE_PAGE_SIZE);
+        Page<ExerciseLog> logs = exerciseLogRepository.findPageByUserIdAndDateBetween(
+                userId, startDate, endDate, PageRequest.of(pageable.getPageNumber(), size));
+        return new PageImpl<>(toDTOs(logs.getContent()), logs.getPageable(), logs.getTotalElements());
+    }
+
+    // 운동 기록 목록을 DTO로 변환 (연동 루틴은 한 번의 쿼리로 조회)
+    private List<ExerciseLogDTO> toDTOs(List<ExerciseLog> logs) {
+        if (logs.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Integer, List<ExerciseLogRoutine>> routinesByLogId = exerciseLogRoutineRepository.findWithRoutineByExerciseLogIn(logs).stream()
+                .collect(Collectors.groupingBy(lr -> lr.getId().getExerciseLogId()));
+        List<ExerciseLogDTO> result = new ArrayList<>(logs.size());
         for (ExerciseLog log : logs) {
-            List<ExerciseLogRoutine> logRoutines = exerciseLogRoutineRepository.findByExerciseLog(log);
-            result.add(entityToDTO(log, logRoutines));
+            result.add(entityToDTO(log, routinesByLogId.getOrDefault(log.getId(), List.of())));
         }
         return result;
     }
@@ -188,22 +191,19 @@ public class ExerciseLogServiceImpl implements ExerciseLogService {
         List<ExerciseLogRoutine> logRoutines = exerciseLogRoutineRepository.findByExerciseLog(log);
         exerciseLogRoutineRepository.deleteAll(logRoutines);
         exerciseLogRepository.delete(log);
+        exerciseFrequencyRanking.recordLogRemoved(log.getUser().getId(), log.getExerciseDate());
+        activityCalendarService.recordLogRemoved(log.getUser().getId(), log.getExerciseDate());
     }
 
     //주간/월간 운동 기록 통계 조회
     @Override
     public WeeklyMonthlyStats getStats(Integer userId, LocalDate weekStart, LocalDate weekEnd, 
                                       LocalDate monthStart, LocalDate monthEnd) {
-        // 주간 통계 조회
-        Integer weeklyCount = exerciseLogRepository.countByUserIdAndDateBetween(userId, weekStart, weekEnd);
-
-        // 월간 통계 조회
-        Integer monthlyCount = exerciseLogRepository.countByUserIdAndDateBetween(userId, monthStart, monthEnd);
+        // 주간 통계 조회 (일별 롤업 합계)
+        Integer weeklyCount = activityCalendarService.countLogs(userId, weekStart, weekEnd);
 
-        // null 값 처리
-        weeklyCount = weeklyCount != null ? weeklyCount : 0;
-        
-        monthlyCount = monthlyCount != null ? monthlyCount : 0;
+        // 월간 통계 조회 (일별 롤업 합계)
+        Integer monthlyCount = activityCalendarService.countLogs(userId, monthStart, monthEnd);
 
         return new WeeklyMonthlyStats(
             weeklyCount,
@@ -219,11 +219,8 @@ public class ExerciseLogServiceImpl implements ExerciseLogService {
         LocalDate weekStart = today.with(TemporalAdjusters.previousOrSame(java.time.DayOfWeek.MONDAY));
         LocalDate weekEnd = today.with(TemporalAdjusters.nextOrSame(java.time.DayOfWeek.SUNDAY));
         
-        // 주간 통계만 조회
-        Integer weeklyCount = exerciseLogRepository.countByUserIdAndDateBetween(userId, weekStart, weekEnd);
-        
-        // null 값 처리
-        weeklyCount = weeklyCount != null ? weeklyCount : 0;
+        // 주간 통계만 조회 (일별 롤업 합계)
+        Integer weeklyCount = activityCalendarService.countLogs(userId, weekStart, weekEnd);
         
         return new WeeklyMonthlyStats(
             weeklyCount, // 주간 데이터
@@ -239,11 +236,8 @@ public class ExerciseLogServiceImpl implements ExerciseLogService {
         LocalDate monthStart = today.with(TemporalAdjusters.firstDayOfMonth());
         LocalDate monthEnd = today.with(TemporalAdjusters.lastDayOfMonth());
         
-        // 월간 통계만 조회
-        Integer monthlyCount = exerciseLogRepository.countByUserIdAndDateBetween(userId, monthStart, monthEnd);
-        
-        // null 값 처리
-        monthlyCount = monthlyCount != null ? monthlyCount : 0;
+        // 월간 통계만 조회 (일별 롤업 합계)
+        Integer monthlyCount = activityCalendarService.countLogs(userId, monthStart, monthEnd);
         
         return new WeeklyMonthlyStats(
             0,
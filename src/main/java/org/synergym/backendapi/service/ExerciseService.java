@@ -25,6 +25,9 @@ public interface ExerciseService {
     // 운동 카테고리별 조회
     List<ExerciseDTO> getExercisesByCategory(String category);
 
+    // 카테고리/부위/자세/난이도 조건으로 운동 검색 (null 조건은 무시)
+    List<ExerciseDTO> searchExercises(String category, String bodyPart, String posture, String difficulty);
+
     // 좋아요 수 기준 인기 운동 조회
     List<ExerciseDTO> getPopularExercisesByLikes(int limit);
 
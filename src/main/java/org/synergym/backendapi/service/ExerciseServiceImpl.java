@@ -1,6 +1,8 @@
 package org.synergym.backendapi.service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
@@ -18,6 +20,7 @@ import lombok.RequiredArgsConstructor;
 public class ExerciseServiceImpl implements ExerciseService {
     
     private final ExerciseRepository exerciseRepository;
+    private final ExerciseCatalog exerciseCatalog;
 
     //ID로 운동 조회 (없으면 예외 발생)
     private Exercise findExerciseById(int id) {
@@ -25,30 +28,35 @@ public class ExerciseServiceImpl implements ExerciseService {
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.EXERCISE_NOT_FOUND));
     }
 
+    //카탈로그에서 ID로 운동 조회 (없으면 예외 발생)
+    private Exercise findCatalogExerciseById(int id) {
+        return exerciseCatalog.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.EXERCISE_NOT_FOUND));
+    }
+
     //운동 생성
     @Override
     @Transactional
     public Integer createExercise(ExerciseDTO exerciseDTO) {
         Exercise exercise = DTOtoEntity(exerciseDTO);
         Exercise savedExercise = exerciseRepository.save(exercise);
+        exerciseCatalog.invalidate();
         return savedExercise.getId();
     }
 
-    //전체 운동 목록 조회
+    //전체 운동 목록 조회 (카탈로그)
     @Override
-    @Transactional(readOnly = true)
     public List<ExerciseDTO> getAllExercises() {
-        return exerciseRepository.findAll()
+        return exerciseCatalog.findAll()
                 .stream()
                 .map(this::entityToDTO)
                 .collect(Collectors.toList());
     }
 
-    //ID로 운동 단건 조회
+    //ID로 운동 단건 조회 (카탈로그)
     @Override
     public ExerciseDTO getExerciseById(Integer id) {
-        Exercise exercise = exerciseRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.EXERCISE_NOT_FOUND));
+        Exercise exercise = findCatalogExerciseById(id);
         return entityToDTO(exercise);
 
     }
@@ -59,90 +67,87 @@ public class ExerciseServiceImpl implements ExerciseService {
     public void deleteExercise(Integer id) {
         Exercise exercise = findExerciseById(id);
         exerciseRepository.delete(exercise);
+        exerciseCatalog.invalidate();
     }
 
-    //이름으로 운동 검색
+    //이름으로 운동 검색 (카탈로그 bigram 인덱스)
     @Override
-    @Transactional(readOnly = true)
     public List<ExerciseDTO> getExercisesByName(String name) {
-        List<ExerciseDTO> exercises = exerciseRepository.findByNameContaining(name)
+        return exerciseCatalog.findByNameContaining(name)
                 .stream()
                 .map(this::entityToDTO)
                 .collect(Collectors.toList());
-        
-        // URL 정보 로그 출력
-        for (ExerciseDTO exercise : exercises) {
-            System.out.println("[DEBUG] Exercise 검색 결과 - Name: " + exercise.getName() + ", URL: " + exercise.getUrl());
-            System.out.println("[DEBUG] Exercise 검색 결과 - Name: " + exercise.getName() + ", URL 타입: " + (exercise.getUrl() != null ? exercise.getUrl().getClass().getSimpleName() : "null"));
-            System.out.println("[DEBUG] Exercise 검색 결과 - Name: " + exercise.getName() + ", URL is null: " + (exercise.getUrl() == null));
-        }
-        
-        return exercises;
     }
 
-    //카테고리로 운동 검색
+    //카테고리로 운동 검색 (카탈로그)
     @Override
-    @Transactional(readOnly = true)
     public List<ExerciseDTO> getExercisesByCategory(String category) {
-        return exerciseRepository.findByCategory(category)
+        return exerciseCatalog.findByCategory(category)
+                .stream()
+                .map(this::entityToDTO)
+                .collect(Collectors.toList());
+    }
+
+    //카테고리/부위/자세/난이도 조건으로 운동 검색 (카탈로그)
+    @Override
+    public List<ExerciseDTO> searchExercises(String category, String bodyPart, String posture, String difficulty) {
+        return exerciseCatalog.filter(category, bodyPart, posture, difficulty)
                 .stream()
                 .map(this::entityToDTO)
                 .collect(Collectors.toList());
     }
 
-    //좋아요 수 기준 인기 운동 목록 조회
+    //좋아요 수 기준 인기 운동 목록 조회 (집계 1회 + 카탈로그)
     @Override
     @Transactional(readOnly = true)
     public List<ExerciseDTO> getPopularExercisesByLikes(int limit) {
-        List<Exercise> exercises = exerciseRepository.findPopularExercisesByLikes(limit);
-        return exercises.stream()
-                .limit(limit)
-                .map(exercise -> {
-                    Long likeCount = exerciseRepository.countLikesByExerciseId(exercise.getId());
-                    Long routineCount = exerciseRepository.countRoutinesByExerciseId(exercise.getId());
-                    return entityToDTOWithStats(exercise, likeCount, routineCount);
-                })
-                .collect(Collectors.toList());
+        return toDTOsWithStats(exerciseRepository.findPopularStatsByLikes(limit));
     }
 
-    //루틴 포함 수 기준 인기 운동 목록 조회
+    //루틴 포함 수 기준 인기 운동 목록 조회 (집계 1회 + 카탈로그)
     @Override
     @Transactional(readOnly = true)
     public List<ExerciseDTO> getPopularExercisesByRoutines(int limit) {
-        List<Exercise> exercises = exerciseRepository.findPopularExercisesByRoutines(limit);
-        return exercises.stream()
-                .limit(limit)
-                .map(exercise -> {
-                    Long likeCount = exerciseRepository.countLikesByExerciseId(exercise.getId());
-                    Long routineCount = exerciseRepository.countRoutinesByExerciseId(exercise.getId());
-                    return entityToDTOWithStats(exercise, likeCount, routineCount);
-                })
-                .collect(Collectors.toList());
+        return toDTOsWithStats(exerciseRepository.findPopularStatsByRoutines(limit));
     }
     
     //ID로 운동 단건 조회(좋아요/루틴 통계 포함)
     @Override
     @Transactional(readOnly = true)
     public ExerciseDTO getExerciseByIdWithStats(Integer id) {
-        Exercise exercise = exerciseRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.EXERCISE_NOT_FOUND));
-        
-        Long likeCount = exerciseRepository.countLikesByExerciseId(exercise.getId());
-        Long routineCount = exerciseRepository.countRoutinesByExerciseId(exercise.getId());
-        
-        return entityToDTOWithStats(exercise, likeCount, routineCount);
+        Exercise exercise = findCatalogExerciseById(id);
+        List<Object[]> stats = exerciseRepository.findStatsByExerciseId(id);
+        if (stats.isEmpty()) {
+            return entityToDTOWithStats(exercise, 0L, 0L);
+        }
+        Object[] row = stats.get(0);
+        return entityToDTOWithStats(exercise, ((Number) row[1]).longValue(), ((Number) row[2]).longValue());
     }
 
+    //집계 결과 (exercise_id, like_count, routine_count)를 순서대로 DTO 변환 (운동 정보는 카탈로그에서 조회)
+    private List<ExerciseDTO> toDTOsWithStats(List<Object[]> rows) {
+        List<Integer> ids = rows.stream()
+                .map(row -> ((Number) row[0]).intValue())
+                .collect(Collectors.toList());
+        Map<Integer, Exercise> exercises = exerciseCatalog.findAllById(ids);
+
+        List<ExerciseDTO> result = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Exercise exercise = exercises.get(((Number) row[0]).intValue());
+            if (exercise != null) {
+                result.add(entityToDTOWithStats(exercise, ((Number) row[1]).longValue(), ((Number) row[2]).longValue()));
+            }
+        }
+        return result;
+    }
+
+    //이름과 정확히 일치하는 운동 조회 (카탈로그)
     @Override
     public ExerciseDTO getExerciseByExactName(String name) {
-        List<Exercise> exercises = exerciseRepository.findByName(name);
-        System.out.println("[DEBUG] findByName('" + name + "') 결과 개수: " + (exercises == null ? 0 : exercises.size()));
-        if (exercises == null || exercises.isEmpty()) {
+        List<Exercise> exercises = exerciseCatalog.findByName(name);
+        if (exercises.isEmpty()) {
             return null;
         }
-        for (Exercise e : exercises) {
-            System.out.println("[DEBUG] Exercise ID: " + e.getId() + ", Name: " + e.getName());
-        }
         return entityToDTO(exercises.get(0));
     }
 }
\ No newline at end of file
@@ -3,11 +3,10 @@ package org.synergym.backendapi.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.synergym.backendapi.dto.ExerciseLogDTO;
 import org.synergym.backendapi.dto.GoalResponseDTO;
+import org.synergym.backendapi.exception.AiGatewayBusyException;
 
 import java.util.HashMap;
 import java.util.List;
@@ -18,7 +17,7 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class GoalGraphClient {
     private final AchievementService achievementService;
-    private final WebClient webClient = WebClient.create("http://localhost:8000");
+    private final AiGatewayClient aiGatewayClient;
 
     public GoalResponseDTO fetchGoals(List<ExerciseLogDTO> exerciseHistory, String coachPersona
     ) {
@@ -32,12 +31,8 @@ public class GoalGraphClient {
         try {
             // ▼▼▼ 변경점: 응답을 Map이 아닌 GoalResponseDTO.class로 직접 받도록 변경 ▼▼▼
             // 이렇게 하면 Jackson 라이브러리가 JSON 응답을 DTO 구조에 맞춰 자동으로 변환해줍니다.
-            GoalResponseDTO response = webClient.post()
-                    .uri("/workflow/generate-goal") // main.py의 APIRouter 경로에 맞게 수정
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(GoalResponseDTO.class) // Map.class -> GoalResponseDTO.class
+            GoalResponseDTO response = aiGatewayClient
+                    .post("goal", "/workflow/generate-goal", requestBody, GoalResponseDTO.class) // main.py의 APIRouter 경로에 맞게 수정
                     .block();
 
             log.info("AI 목표 추천 서버로부터 응답을 성공적으로 변환했습니다: {}", response);
@@ -67,6 +62,8 @@ if (response.getGeneratedBadge() != null) {
 
             return response;
 
+        } catch (AiGatewayBusyException e) {
+            throw e;
         } catch (WebClientResponseException e) {
             log.error("AI 서버와의 통신 중 오류 발생: 상태 코드 {}, 메시지: {}", e.getStatusCode(), e.getResponseBodyAsString());
             throw new RuntimeException("AI 서버와의 통신 중 오류가 발생했습니다: " + e.getResponseBodyAsString());
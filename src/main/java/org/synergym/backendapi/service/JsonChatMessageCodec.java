@@ -0,0 +1,43 @@
+package org.synergym.backendapi.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.synergym.backendapi.dto.ChatMessageDTO;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * JSON 형식 (기존 저장 형식)
+ * 형식 변경 전에 저장된 메시지 읽기와, chat-history.codec=json 설정 시 저장에 사용
+ */
+public class JsonChatMessageCodec implements ChatMessageCodec {
+
+    private final ObjectMapper objectMapper;
+
+    public JsonChatMessageCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public byte[] encode(ChatMessageDTO message) {
+        try {
+            return objectMapper.writeValueAsBytes(message);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public ChatMessageDTO decode(byte[] data) {
+        try {
+            return objectMapper.readValue(data, ChatMessageDTO.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public boolean supports(byte[] data) {
+        return data.length > 0 && data[0] == '{';
+    }
+}
@@ -0,0 +1,116 @@
+package org.synergym.backendapi.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 서로 독립적인 조회를 병렬로 실행하는 실행기
+ * 대시보드처럼 여러 집계 쿼리를 모아 하나의 응답을 만드는 경우,
+ * 순차 실행(쿼리 시간의 합) 대신 가장 느린 쿼리 시간 정도로 응답 시간을 줄임
+ *
+ * [동작 방식]
+ * - 각 조회는 전용 스레드 풀에서 별도의 읽기 전용 트랜잭션으로 실행
+ * - 조회마다 제한 시간을 두고, 시간 초과/실패 시 지정한 기본값으로 대체
+ * - 풀과 대기열이 모두 찬 경우 호출 스레드에서 직접 실행 (순차 실행으로 후퇴)
+ *
+ * 스레드 풀은 @Async용 기본 실행기와 섞이지 않도록 빈으로 노출하지 않음
+ */
+@Slf4j
+@Component
+public class ParallelQueryExecutor {
+
+    private final ThreadPoolTaskExecutor executor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long sectionTimeoutMs;
+
+    public ParallelQueryExecutor(PlatformTransactionManager transactionManager,
+                                 @Value("${parallel-query.pool-size:6}") int poolSize,
+                                 @Value("${parallel-query.queue-capacity:50}") int queueCapacity,
+                                 @Value("${parallel-query.section-timeout-ms:10000}") long sectionTimeoutMs) {
+        this.sectionTimeoutMs = sectionTimeoutMs;
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("parallel-query-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+
+        // 트랜잭션 타임아웃은 초 단위이므로 올림 (쿼리 자체도 제한 시간 뒤 취소되도록)
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readOnlyTransaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(sectionTimeoutMs + 999)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // 조회 묶음 시작 (묶음 단위로 실패 여부를 추적)
+    public Batch newBatch() {
+        return new Batch();
+    }
+
+    /**
+     * 함께 실행되는 조회 묶음
+     * submit으로 조회를 모두 등록한 뒤 awaitAll로 전체 완료를 기다림
+     */
+    public final class Batch {
+
+        private final List<CompletableFuture<?>> futures = new ArrayList<>();
+        private final AtomicBoolean degraded = new AtomicBoolean(false);
+
+        private Batch() {
+        }
+
+        /**
+         * 조회 등록
+         * @param section  로그용 구간 이름
+         * @param query    읽기 전용 트랜잭션 안에서 실행할 조회
+         * @param fallback 시간 초과/실패 시 사용할 값
+         */
+        public <T> CompletableFuture<T> submit(String section, Supplier<T> query, T fallback) {
+            CompletableFuture<T> future = CompletableFuture
+                    .supplyAsync(() -> readOnlyTransaction.execute(status -> query.get()), executor)
+                    .orTimeout(sectionTimeoutMs, TimeUnit.MILLISECONDS)
+                    .exceptionally(e -> {
+                        degraded.set(true);
+                        Throwable cause = e.getCause() != null ? e.getCause() : e;
+                        if (cause instanceof TimeoutException) {
+                            log.warn("Query section timed out after {} ms - section: {}", sectionTimeoutMs, section);
+                        } else {
+                            log.error("Query section failed - section: {}", section, cause);
+                        }
+                        return fallback;
+                    });
+            futures.add(future);
+            return future;
+        }
+
+        // 등록된 모든 조회 완료 대기 (각 조회는 실패 시 기본값으로 끝나므로 예외 없이 반환)
+        public void awaitAll() {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        }
+
+        // 시간 초과/실패로 기본값이 사용된 조회가 있는지 여부
+        public boolean isDegraded() {
+            return degraded.get();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package org.synergym.backendapi.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 기반 게시글 집계 저장소
+ * 여러 API 노드가 같은 Redis 해시(HINCRBY)에 delta를 누적하고,
+ * PostCounterServiceImpl의 reconciler가 주기적으로 꺼내 PostCounter에 반영
+ *
+ * [키 구조]
+ * - post:counter:pending:{postId} : 미반영 delta 해시 (like, comment, view)
+ * - post:counter:dirty            : delta가 쌓인 게시글 ID 집합
+ * - post:viewers:{postId}:{yyyyMMdd} : 일별 순 방문자 HyperLogLog (PFADD)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCounterRedisStore {
+
+    private static final String PENDING_KEY_PREFIX = "post:counter:pending:";
+    private static final String DIRTY_KEY = "post:counter:dirty";
+    private static final String VIEWERS_KEY_PREFIX = "post:viewers:";
+    private static final Duration VIEWERS_TTL = Duration.ofHours(48);
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    static final String FIELD_LIKE = "like";
+    static final String FIELD_COMMENT = "comment";
+    static final String FIELD_VIEW = "view";
+
+    // 해시를 읽는 동시에 삭제 (읽은 뒤 들어온 HINCRBY는 새 해시에 쌓임)
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> GET_AND_DELETE_HASH = new DefaultRedisScript<>(
+            "local v = redis.call('HGETALL', KEYS[1]) redis.call('DEL', KEYS[1]) return v",
+            List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    private String pendingKey(Integer postId) {
+        return PENDING_KEY_PREFIX + postId;
+    }
+
+    private String viewersKey(Integer postId, LocalDate date) {
+        return VIEWERS_KEY_PREFIX + postId + ":" + date.format(DAY_FORMAT);
+    }
+
+    // delta 누적 + dirty 표시 (한 번의 파이프라인)
+    public void increment(Integer postId, String field, long delta) {
+        String key = pendingKey(postId);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            conn.hIncrBy(key, field, delta);
+            conn.sAdd(DIRTY_KEY, postId.toString());
+            return null;
+        });
+    }
+
+    // DB 반영에 실패한 delta를 Redis에 되돌림 (노드가 종료되어도 다른 노드의 reconciler가 반영)
+    public void restore(Integer postId, PostCounterWriteBuffer.Delta delta) {
+        String key = pendingKey(postId);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            if (delta.like() != 0) {
+                conn.hIncrBy(key, FIELD_LIKE, delta.like());
+            }
+            if (delta.comment() != 0) {
+                conn.hIncrBy(key, FIELD_COMMENT, delta.comment());
+            }
+            if (delta.view() != 0) {
+                conn.hIncrBy(key, FIELD_VIEW, delta.view());
+            }
+            conn.sAdd(DIRTY_KEY, postId.toString());
+            return null;
+        });
+    }
+
+    /**
+     * 일별 순 방문자 기록 (PFADD)
+     * @return 오늘 처음 조회한 방문자이면 true
+     */
+    public boolean recordUniqueView(Integer postId, String viewerKey, LocalDate date) {
+        String key = viewersKey(postId, date);
+        Long changed = redisTemplate.opsForHyperLogLog().add(key, viewerKey);
+        redisTemplate.expire(key, VIEWERS_TTL);
+        return changed != null && changed > 0;
+    }
+
+    // 일별 순 방문자 수 (PFCOUNT, 근사값)
+    public long countUniqueViewers(Integer postId, LocalDate date) {
+        Long size = redisTemplate.opsForHyperLogLog().size(viewersKey(postId, date));
+        return size != null ? size : 0L;
+    }
+
+    // 아직 DB에 반영되지 않은 delta 조회
+    public PostCounterWriteBuffer.Delta pendingOf(Integer postId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(pendingKey(postId));
+        return toDelta(entries);
+    }
+
+    /**
+     * dirty 게시글을 최대 maxPosts개 꺼내고 각 게시글의 delta를 원자적으로 읽고 삭제
+     */
+    public Map<Integer, PostCounterWriteBuffer.Delta> drain(int maxPosts) {
+        Map<Integer, PostCounterWriteBuffer.Delta> drained = new HashMap<>();
+        List<String> postIds = redisTemplate.opsForSet().pop(DIRTY_KEY, maxPosts);
+        if (postIds == null) {
+            return drained;
+        }
+        for (String postIdValue : postIds) {
+            Integer postId = Integer.valueOf(postIdValue);
+            @SuppressWarnings("unchecked")
+            List<Object> flat = redisTemplate.execute(GET_AND_DELETE_HASH, List.of(pendingKey(postId)));
+            Map<Object, Object> entries = new HashMap<>();
+            if (flat != null) {
+                for (int i = 0; i + 1 < flat.size(); i += 2) {
+                    entries.put(flat.get(i), flat.get(i + 1));
+                }
+            }
+            PostCounterWriteBuffer.Delta delta = toDelta(entries);
+            if (!delta.isZero()) {
+                drained.put(postId, delta);
+            }
+        }
+        return drained;
+    }
+
+    private PostCounterWriteBuffer.Delta toDelta(Map<Object, Object> entries) {
+        if (entries == null || entries.isEmpty()) {
+            return PostCounterWriteBuffer.Delta.ZERO;
+        }
+        return new PostCounterWriteBuffer.Delta(
+                parse(entries.get(FIELD_LIKE)),
+                parse(entries.get(FIELD_COMMENT)),
+                parse(entries.get(FIELD_VIEW)));
+    }
+
+    private long parse(Object value) {
+        if (value == null) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(value.toString());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid counter delta value in Redis: {}", value);
+            return 0L;
+        }
+    }
+}
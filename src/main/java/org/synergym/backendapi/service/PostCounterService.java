@@ -25,6 +25,16 @@ public interface PostCounterService {
     // 게시글 조회 수 증가
     void incrementViewCount(Integer postId);
 
+    // 게시글 조회 수 증가 (같은 방문자는 하루 한 번만 집계)
+    // 집계되었으면 true, 오늘 이미 조회한 방문자면 false
+    boolean incrementViewCount(Integer postId, String viewerKey);
+
+    // 게시글의 오늘 순 방문자 수 (근사값)
+    long getUniqueViewerCount(Integer postId);
+
+    // 버퍼에 누적된 집계 delta를 DB에 반영 (주기적으로 실행)
+    void flushPendingCounts();
+
     // 게시글의 모든 집계 데이터 조회 (좋아요 수, 댓글 수, 조회 수)
     // 프론트엔드에서 게시글 목록/상세 표시용
     PostCounterDTO getCounter(Integer postId);
@@ -1,7 +1,9 @@
 package org.synergym.backendapi.service;
 
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.synergym.backendapi.dto.PostCounterDTO;
@@ -12,7 +14,10 @@ import org.synergym.backendapi.exception.ErrorCode;
 import org.synergym.backendapi.repository.PostCounterRepository;
 import org.synergym.backendapi.repository.PostRepository;
 
+import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -21,6 +26,12 @@ public class PostCounterServiceImpl implements PostCounterService {
     
     private final PostCounterRepository postCounterRepository;
     private final PostRepository postRepository;
+    private final PostCounterWriteBuffer writeBuffer;
+    private final PostCounterRedisStore redisStore;
+    private final PostRankingStore rankingStore;
+
+    // reconciler가 Redis에서 한 번에 꺼내는 게시글 수
+    private static final int REDIS_DRAIN_BATCH_SIZE = 500;
 
     /**
      * 카운터 조회 또는 생성 (안정적인 버전)
@@ -52,100 +63,170 @@ public class PostCounterServiceImpl implements PostCounterService {
         }
     }
     
-    //좋아요 수 증가
+    //좋아요 수 증가 (Redis에 누적, reconciler가 DB 반영)
     @Override
-    @Transactional
     public void incrementLikeCount(Integer postId) {
-        try {
-            PostCounter counter = getOrCreateCounter(postId);
-            counter.incrementLikeCount();
-            postCounterRepository.save(counter);
-            log.debug("Incremented like count for postId: {}", postId);
-        } catch (Exception e) {
-            log.error("Error incrementing like count for postId: {}", postId, e);
-            throw e;
-        }
+        addDelta(postId, PostCounterRedisStore.FIELD_LIKE, 1);
     }
 
-    //좋아요 수 감소
+    //좋아요 수 감소 (Redis에 누적, reconciler가 DB 반영)
     @Override
-    @Transactional
     public void decrementLikeCount(Integer postId) {
+        addDelta(postId, PostCounterRedisStore.FIELD_LIKE, -1);
+    }
+
+    //댓글 수 증가 (Redis에 누적, reconciler가 DB 반영)
+    @Override
+    public void incrementCommentCount(Integer postId) {
+        addDelta(postId, PostCounterRedisStore.FIELD_COMMENT, 1);
+    }
+
+    //댓글 수 감소 (Redis에 누적, reconciler가 DB 반영)
+    @Override
+    public void decrementCommentCount(Integer postId) {
+        addDelta(postId, PostCounterRedisStore.FIELD_COMMENT, -1);
+    }
+
+    //조회 수 증가 (Redis에 누적, reconciler가 DB 반영)
+    @Override
+    public void incrementViewCount(Integer postId) {
+        addDelta(postId, PostCounterRedisStore.FIELD_VIEW, 1);
+    }
+
+    //조회 수 증가 (같은 방문자는 하루 한 번만 집계)
+    @Override
+    public boolean incrementViewCount(Integer postId, String viewerKey) {
+        if (viewerKey != null) {
+            try {
+                if (!redisStore.recordUniqueView(postId, viewerKey, LocalDate.now())) {
+                    log.debug("Duplicate view ignored for postId: {}", postId);
+                    return false;
+                }
+            } catch (Exception e) {
+                // Redis 장애 시 중복 제거 없이 집계
+                log.warn("Unique view check failed for postId: {} - {}", postId, e.getMessage());
+            }
+        }
+        incrementViewCount(postId);
+        return true;
+    }
+
+    //오늘 순 방문자 수 (HyperLogLog 근사값)
+    @Override
+    public long getUniqueViewerCount(Integer postId) {
         try {
-            PostCounter counter = getOrCreateCounter(postId);
-            counter.decrementLikeCount();
-            postCounterRepository.save(counter);
-            log.debug("Decremented like count for postId: {}", postId);
+            return redisStore.countUniqueViewers(postId, LocalDate.now());
         } catch (Exception e) {
-            log.error("Error decrementing like count for postId: {}", postId, e);
-            throw e;
+            log.error("Error getting unique viewer count for postId: {}", postId, e);
+            return 0L;
         }
     }
 
-    //댓글 수 증가
-    @Override
-    @Transactional
-    public void incrementCommentCount(Integer postId) {
+    // Redis에 delta 누적, 실패 시 로컬 버퍼에 누적 + 인기 랭킹 증분 갱신
+    private void addDelta(Integer postId, String field, long delta) {
         try {
-            PostCounter counter = getOrCreateCounter(postId);
-            counter.incrementCommentCount();
-            postCounterRepository.save(counter);
-            log.debug("Incremented comment count for postId: {}", postId);
+            redisStore.increment(postId, field, delta);
+            log.debug("Buffered {} delta {} in Redis for postId: {}", field, delta, postId);
         } catch (Exception e) {
-            log.error("Error incrementing comment count for postId: {}", postId, e);
-            throw e;
+            log.warn("Redis counter update failed, falling back to local buffer - postId: {}, {}", postId, e.getMessage());
+            switch (field) {
+                case PostCounterRedisStore.FIELD_LIKE -> writeBuffer.addLike(postId, delta);
+                case PostCounterRedisStore.FIELD_COMMENT -> writeBuffer.addComment(postId, delta);
+                default -> writeBuffer.addView(postId, delta);
+            }
+        }
+        try {
+            rankingStore.recordDelta(postId, field, delta);
+        } catch (Exception e) {
+            // 랭킹은 주기적 재구성으로 보정됨
+            log.warn("Failed to update post ranking - postId: {}, {}", postId, e.getMessage());
         }
     }
 
-    //댓글 수 감소
+    /**
+     * Redis와 로컬 버퍼에 누적된 delta를 DB에 반영 (reconciler)
+     * - 게시글당 UPDATE ... SET like_count = like_count + ? 한 번만 실행
+     * - PostCounter 행이 없으면 생성 후 다시 반영
+     * - 반영에 실패한 delta는 Redis로 되돌려 다음 flush에서 재시도 (Redis 장애 시에만 로컬 버퍼)
+     */
     @Override
-    @Transactional
-    public void decrementCommentCount(Integer postId) {
+    @Scheduled(fixedDelayString = "${post-counter.flush-interval-ms:5000}")
+    public void flushPendingCounts() {
+        Map<Integer, PostCounterWriteBuffer.Delta> drained = new HashMap<>(writeBuffer.drain());
         try {
-            PostCounter counter = getOrCreateCounter(postId);
-            counter.decrementCommentCount();
-            postCounterRepository.save(counter);
-            log.debug("Decremented comment count for postId: {}", postId);
+            Map<Integer, PostCounterWriteBuffer.Delta> batch;
+            do {
+                batch = redisStore.drain(REDIS_DRAIN_BATCH_SIZE);
+                batch.forEach((postId, delta) -> drained.merge(postId, delta, PostCounterWriteBuffer.Delta::plus));
+            } while (batch.size() >= REDIS_DRAIN_BATCH_SIZE);
         } catch (Exception e) {
-            log.error("Error decrementing comment count for postId: {}", postId, e);
-            throw e;
+            // Redis에 남은 delta는 다음 주기에 다시 꺼냄
+            log.warn("Failed to drain Redis counter deltas - {}", e.getMessage());
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        int flushed = 0;
+        for (Map.Entry<Integer, PostCounterWriteBuffer.Delta> entry : drained.entrySet()) {
+            Integer postId = entry.getKey();
+            PostCounterWriteBuffer.Delta delta = entry.getValue();
+            if (delta.isZero()) {
+                continue;
+            }
+            try {
+                if (applyDelta(postId, delta) == 0) {
+                    getOrCreateCounter(postId);
+                    applyDelta(postId, delta);
+                }
+                flushed++;
+            } catch (EntityNotFoundException e) {
+                // 삭제되었거나 존재하지 않는 게시글의 delta는 버림
+                log.warn("Dropping buffered counter delta for missing postId: {} - {}", postId, delta);
+            } catch (Exception e) {
+                log.error("Error flushing counter delta for postId: {}", postId, e);
+                restoreDelta(postId, delta);
+            }
         }
+        // 인기 게시글 구간은 대시보드 정기 재계산에서 반영 (flush마다 재계산하지 않음)
+        log.debug("Flushed buffered counter deltas - posts: {}/{}", flushed, drained.size());
     }
 
-    //조회 수 증가
-    @Override
-    @Transactional
-    public void incrementViewCount(Integer postId) {
+    // 실패한 delta는 노드가 종료되어도 유실되지 않도록 Redis에 되돌림
+    private void restoreDelta(Integer postId, PostCounterWriteBuffer.Delta delta) {
         try {
-            PostCounter counter = getOrCreateCounter(postId);
-            counter.incrementViewCount();
-            postCounterRepository.save(counter);
-            log.debug("Incremented view count for postId: {}", postId);
+            redisStore.restore(postId, delta);
         } catch (Exception e) {
-            log.error("Error incrementing view count for postId: {}", postId, e);
-            throw e;
+            log.warn("Failed to restore counter delta to Redis, keeping in local buffer - postId: {}, {}", postId, e.getMessage());
+            writeBuffer.restore(postId, delta);
         }
     }
 
+    private int applyDelta(Integer postId, PostCounterWriteBuffer.Delta delta) {
+        return postCounterRepository.applyDeltas(postId, delta.like(), delta.comment(), delta.view());
+    }
+
+    // 애플리케이션 종료 시 남은 delta 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushPendingCounts();
+    }
+
     //게시글의 모든 집계 데이터 조회 (좋아요 수, 댓글 수, 조회 수)
     @Override
     @Transactional(readOnly = true)
     public PostCounterDTO getCounter(Integer postId) {
         try {
             PostCounter counter = postCounterRepository.findByPostId(postId).orElse(null);
-            PostCounterDTO dto = entityToDTO(counter);
-            
-            // PostCounter가 없는 경우 기본값으로 DTO 생성
-            if (dto == null) {
-                dto = PostCounterDTO.builder()
-                        .postId(postId)
-                        .likeCount(0)
-                        .commentCount(0)
-                        .viewCount(0)
-                        .build();
-            }
-            
-            return dto;
+            PostCounterWriteBuffer.Delta pending = pendingOf(postId);
+
+            // PostCounter가 없는 경우 0을 기준으로 미반영 delta만 합산
+            return PostCounterDTO.builder()
+                    .postId(postId)
+                    .likeCount(merge(counter != null ? counter.getLikeCount() : 0, pending.like()))
+                    .commentCount(merge(counter != null ? counter.getCommentCount() : 0, pending.comment()))
+                    .viewCount(merge(counter != null ? counter.getViewCount() : 0, pending.view()))
+                    .build();
         } catch (Exception e) {
             log.error("Error getting counter for postId: {}", postId, e);
             // 에러 발생 시 기본값 반환
@@ -164,7 +245,7 @@ public class PostCounterServiceImpl implements PostCounterService {
     public Integer getLikeCount(Integer postId) {
         try {
             PostCounter counter = postCounterRepository.findByPostId(postId).orElse(null);
-            return counter != null ? counter.getLikeCount() : 0;
+            return merge(counter != null ? counter.getLikeCount() : 0, pendingOf(postId).like());
         } catch (Exception e) {
             log.error("Error getting like count for postId: {}", postId, e);
             return 0;
@@ -177,7 +258,7 @@ public class PostCounterServiceImpl implements PostCounterService {
     public Integer getCommentCount(Integer postId) {
         try {
             PostCounter counter = postCounterRepository.findByPostId(postId).orElse(null);
-            return counter != null ? counter.getCommentCount() : 0;
+            return merge(counter != null ? counter.getCommentCount() : 0, pendingOf(postId).comment());
         } catch (Exception e) {
             log.error("Error getting comment count for postId: {}", postId, e);
             return 0;
@@ -190,17 +271,37 @@ public class PostCounterServiceImpl implements PostCounterService {
     public Integer getViewCount(Integer postId) {
         try {
             PostCounter counter = postCounterRepository.findByPostId(postId).orElse(null);
-            return counter != null ? counter.getViewCount() : 0;
+            return merge(counter != null ? counter.getViewCount() : 0, pendingOf(postId).view());
         } catch (Exception e) {
             log.error("Error getting view count for postId: {}", postId, e);
             return 0;
         }
     }
 
+    // Redis + 로컬 버퍼의 미반영 delta
+    private PostCounterWriteBuffer.Delta pendingOf(Integer postId) {
+        PostCounterWriteBuffer.Delta local = writeBuffer.pendingOf(postId);
+        try {
+            return local.plus(redisStore.pendingOf(postId));
+        } catch (Exception e) {
+            log.warn("Failed to read Redis counter delta for postId: {} - {}", postId, e.getMessage());
+            return local;
+        }
+    }
+
+    // DB 값 + 미반영 delta (0 미만 방지)
+    private int merge(Integer persisted, long pending) {
+        long merged = (persisted != null ? persisted : 0) + pending;
+        return (int) Math.max(merged, 0);
+    }
+
     //기존 댓글들의 commentCount를 PostCounter에 반영 (마이그레이션용)
     @Transactional
     public void syncCommentCounts() {
         try {
+            // 동기화 값이 버퍼의 delta와 중복 반영되지 않도록 먼저 flush
+            flushPendingCounts();
+
             // 모든 Post 조회
             List<Post> posts = postRepository.findAll();
             
@@ -0,0 +1,101 @@
+package org.synergym.backendapi.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 집계 쓰기 버퍼 (write-behind)
+ * 좋아요/댓글/조회 이벤트를 DB에 바로 쓰지 않고 게시글별 LongAdder에 누적한 뒤,
+ * PostCounterServiceImpl의 주기적 flush에서 게시글당 한 번의 UPDATE로 반영
+ *
+ * [동작 방식]
+ * - 증가/감소: 게시글별 LongAdder에 delta를 더함 (map의 compute 안에서 더하므로 flush의 엔트리 제거와 겹치지 않음)
+ * - flush: 누적된 delta를 꺼내고 엔트리를 제거 (한 번 집계된 게시글이 map에 계속 남지 않도록)
+ * - 조회: DB 값 + 아직 반영되지 않은 delta를 합쳐서 반환
+ */
+@Component
+public class PostCounterWriteBuffer {
+
+    private final Map<Integer, PendingCounts> pending = new ConcurrentHashMap<>();
+
+    // 게시글별 미반영 delta
+    private static final class PendingCounts {
+        private final LongAdder like = new LongAdder();
+        private final LongAdder comment = new LongAdder();
+        private final LongAdder view = new LongAdder();
+    }
+
+    // flush 대상 delta (좋아요, 댓글, 조회)
+    public record Delta(long like, long comment, long view) {
+
+        public static final Delta ZERO = new Delta(0, 0, 0);
+
+        public boolean isZero() {
+            return like == 0 && comment == 0 && view == 0;
+        }
+
+        public Delta plus(Delta other) {
+            return new Delta(like + other.like, comment + other.comment, view + other.view);
+        }
+    }
+
+    // 엔트리 생성과 delta 반영을 한 번의 compute로 (drain이 제거한 엔트리에 더해 유실되지 않도록)
+    private void add(Integer postId, Delta delta) {
+        pending.compute(postId, (id, counts) -> {
+            PendingCounts target = counts != null ? counts : new PendingCounts();
+            target.like.add(delta.like());
+            target.comment.add(delta.comment());
+            target.view.add(delta.view());
+            return target;
+        });
+    }
+
+    public void addLike(Integer postId, long delta) {
+        add(postId, new Delta(delta, 0, 0));
+    }
+
+    public void addComment(Integer postId, long delta) {
+        add(postId, new Delta(0, delta, 0));
+    }
+
+    public void addView(Integer postId, long delta) {
+        add(postId, new Delta(0, 0, delta));
+    }
+
+    // 아직 DB에 반영되지 않은 delta 조회
+    public Delta pendingOf(Integer postId) {
+        PendingCounts counts = pending.get(postId);
+        if (counts == null) {
+            return Delta.ZERO;
+        }
+        return new Delta(counts.like.sum(), counts.comment.sum(), counts.view.sum());
+    }
+
+    /**
+     * 누적된 delta를 모두 꺼내고 엔트리 제거
+     * 꺼내기와 제거를 computeIfPresent 안에서 하므로, 동시에 들어온 증가분은 제거 전 엔트리에 더해져 함께 꺼내지거나
+     * 제거 후 새 엔트리에 쌓여 다음 flush에서 반영됨
+     */
+    public Map<Integer, Delta> drain() {
+        Map<Integer, Delta> drained = new HashMap<>();
+        for (Integer postId : pending.keySet()) {
+            pending.computeIfPresent(postId, (id, counts) -> {
+                Delta delta = new Delta(counts.like.sum(), counts.comment.sum(), counts.view.sum());
+                if (!delta.isZero()) {
+                    drained.put(id, delta);
+                }
+                return null;
+            });
+        }
+        return drained;
+    }
+
+    // flush 실패 시 꺼낸 delta를 다시 버퍼에 되돌림
+    public void restore(Integer postId, Delta delta) {
+        add(postId, delta);
+    }
+}
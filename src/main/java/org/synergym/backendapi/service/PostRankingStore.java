@@ -0,0 +1,394 @@
+package org.synergym.backendapi.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.synergym.backendapi.repository.PostRepository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 게시글 인기 랭킹 저장소 (Redis Sorted Set)
+ * 인기순 목록을 매 요청마다 전체 정렬하지 않고, 미리 정렬된 ZSET에서 범위 조회
+ *
+ * [키 구조]
+ * - post:rank:{metric}:all                 : 전체 랭킹
+ * - post:rank:{metric}:category:{id}       : 카테고리별 랭킹
+ * - post:rank:category                     : 게시글 ID -> 카테고리 ID 해시
+ * - post:rank:rebuild:lock                 : 전체 재구성 잠금 (한 노드만 실행)
+ * - post:rank:rebuild:journal              : 재구성 중 표시 (값은 journal 키 suffix)
+ * - post:rank:rebuild:journal-keys         : 재구성 중 journal에 기록된 랭킹 키 목록
+ *
+ * [hot 점수]
+ * 상호작용마다 weight * 2^((now - epoch) / halfLife)를 더하는 방식으로,
+ * 재계산 없이도 최근 상호작용이 오래된 상호작용보다 halfLife마다 2배 큰 점수를 가짐
+ *
+ * [갱신]
+ * - 좋아요/댓글/조회 delta 발생 시 ZINCRBY로 증분 갱신
+ * - 애플리케이션 시작 시, 매일 새벽에 DB 기준으로 전체 재구성 (Redis 잠금으로 한 노드만 실행)
+ *
+ * [재구성 중 증분]
+ * 재구성 시작 전 미반영 delta를 DB에 반영하고, 스냅샷 조회 이후의 증분은 journal 키에도 기록
+ * 교체 시 임시 키와 journal 키를 ZUNIONSTORE로 합친 뒤 RENAME하므로 재구성 중 증분이 유실되지 않음
+ * (재구성 중 카테고리 이동은 카테고리 해시만 반영되고 카테고리별 점수는 다음 재구성에서 보정)
+ */
+@Slf4j
+@Component
+public class PostRankingStore {
+
+    private static final String KEY_PREFIX = "post:rank:";
+    private static final String CATEGORY_HASH_KEY = "post:rank:category";
+    private static final String REBUILD_LOCK_KEY = "post:rank:rebuild:lock";
+    private static final String REBUILD_JOURNAL_KEY = "post:rank:rebuild:journal";
+    private static final String REBUILD_JOURNAL_KEYS_KEY = "post:rank:rebuild:journal-keys";
+    private static final int REBUILD_PIPELINE_SIZE = 500;
+    // 재구성 잠금/journal/임시 키 유지 시간 (재구성 중 노드가 종료되어도 정리되도록)
+    private static final Duration REBUILD_TTL = Duration.ofMinutes(10);
+
+    // 잠금 해제 (내가 잡은 잠금일 때만)
+    private static final DefaultRedisScript<Long> RELEASE_LOCK = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class);
+
+    /**
+     * 재구성한 임시 키를 실제 키로 원자적으로 교체
+     * - 임시 키에 journal(재구성 중 증분)을 ZUNIONSTORE로 더한 뒤 RENAME (TTL 제거)
+     * - 스냅샷에 없는 키는 journal만 있으면 journal로, 없으면 삭제
+     * - 카테고리 해시는 재구성 중 등록/이동된 게시글을 임시 해시에 덮어쓴 뒤 교체
+     * KEYS: 스냅샷 기준 랭킹 키, ARGV: 임시 suffix, journal suffix, journal 키 목록 키, journal 표시 키, 카테고리 해시 키
+     */
+    private static final DefaultRedisScript<Long> SWAP_REBUILT_KEYS = new DefaultRedisScript<>(
+            "local keys = {} " +
+            "for _, k in ipairs(KEYS) do keys[k] = true end " +
+            "for _, k in ipairs(redis.call('SMEMBERS', ARGV[3])) do keys[k] = true end " +
+            "for k, _ in pairs(keys) do " +
+            "  local temp = k .. ARGV[1] " +
+            "  local journal = k .. ARGV[2] " +
+            "  if redis.call('EXISTS', temp) == 1 then " +
+            "    if redis.call('EXISTS', journal) == 1 then redis.call('ZUNIONSTORE', temp, 2, temp, journal) end " +
+            "    redis.call('RENAME', temp, k) redis.call('PERSIST', k) " +
+            "  elseif redis.call('EXISTS', journal) == 1 then " +
+            "    redis.call('RENAME', journal, k) redis.call('PERSIST', k) " +
+            "  else " +
+            "    redis.call('DEL', k) " +
+            "  end " +
+            "  redis.call('DEL', journal) " +
+            "end " +
+            "local hash = ARGV[5] " +
+            "local tempHash = hash .. ARGV[1] " +
+            "local journalHash = hash .. ARGV[2] " +
+            "local entries = redis.call('HGETALL', journalHash) " +
+            "for i = 1, #entries, 2 do redis.call('HSET', tempHash, entries[i], entries[i + 1]) end " +
+            "if redis.call('EXISTS', tempHash) == 1 then " +
+            "  redis.call('RENAME', tempHash, hash) redis.call('PERSIST', hash) " +
+            "else " +
+            "  redis.call('DEL', hash) " +
+            "end " +
+            "redis.call('DEL', journalHash, ARGV[3], ARGV[4]) " +
+            "return 1",
+            Long.class);
+
+    // hot 점수 기준 시각과 반감기 (7일 반감기면 double 범위를 수십 년간 넘지 않음)
+    private static final long HOT_EPOCH_SECONDS =
+            LocalDateTime.of(2025, 1, 1, 0, 0).atZone(ZoneId.systemDefault()).toEpochSecond();
+    private static final double HOT_HALF_LIFE_SECONDS = 7 * 24 * 60 * 60;
+
+    private static final double HOT_WEIGHT_BASE = 1.0;
+    private static final double HOT_WEIGHT_LIKE = 3.0;
+    private static final double HOT_WEIGHT_COMMENT = 5.0;
+    private static final double HOT_WEIGHT_VIEW = 1.0;
+
+    private final StringRedisTemplate redisTemplate;
+    private final PostRepository postRepository;
+    // 재구성 전 미반영 delta 반영용 (PostCounterServiceImpl이 이 클래스를 사용하므로 지연 주입)
+    private final PostCounterService postCounterService;
+
+    public PostRankingStore(StringRedisTemplate redisTemplate,
+                            PostRepository postRepository,
+                            @Lazy PostCounterService postCounterService) {
+        this.redisTemplate = redisTemplate;
+        this.postRepository = postRepository;
+        this.postCounterService = postCounterService;
+    }
+
+    // 랭킹 기준
+    public enum Metric {
+        LIKES("likes"), VIEWS("views"), COMMENTS("comments"), HOT("hot");
+
+        private final String key;
+
+        Metric(String key) {
+            this.key = key;
+        }
+    }
+
+    private static String globalKey(Metric metric) {
+        return KEY_PREFIX + metric.key + ":all";
+    }
+
+    private static String categoryKey(Metric metric, Integer categoryId) {
+        return KEY_PREFIX + metric.key + ":category:" + categoryId;
+    }
+
+    private static String rankingKey(Metric metric, Integer categoryId) {
+        return categoryId == null ? globalKey(metric) : categoryKey(metric, categoryId);
+    }
+
+    // 특정 시각의 상호작용 1건이 갖는 hot 점수 배율
+    private static double hotFactor(long epochSeconds) {
+        return Math.pow(2, (epochSeconds - HOT_EPOCH_SECONDS) / HOT_HALF_LIFE_SECONDS);
+    }
+
+    private static double nowHotFactor() {
+        return hotFactor(System.currentTimeMillis() / 1000);
+    }
+
+    /**
+     * 집계 delta를 랭킹에 반영
+     * @param field PostCounterRedisStore의 필드명 (like, comment, view)
+     */
+    public void recordDelta(Integer postId, String field, long delta) {
+        Metric metric;
+        double hotWeight;
+        switch (field) {
+            case PostCounterRedisStore.FIELD_LIKE -> { metric = Metric.LIKES; hotWeight = HOT_WEIGHT_LIKE; }
+            case PostCounterRedisStore.FIELD_COMMENT -> { metric = Metric.COMMENTS; hotWeight = HOT_WEIGHT_COMMENT; }
+            default -> { metric = Metric.VIEWS; hotWeight = HOT_WEIGHT_VIEW; }
+        }
+        String member = postId.toString();
+        // 카테고리와 재구성 중 여부를 한 번에 조회
+        List<Object> lookup = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            conn.hGet(CATEGORY_HASH_KEY, member);
+            conn.get(REBUILD_JOURNAL_KEY);
+            return null;
+        });
+        Object categoryValue = lookup.get(0);
+        String journal = (String) lookup.get(1);
+        // 취소(음수 delta)는 과거 상호작용의 배율을 알 수 없으므로 hot 점수는 재구성 시 보정
+        double hotDelta = delta > 0 ? hotWeight * delta * nowHotFactor() : 0;
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            incrementScore(conn, globalKey(metric), delta, member, journal);
+            if (hotDelta > 0) {
+                incrementScore(conn, globalKey(Metric.HOT), hotDelta, member, journal);
+            }
+            if (categoryValue != null) {
+                Integer categoryId = Integer.valueOf(categoryValue.toString());
+                incrementScore(conn, categoryKey(metric, categoryId), delta, member, journal);
+                if (hotDelta > 0) {
+                    incrementScore(conn, categoryKey(Metric.HOT, categoryId), hotDelta, member, journal);
+                }
+            }
+            return null;
+        });
+    }
+
+    // 랭킹 점수 증가 (재구성 중이면 journal 키에도 기록)
+    private void incrementScore(StringRedisConnection conn, String key, double delta, String member, String journal) {
+        conn.zIncrBy(key, delta, member);
+        if (journal != null) {
+            conn.zIncrBy(key + journal, delta, member);
+            conn.expire(key + journal, REBUILD_TTL.getSeconds());
+            conn.sAdd(REBUILD_JOURNAL_KEYS_KEY, key);
+            conn.expire(REBUILD_JOURNAL_KEYS_KEY, REBUILD_TTL.getSeconds());
+        }
+    }
+
+    // 카테고리 해시 갱신 (재구성 중이면 journal 해시에도 기록)
+    private void setCategory(StringRedisConnection conn, String member, Integer categoryId, String journal) {
+        conn.hSet(CATEGORY_HASH_KEY, member, categoryId.toString());
+        if (journal != null) {
+            conn.hSet(CATEGORY_HASH_KEY + journal, member, categoryId.toString());
+            conn.expire(CATEGORY_HASH_KEY + journal, REBUILD_TTL.getSeconds());
+        }
+    }
+
+    // 새 게시글 등록 (모든 랭킹에 0점, hot은 작성 시각 기준 기본 점수)
+    public void addPost(Integer postId, Integer categoryId) {
+        String member = postId.toString();
+        double hotScore = HOT_WEIGHT_BASE * nowHotFactor();
+        String journal = redisTemplate.opsForValue().get(REBUILD_JOURNAL_KEY);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            setCategory(conn, member, categoryId, journal);
+            for (Metric metric : Metric.values()) {
+                double score = metric == Metric.HOT ? hotScore : 0;
+                // 재구성 스냅샷 이후 등록된 게시글도 교체 후 남도록 journal에 기록
+                incrementScore(conn, globalKey(metric), score, member, journal);
+                incrementScore(conn, categoryKey(metric, categoryId), score, member, journal);
+            }
+            return null;
+        });
+    }
+
+    // 카테고리 변경 시 카테고리별 랭킹 간 점수 이동
+    public void moveCategory(Integer postId, Integer oldCategoryId, Integer newCategoryId) {
+        if (oldCategoryId == null || oldCategoryId.equals(newCategoryId)) {
+            return;
+        }
+        String member = postId.toString();
+        List<Double> scores = new ArrayList<>();
+        for (Metric metric : Metric.values()) {
+            scores.add(redisTemplate.opsForZSet().score(globalKey(metric), member));
+        }
+        String journal = redisTemplate.opsForValue().get(REBUILD_JOURNAL_KEY);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            setCategory(conn, member, newCategoryId, journal);
+            Metric[] metrics = Metric.values();
+            for (int i = 0; i < metrics.length; i++) {
+                conn.zRem(categoryKey(metrics[i], oldCategoryId), member);
+                Double score = scores.get(i);
+                if (score != null) {
+                    conn.zAdd(categoryKey(metrics[i], newCategoryId), score, member);
+                }
+            }
+            return null;
+        });
+    }
+
+    // 랭킹에 포함된 게시글 수 (0이면 아직 구성되지 않은 것으로 보고 DB로 대체)
+    public long size(Metric metric, Integer categoryId) {
+        Long size = redisTemplate.opsForZSet().zCard(rankingKey(metric, categoryId));
+        return size != null ? size : 0L;
+    }
+
+    /**
+     * 랭킹 범위 조회 (점수 내림차순)
+     * @param categoryId null이면 전체 랭킹
+     */
+    public List<Integer> range(Metric metric, Integer categoryId, long offset, int limit) {
+        Set<String> members = redisTemplate.opsForZSet()
+                .reverseRange(rankingKey(metric, categoryId), offset, offset + limit - 1);
+        if (members == null || members.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Integer> ids = new ArrayList<>(members.size());
+        for (String member : members) {
+            ids.add(Integer.valueOf(member));
+        }
+        return ids;
+    }
+
+    // 애플리케이션 시작 시 랭킹 재구성
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * DB 집계 기준으로 모든 랭킹 재구성
+     * 임시 키에 채운 뒤 교체하므로 재구성 중에도 기존 랭킹 조회 가능
+     * - 다른 노드가 재구성 중이면 건너뜀
+     * - 스냅샷 전에 미반영 delta를 DB에 반영하고, 스냅샷 이후 증분은 journal로 모아 교체 시 합산
+     */
+    @Scheduled(cron = "${post-ranking.rebuild-cron:0 30 4 * * *}")
+    public void rebuild() {
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, token, REBUILD_TTL))) {
+            log.info("Post ranking rebuild is running on another node, skipping");
+            return;
+        }
+        String suffix = ":rebuild:" + token;
+        String journal = ":journal:" + token;
+        try {
+            // 미반영 delta는 스냅샷에도 journal에도 없으므로 먼저 DB에 반영
+            postCounterService.flushPendingCounts();
+            // 이후 증분은 journal에도 기록
+            redisTemplate.opsForValue().set(REBUILD_JOURNAL_KEY, journal, REBUILD_TTL);
+
+            List<Object[]> rows = postRepository.findRankingSnapshot();
+            Set<String> liveKeys = new HashSet<>();
+            for (Metric metric : Metric.values()) {
+                liveKeys.add(globalKey(metric));
+            }
+
+            for (int start = 0; start < rows.size(); start += REBUILD_PIPELINE_SIZE) {
+                List<Object[]> chunk = rows.subList(start, Math.min(start + REBUILD_PIPELINE_SIZE, rows.size()));
+                for (Object[] row : chunk) {
+                    Integer categoryId = ((Number) row[1]).intValue();
+                    for (Metric metric : Metric.values()) {
+                        liveKeys.add(categoryKey(metric, categoryId));
+                    }
+                }
+                redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    StringRedisConnection conn = (StringRedisConnection) connection;
+                    for (Object[] row : chunk) {
+                        String member = String.valueOf(((Number) row[0]).intValue());
+                        Integer categoryId = ((Number) row[1]).intValue();
+                        long createdAt = toEpochSeconds(row[2]);
+                        double likes = ((Number) row[3]).doubleValue();
+                        double comments = ((Number) row[4]).doubleValue();
+                        double views = ((Number) row[5]).doubleValue();
+                        double hot = (HOT_WEIGHT_BASE + HOT_WEIGHT_LIKE * likes + HOT_WEIGHT_COMMENT * comments
+                                + HOT_WEIGHT_VIEW * views) * hotFactor(createdAt);
+
+                        conn.hSet(CATEGORY_HASH_KEY + suffix, member, categoryId.toString());
+                        addToBoth(conn, Metric.LIKES, categoryId, member, likes, suffix);
+                        addToBoth(conn, Metric.COMMENTS, categoryId, member, comments, suffix);
+                        addToBoth(conn, Metric.VIEWS, categoryId, member, views, suffix);
+                        addToBoth(conn, Metric.HOT, categoryId, member, hot, suffix);
+                    }
+                    return null;
+                });
+            }
+
+            // 교체 전에 재구성이 중단되어도 임시 키가 남지 않도록 만료 시간 설정
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                conn.expire(CATEGORY_HASH_KEY + suffix, REBUILD_TTL.getSeconds());
+                for (String key : liveKeys) {
+                    conn.expire(key + suffix, REBUILD_TTL.getSeconds());
+                }
+                return null;
+            });
+
+            // 임시 키 + journal을 실제 키로 교체하고 journal 종료 (한 번의 스크립트로 원자적으로)
+            redisTemplate.execute(SWAP_REBUILT_KEYS, new ArrayList<>(liveKeys),
+                    suffix, journal, REBUILD_JOURNAL_KEYS_KEY, REBUILD_JOURNAL_KEY, CATEGORY_HASH_KEY);
+            log.info("Rebuilt post rankings - posts: {}", rows.size());
+        } catch (Exception e) {
+            // journal 기록 중단 (남은 임시/journal 키는 만료 시간 후 삭제됨)
+            redisTemplate.delete(REBUILD_JOURNAL_KEY);
+            log.error("Failed to rebuild post rankings", e);
+        } finally {
+            redisTemplate.execute(RELEASE_LOCK, List.of(REBUILD_LOCK_KEY), token);
+        }
+    }
+
+    private void addToBoth(StringRedisConnection conn, Metric metric, Integer categoryId,
+                           String member, double score, String suffix) {
+        conn.zAdd(globalKey(metric) + suffix, score, member);
+        conn.zAdd(categoryKey(metric, categoryId) + suffix, score, member);
+    }
+
+    private long toEpochSeconds(Object createdAt) {
+        if (createdAt instanceof Timestamp timestamp) {
+            return timestamp.getTime() / 1000;
+        }
+        if (createdAt instanceof LocalDateTime dateTime) {
+            return dateTime.atZone(ZoneId.systemDefault()).toEpochSecond();
+        }
+        return System.currentTimeMillis() / 1000;
+    }
+}
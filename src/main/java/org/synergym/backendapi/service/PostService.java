@@ -2,7 +2,10 @@ package org.synergym.backendapi.service;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.synergym.backendapi.dto.PostCursorPageDTO;
 import org.synergym.backendapi.dto.PostDTO;
+import org.synergym.backendapi.dto.SearchHitDTO;
+import org.synergym.backendapi.dto.SearchPageDTO;
 import org.synergym.backendapi.entity.Post;
 
 import java.util.List;
@@ -30,9 +33,12 @@ public interface PostService {
     // 게시글 삭제
     void deletePost(Integer id);
 
-    // 제목 또는 내용으로 게시글 검색
+    // 제목 또는 내용으로 게시글 검색 (관련도순 상위 결과)
     List<PostDTO> searchPosts(String keyword);
 
+    // 제목 또는 내용으로 게시글 검색 (관련도순, 페이징, 하이라이트 포함)
+    SearchPageDTO<SearchHitDTO<PostDTO>> searchPostsRanked(String keyword, Pageable pageable);
+
     // 사용자별 게시글 조회 (페이징)
     Page<PostDTO> getPostsByUserIdWithPaging(Integer userId, Pageable pageable);
 
@@ -42,6 +48,24 @@ public interface PostService {
     // 카테고리별 게시글 조회 (페이징, 인기순)
     Page<PostDTO> getPostsByCategoryIdWithPagingByPopularity(Integer categoryId, Pageable pageable);
 
+    // 페이징된 게시글 조회 (hot 점수순)
+    Page<PostDTO> getHotPostsWithPaging(Pageable pageable);
+
+    // 카테고리별 게시글 조회 (페이징, hot 점수순)
+    Page<PostDTO> getHotPostsByCategoryIdWithPaging(Integer categoryId, Pageable pageable);
+
+    // 커서 기반 게시글 조회 (최신순, 무한 스크롤용)
+    PostCursorPageDTO getFeed(String cursor, int size);
+
+    // 커서 기반 게시글 조회 (인기순)
+    PostCursorPageDTO getPopularFeed(String cursor, int size);
+
+    // 카테고리별 커서 기반 게시글 조회 (최신순)
+    PostCursorPageDTO getCategoryFeed(Integer categoryId, String cursor, int size);
+
+    // 카테고리별 커서 기반 게시글 조회 (인기순)
+    PostCursorPageDTO getCategoryPopularFeed(Integer categoryId, String cursor, int size);
+
     // DTO -> Entity 변환
     default Post dtoToEntity(PostDTO dto) {
         if (dto == null) {
@@ -1,25 +1,46 @@
 package org.synergym.backendapi.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.synergym.backendapi.config.SearchIndexInitializer;
+import org.synergym.backendapi.dto.PostCursorPageDTO;
 import org.synergym.backendapi.dto.PostDTO;
+import org.synergym.backendapi.dto.SearchHitDTO;
+import org.synergym.backendapi.dto.SearchPageDTO;
 import org.synergym.backendapi.entity.Category;
 import org.synergym.backendapi.entity.Post;
 import org.synergym.backendapi.entity.PostCounter;
 import org.synergym.backendapi.entity.User;
+import org.synergym.backendapi.event.DashboardDataChangedEvent;
 import org.synergym.backendapi.exception.EntityNotFoundException;
 import org.synergym.backendapi.exception.ErrorCode;
 import org.synergym.backendapi.repository.CategoryRepository;
 import org.synergym.backendapi.repository.PostCounterRepository;
 import org.synergym.backendapi.repository.PostRepository;
 import org.synergym.backendapi.repository.UserRepository;
+import org.synergym.backendapi.util.CursorCodec;
+import org.synergym.backendapi.util.SearchTextUtils;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PostServiceImpl implements PostService {
@@ -28,6 +49,14 @@ public class PostServiceImpl implements PostService {
     private final PostCounterRepository postCounterRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
+    private final PostRankingStore rankingStore;
+    private final SearchIndexInitializer searchIndexInitializer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 커서 정렬 종류 및 최대 페이지 크기
+    private static final String CURSOR_LATEST = "latest";
+    private static final String CURSOR_POPULAR = "popular";
+    private static final int MAX_FEED_SIZE = 50;
 
     //ID로 게시글 조회 (없으면 예외 발생)
     private Post findPostById(int id) {
@@ -47,6 +76,21 @@ public class PostServiceImpl implements PostService {
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.CATEGORY_NOT_FOUND));
     }
 
+    /**
+     * 커서 피드 정렬 키 보정 (애플리케이션 시작 시)
+     * - PostCounter가 없는 게시글에 행 생성 (인기순 피드 inner join)
+     * - created_at이 없는 게시글에 값 채움 (최신순 피드 커서)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillFeedSortKeys() {
+        int counters = postCounterRepository.insertMissingCounters();
+        int createdAt = postRepository.backfillMissingCreatedAt();
+        if (counters > 0 || createdAt > 0) {
+            log.info("Backfilled feed sort keys - counters: {}, createdAt: {}", counters, createdAt);
+        }
+    }
+
     //게시글 생성 - PostCounter 자동 생성
     @Override
     @Transactional
@@ -68,16 +112,17 @@ public class PostServiceImpl implements PostService {
             // 3. Post 엔티티 저장
             Post savedPost = postRepository.save(post);
             
-            // 4. PostCounter 자동 생성 (안정적인 버전)
+            // 4. PostCounter 생성 (인기순 피드가 PostCounter와 inner join하므로 게시글과 같은 트랜잭션에서 필수 생성)
+            postCounterRepository.save(new PostCounter(savedPost));
+
+            // 5. 인기 랭킹 등록 (실패해도 주기적 재구성 시 반영됨)
             try {
-                PostCounter postCounter = new PostCounter(savedPost);
-                postCounterRepository.save(postCounter);
+                rankingStore.addPost(savedPost.getId(), category.getId());
             } catch (Exception e) {
-                // PostCounter 생성 실패 시에도 Post는 유지
-                // PostCounter는 필요할 때 자동 생성됨
-                // 로그만 남기고 계속 진행
+                log.warn("Failed to register post ranking - postId: {}, {}", savedPost.getId(), e.getMessage());
             }
             
+            eventPublisher.publishEvent(new DashboardDataChangedEvent("post"));
             return savedPost.getId();
         } catch (Exception e) {
             throw e;
@@ -88,48 +133,32 @@ public class PostServiceImpl implements PostService {
     @Override
     @Transactional(readOnly = true)
     public List<PostDTO> getAllPosts() {
-        return postRepository.findAll()
-                .stream()
-                .map(post -> {
-                    // comments를 로드하여 댓글 수를 정확히 계산
-                    post.getComments().size(); // comments를 로드하기 위해 호출
-                    return entityToDTO(post);
-                })
-                .collect(Collectors.toList());
+        // 작성자/카테고리/집계를 조인한 DTO 프로젝션 (댓글 컬렉션 로딩 없음)
+        return postRepository.findAllFeed();
     }
 
     //페이징 처리된 게시글 목록 조회(최신순)
     @Override
     @Transactional(readOnly = true)
     public Page<PostDTO> getPostsWithPaging(Pageable pageable) {
-        return postRepository.findAllByOrderByCreatedAtDesc(pageable)
-                .map(post -> {
-                    // comments를 로드하여 댓글 수를 정확히 계산
-                    post.getComments().size(); // comments를 로드하기 위해 호출
-                    return entityToDTO(post);
-                });
+        return postRepository.findFeedOrderByCreatedAtDesc(pageable);
     }
 
     //페이징 처리된 게시글 목록 조회(인기순)
     @Override
     @Transactional(readOnly = true)
     public Page<PostDTO> getPostsWithPagingByPopularity(Pageable pageable) {
-        return postRepository.findAllByOrderByLikeCountDesc(pageable)
-                .map(post -> {
-                    // comments를 로드하여 댓글 수를 정확히 계산
-                    post.getComments().size(); // comments를 로드하기 위해 호출
-                    return entityToDTO(post);
-                });
+        // 미리 정렬된 랭킹에서 범위 조회, 랭킹을 사용할 수 없으면 DB 정렬로 대체
+        return findRankedPage(PostRankingStore.Metric.LIKES, null, pageable)
+                .orElseGet(() -> postRepository.findFeedOrderByLikeCountDesc(pageable));
     }
 
     //ID로 게시글 단건 조회
     @Override
     @Transactional(readOnly = true)
     public PostDTO getPostById(Integer id) {
-        Post post = findPostById(id);
-        // comments를 로드하여 댓글 수를 정확히 계산
-        post.getComments().size(); // comments를 로드하기 위해 호출
-        return entityToDTO(post);
+        return postRepository.findFeedById(id)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.POST_NOT_FOUND));
     }
 
     //게시글 수정
@@ -148,8 +177,14 @@ public class PostServiceImpl implements PostService {
             post.updateImageUrl(postDTO.getImageUrl());
         }
         if (postDTO.getCategoryId() != null) {
+            Integer oldCategoryId = post.getCategory().getId();
             Category category = findCategoryById(postDTO.getCategoryId());
             post.updateCategory(category);
+            try {
+                rankingStore.moveCategory(id, oldCategoryId, category.getId());
+            } catch (Exception e) {
+                log.warn("Failed to move post ranking - postId: {}, {}", id, e.getMessage());
+            }
         }
         
         postRepository.save(post);
@@ -162,55 +197,254 @@ public class PostServiceImpl implements PostService {
         Post post = postRepository.findById(id)
                         .orElseThrow(() -> new EntityNotFoundException(ErrorCode.POST_NOT_FOUND));
         post.softDelete();
+        eventPublisher.publishEvent(new DashboardDataChangedEvent("post"));
     }
 
-    //게시글 제목/내용 키워드 검색
+    //게시글 제목/내용 키워드 검색 (관련도순 상위 결과만 반환)
     @Override
     @Transactional(readOnly = true)
     public List<PostDTO> searchPosts(String keyword) {
-        return postRepository.findByTitleContainingOrContentContaining(keyword, keyword)
+        return searchPostsRanked(keyword, PageRequest.of(0, SearchTextUtils.LEGACY_SEARCH_LIMIT))
+                .getContent()
                 .stream()
-                .map(post -> {
-                    // comments를 로드하여 댓글 수를 정확히 계산
-                    post.getComments().size(); // comments를 로드하기 위해 호출
-                    return entityToDTO(post);
-                })
+                .map(SearchHitDTO::getItem)
                 .collect(Collectors.toList());
     }
 
+    //게시글 제목/내용 키워드 검색 (관련도순, 페이징, 하이라이트 포함)
+    @Override
+    @Transactional(readOnly = true)
+    public SearchPageDTO<SearchHitDTO<PostDTO>> searchPostsRanked(String keyword, Pageable pageable) {
+        if (keyword == null || keyword.isBlank()) {
+            return SearchPageDTO.empty(pageable);
+        }
+        String trimmed = keyword.trim();
+        String pattern = SearchTextUtils.toContainsPattern(trimmed);
+        // 정렬은 관련도로 고정 (클라이언트 sort 파라미터는 무시)
+        Pageable page = PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), SearchTextUtils.MAX_SEARCH_SIZE));
+        Page<Object[]> hits;
+        int keywordLength = SearchTextUtils.keywordLength(trimmed);
+        boolean truncated = false;
+        if (keywordLength >= SearchIndexInitializer.TRIGRAM_MIN_KEYWORD_LENGTH) {
+            hits = searchIndexInitializer.isTrigramAvailable()
+                    ? postRepository.searchRanked(trimmed, pattern, page)
+                    : postRepository.searchPlain(pattern, page);
+        } else if (keywordLength == SearchIndexInitializer.BIGRAM_KEYWORD_LENGTH && searchIndexInitializer.isBigramAvailable()) {
+            // '운동', '어깨' 같은 2글자 검색어는 bigram 인덱스로 전체 범위 검색
+            hits = postRepository.searchByBigram(trimmed, pattern, page);
+        } else {
+            // 인덱스를 쓸 수 없는 검색어는 전체 테이블 대신 최근 게시글 범위만 검색하고, 범위 밖 게시글이 있으면 truncated로 알림
+            hits = postRepository.searchRecent(pattern, SearchTextUtils.SHORT_KEYWORD_SCAN_LIMIT, page);
+            truncated = postRepository.existsBeyondScanLimit(SearchTextUtils.SHORT_KEYWORD_SCAN_LIMIT);
+        }
+        if (hits.isEmpty()) {
+            return new SearchPageDTO<>(List.of(), page, hits.getTotalElements(), truncated);
+        }
+
+        List<Integer> ids = hits.getContent().stream()
+                .map(row -> ((Number) row[0]).intValue())
+                .collect(Collectors.toList());
+        Map<Integer, PostDTO> postsById = postRepository.findFeedByIds(ids).stream()
+                .collect(Collectors.toMap(PostDTO::getId, Function.identity()));
+
+        List<SearchHitDTO<PostDTO>> content = new ArrayList<>();
+        for (Object[] row : hits.getContent()) {
+            PostDTO post = postsById.get(((Number) row[0]).intValue());
+            if (post == null) {
+                continue;
+            }
+            List<String> highlights = new ArrayList<>();
+            String titleSnippet = SearchTextUtils.highlight(post.getTitle(), trimmed);
+            if (titleSnippet != null) {
+                highlights.add(titleSnippet);
+            }
+            String contentSnippet = SearchTextUtils.highlight(post.getContent(), trimmed);
+            if (contentSnippet != null) {
+                highlights.add(contentSnippet);
+            }
+            content.add(SearchHitDTO.<PostDTO>builder()
+                    .item(post)
+                    .score(((Number) row[1]).doubleValue())
+                    .highlights(highlights)
+                    .build());
+        }
+        return new SearchPageDTO<>(content, page, hits.getTotalElements(), truncated);
+    }
+
     //사용자별 게시글 목록 페이징 조회
     @Override
     @Transactional(readOnly = true)
     public Page<PostDTO> getPostsByUserIdWithPaging(Integer userId, Pageable pageable) {
-        return postRepository.findByUserId(userId, pageable)
-                .map(post -> {
-                    // comments를 로드하여 댓글 수를 정확히 계산
-                    post.getComments().size(); // comments를 로드하기 위해 호출
-                    return entityToDTO(post);
-                });
+        return postRepository.findFeedByUserId(userId, pageable);
     }
 
     //카테고리별 게시글 목록 페이징 조회(최신순)
     @Override
     @Transactional(readOnly = true)
     public Page<PostDTO> getPostsByCategoryIdWithPaging(Integer categoryId, Pageable pageable) {
-        return postRepository.findByCategoryIdOrderByCreatedAtDesc(categoryId, pageable)
-                .map(post -> {
-                    // comments를 로드하여 댓글 수를 정확히 계산
-                    post.getComments().size(); // comments를 로드하기 위해 호출
-                    return entityToDTO(post);
-                });
+        return postRepository.findFeedByCategoryIdOrderByCreatedAtDesc(categoryId, pageable);
     }
 
     //카테고리별 게시글 목록 페이징 조회(인기순)
     @Override
     @Transactional(readOnly = true)
     public Page<PostDTO> getPostsByCategoryIdWithPagingByPopularity(Integer categoryId, Pageable pageable) {
-        return postRepository.findByCategoryIdOrderByLikeCountDesc(categoryId, pageable)
-                .map(post -> {
-                    // comments를 로드하여 댓글 수를 정확히 계산
-                    post.getComments().size(); // comments를 로드하기 위해 호출
-                    return entityToDTO(post);
-                });
-    }
-} 
\ No newline at end of file
+        return findRankedPage(PostRankingStore.Metric.LIKES, categoryId, pageable)
+                .orElseGet(() -> postRepository.findFeedByCategoryIdOrderByLikeCountDesc(categoryId, pageable));
+    }
+
+    //페이징 처리된 게시글 목록 조회(hot 점수순)
+    @Override
+    @Transactional(readOnly = true)
+    public Page<PostDTO> getHotPostsWithPaging(Pageable pageable) {
+        // 랭킹을 사용할 수 없으면 최신순으로 대체
+        return findRankedPage(PostRankingStore.Metric.HOT, null, pageable)
+                .orElseGet(() -> postRepository.findFeedOrderByCreatedAtDesc(pageable));
+    }
+
+    //카테고리별 게시글 목록 페이징 조회(hot 점수순)
+    @Override
+    @Transactional(readOnly = true)
+    public Page<PostDTO> getHotPostsByCategoryIdWithPaging(Integer categoryId, Pageable pageable) {
+        return findRankedPage(PostRankingStore.Metric.HOT, categoryId, pageable)
+                .orElseGet(() -> postRepository.findFeedByCategoryIdOrderByCreatedAtDesc(categoryId, pageable));
+    }
+
+    /**
+     * 랭킹 ZSET에서 페이지 범위의 게시글 ID를 읽고 DTO 프로젝션으로 조회
+     * 랭킹이 비어 있거나 Redis 장애 시 빈 Optional (호출 측에서 DB 정렬로 대체)
+     */
+    private Optional<Page<PostDTO>> findRankedPage(PostRankingStore.Metric metric, Integer categoryId, Pageable pageable) {
+        long total;
+        List<Integer> ids;
+        try {
+            total = rankingStore.size(metric, categoryId);
+            if (total == 0) {
+                return Optional.empty();
+            }
+            ids = rankingStore.range(metric, categoryId, pageable.getOffset(), pageable.getPageSize());
+        } catch (Exception e) {
+            log.warn("Post ranking unavailable, falling back to database - metric: {}, {}", metric, e.getMessage());
+            return Optional.empty();
+        }
+        if (ids.isEmpty()) {
+            return Optional.of(new PageImpl<>(List.of(), pageable, total));
+        }
+
+        // IN 조회 결과를 랭킹 순서대로 정렬
+        Map<Integer, PostDTO> postsById = postRepository.findFeedByIds(ids).stream()
+                .collect(Collectors.toMap(PostDTO::getId, Function.identity()));
+        List<PostDTO> content = ids.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return Optional.of(new PageImpl<>(content, pageable, total));
+    }
+
+    //커서 기반 게시글 조회(최신순)
+    @Override
+    @Transactional(readOnly = true)
+    public PostCursorPageDTO getFeed(String cursor, int size) {
+        int pageSize = clampFeedSize(size);
+        if (cursor == null || cursor.isBlank()) {
+            return toCursorPage(postRepository.findFeedFirstByCreatedAt(peekOneMore(pageSize)), pageSize, CURSOR_LATEST);
+        }
+        CursorCodec.Cursor decoded = CursorCodec.decode(CURSOR_LATEST, cursor);
+        List<PostDTO> rows = postRepository.findFeedAfterByCreatedAt(
+                parseCreatedAt(decoded.sortKey()), decoded.id(), peekOneMore(pageSize));
+        return toCursorPage(rows, pageSize, CURSOR_LATEST);
+    }
+
+    //커서 기반 게시글 조회(인기순)
+    @Override
+    @Transactional(readOnly = true)
+    public PostCursorPageDTO getPopularFeed(String cursor, int size) {
+        int pageSize = clampFeedSize(size);
+        if (cursor == null || cursor.isBlank()) {
+            return toCursorPage(postRepository.findFeedFirstByLikeCount(peekOneMore(pageSize)), pageSize, CURSOR_POPULAR);
+        }
+        CursorCodec.Cursor decoded = CursorCodec.decode(CURSOR_POPULAR, cursor);
+        List<PostDTO> rows = postRepository.findFeedAfterByLikeCount(
+                parseLikeCount(decoded.sortKey()), decoded.id(), peekOneMore(pageSize));
+        return toCursorPage(rows, pageSize, CURSOR_POPULAR);
+    }
+
+    //카테고리별 커서 기반 게시글 조회(최신순)
+    @Override
+    @Transactional(readOnly = true)
+    public PostCursorPageDTO getCategoryFeed(Integer categoryId, String cursor, int size) {
+        int pageSize = clampFeedSize(size);
+        if (cursor == null || cursor.isBlank()) {
+            return toCursorPage(postRepository.findCategoryFeedFirstByCreatedAt(categoryId, peekOneMore(pageSize)), pageSize, CURSOR_LATEST);
+        }
+        CursorCodec.Cursor decoded = CursorCodec.decode(CURSOR_LATEST, cursor);
+        List<PostDTO> rows = postRepository.findCategoryFeedAfterByCreatedAt(
+                categoryId, parseCreatedAt(decoded.sortKey()), decoded.id(), peekOneMore(pageSize));
+        return toCursorPage(rows, pageSize, CURSOR_LATEST);
+    }
+
+    //카테고리별 커서 기반 게시글 조회(인기순)
+    @Override
+    @Transactional(readOnly = true)
+    public PostCursorPageDTO getCategoryPopularFeed(Integer categoryId, String cursor, int size) {
+        int pageSize = clampFeedSize(size);
+        if (cursor == null || cursor.isBlank()) {
+            return toCursorPage(postRepository.findCategoryFeedFirstByLikeCount(categoryId, peekOneMore(pageSize)), pageSize, CURSOR_POPULAR);
+        }
+        CursorCodec.Cursor decoded = CursorCodec.decode(CURSOR_POPULAR, cursor);
+        List<PostDTO> rows = postRepository.findCategoryFeedAfterByLikeCount(
+                categoryId, parseLikeCount(decoded.sortKey()), decoded.id(), peekOneMore(pageSize));
+        return toCursorPage(rows, pageSize, CURSOR_POPULAR);
+    }
+
+    private int clampFeedSize(int size) {
+        return Math.max(1, Math.min(size, MAX_FEED_SIZE));
+    }
+
+    // 다음 페이지 존재 여부 확인을 위해 1건 더 조회 (COUNT 쿼리 대신)
+    private Pageable peekOneMore(int pageSize) {
+        return PageRequest.of(0, pageSize + 1);
+    }
+
+    // 조회 결과를 커서 페이지로 변환 (마지막 행의 정렬 키로 다음 커서 생성)
+    private PostCursorPageDTO toCursorPage(List<PostDTO> rows, int pageSize, String cursorType) {
+        boolean hasNext = rows.size() > pageSize;
+        List<PostDTO> content = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            PostDTO last = content.get(content.size() - 1);
+            if (CURSOR_LATEST.equals(cursorType) && last.getCreatedAt() == null) {
+                // created_at이 없는 행은 커서를 만들 수 없음 (시작 시 보정되므로 보정 이후 외부에서 추가된 행만 해당)
+                log.warn("Cannot build feed cursor for post without createdAt - postId: {}", last.getId());
+                hasNext = false;
+            } else {
+                String sortKey = CURSOR_LATEST.equals(cursorType)
+                        ? last.getCreatedAt().toString()
+                        : String.valueOf(last.getLikeCount());
+                nextCursor = CursorCodec.encode(cursorType, sortKey, last.getId());
+            }
+        }
+        return PostCursorPageDTO.builder()
+                .content(new ArrayList<>(content))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(pageSize)
+                .build();
+    }
+
+    private LocalDateTime parseCreatedAt(String sortKey) {
+        try {
+            return LocalDateTime.parse(sortKey);
+        } catch (DateTimeParseException e) {
+            throw new IllegalStateException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    private Integer parseLikeCount(String sortKey) {
+        try {
+            return Integer.valueOf(sortKey);
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("유효하지 않은 커서입니다.");
+        }
+    }
+}
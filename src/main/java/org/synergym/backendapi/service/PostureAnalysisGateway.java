@@ -0,0 +1,364 @@
+package org.synergym.backendapi.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.synergym.backendapi.dto.AnalysisHistoryDTO;
+import org.synergym.backendapi.exception.DuplicateRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 자세 분석 호출 게이트웨이 (PostureGraphClient 앞단)
+ * 중복 클릭, 재시도로 같은 이미지를 Python 자세 분석 파이프라인에 다시 보내지 않도록 함
+ *
+ * [중복 호출 병합]
+ * - 같은 (이미지 URL, 분석 모드)가 분석 중이면 새로 호출하지 않고 진행 중인 결과를 함께 받음 (노드 단위)
+ *
+ * [결과 캐시]
+ * - 키: posture:analysis:{SHA-256(유형, 이미지 URL, 모드)}
+ * - Cloudinary URL은 업로드 버전이 경로에 포함되어 이미지 내용이 바뀌면 URL도 바뀌므로 URL 기준으로 캐시
+ *
+ * [멱등성 키]
+ * - Idempotency-Key 헤더가 있으면 posture:idempotency:{userId}:{key}에 처리 상태를 기록
+ * - 처리 중인 키로 다시 요청하면 DuplicateRequestException(409), 완료된 키면 저장된 분석 기록을 그대로 반환
+ * - 처리에 실패하면 키를 지워 같은 키로 다시 시도할 수 있게 함
+ *
+ * [지표]
+ * - posture.analysis.requests (result=cache_hit|coalesced|miss)
+ */
+@Slf4j
+@Component
+public class PostureAnalysisGateway {
+
+    private static final String CACHE_KEY_PREFIX = "posture:analysis:";
+    private static final String IDEMPOTENCY_KEY_PREFIX = "posture:idempotency:";
+    private static final String PENDING = "PENDING";
+    private static final TypeReference<Map<String, Object>> RESULT_TYPE = new TypeReference<>() {};
+
+    private final PostureGraphClient postureGraphClient;
+    private final AnalysisHistoryService analysisHistoryService;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration cacheTtl;
+    private final Duration idempotencyTtl;
+
+    // 캐시 키 -> 분석 중인 호출 결과
+    private final Map<String, CompletableFuture<Map<String, Object>>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter cacheHits;
+    private final Counter coalesced;
+    private final Counter misses;
+
+    public PostureAnalysisGateway(PostureGraphClient postureGraphClient,
+                                  AnalysisHistoryService analysisHistoryService,
+                                  StringRedisTemplate redisTemplate,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${posture-analysis.cache-ttl-minutes:1440}") long cacheTtlMinutes,
+                                  @Value("${posture-analysis.idempotency-ttl-minutes:60}") long idempotencyTtlMinutes) {
+        this.postureGraphClient = postureGraphClient;
+        this.analysisHistoryService = analysisHistoryService;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.cacheTtl = Duration.ofMinutes(cacheTtlMinutes);
+        this.idempotencyTtl = Duration.ofMinutes(idempotencyTtlMinutes);
+
+        this.cacheHits = Counter.builder("posture.analysis.requests").tag("result", "cache_hit").register(meterRegistry);
+        this.coalesced = Counter.builder("posture.analysis.requests").tag("result", "coalesced").register(meterRegistry);
+        this.misses = Counter.builder("posture.analysis.requests").tag("result", "miss").register(meterRegistry);
+    }
+
+    // 단일 이미지 분석
+    public Map<String, Object> analyze(String imageUrl, String mode) {
+        return analyzeOnce(cacheKey("single", imageUrl, mode),
+                () -> postureGraphClient.analyzeWithGraph(imageUrl, mode));
+    }
+
+    // 정면/측면 이미지 merge 분석
+    public Map<String, Object> analyzeMerge(String frontImageUrl, String sideImageUrl) {
+        return analyzeOnce(cacheKey("merge", frontImageUrl, sideImageUrl),
+                () -> postureGraphClient.analyzeWithGraphMerge(frontImageUrl, sideImageUrl));
+    }
+
+    // 단일 이미지 분석 후 분석 기록 저장
+    public AnalysisHistoryDTO analyzeAndSave(int userId, String imageUrl, String mode) {
+        // Python 서버에 분석 요청 (Cloudinary URL 사용, 같은 이미지는 캐시/진행 중인 호출 결과 사용)
+        return saveResult(userId, imageUrl, analyze(imageUrl, mode));
+    }
+
+    // 정면/측면 이미지 merge 분석 후 분석 기록 저장
+    public AnalysisHistoryDTO analyzeMergeAndSave(int userId, String frontImageUrl, String sideImageUrl) {
+        // Python 서버에 merge 분석 요청 (같은 이미지 조합은 캐시/진행 중인 호출 결과 사용)
+        return saveMergeResult(userId, frontImageUrl, sideImageUrl, analyzeMerge(frontImageUrl, sideImageUrl));
+    }
+
+    /**
+     * 단일 이미지 분석 결과를 분석 기록으로 저장
+     * (동기 API와 비동기 작업 처리기가 함께 사용, 작업 처리기는 작업 완료 처리와 같은 트랜잭션에서 호출)
+     */
+    @SuppressWarnings("unchecked")
+    public AnalysisHistoryDTO saveResult(int userId, String imageUrl, Map<String, Object> result) {
+        // 1. 결과 DTO 생성
+        AnalysisHistoryDTO dto = new AnalysisHistoryDTO();
+        dto.setUserId(userId);
+        dto.setFrontImageUrl(imageUrl);
+        
+        // Handle diagnosis field - convert Map to JSON string if needed
+        Object diagnosisObj = result.get("diagnosis");
+        if (diagnosisObj instanceof Map) {
+            try {
+                String diagnosisJson = objectMapper.writeValueAsString(diagnosisObj);
+                dto.setDiagnosis(diagnosisJson);
+            } catch (Exception e) {
+                dto.setDiagnosis("진단 정보 변환 실패");
+            }
+        } else if (diagnosisObj instanceof String) {
+            dto.setDiagnosis((String) diagnosisObj);
+        } else if (diagnosisObj == null) {
+            dto.setDiagnosis("진단 정보가 없습니다.");
+        } else {
+            dto.setDiagnosis(diagnosisObj.toString());
+        }
+        
+        dto.setRadarChartUrl((String) result.get("radar_chart_url"));
+        
+        // 점수 등 추가 필드도 result에서 추출해 dto에 set (예시)
+        if (result.get("spineCurvScore") != null) dto.setSpineCurvScore((Integer) result.get("spineCurvScore"));
+        if (result.get("spineScolScore") != null) dto.setSpineScolScore((Integer) result.get("spineScolScore"));
+        if (result.get("pelvicScore") != null) dto.setPelvicScore((Integer) result.get("pelvicScore"));
+        if (result.get("neckScore") != null) dto.setNeckScore((Integer) result.get("neckScore"));
+        if (result.get("shoulderScore") != null) dto.setShoulderScore((Integer) result.get("shoulderScore"));
+        Object feedbackObj = result.get("feedback");
+        if (feedbackObj instanceof Map) {
+            dto.setFeedback((Map<String, Object>) feedbackObj);
+        }
+        // --- measurements 항상 DTO에 넣기 ---
+        Object poseDataObj = result.get("pose_data");
+        if (poseDataObj instanceof Map) {
+            Map<String, Object> poseMap = (Map<String, Object>) poseDataObj;
+            Object measurementsObj = poseMap.get("measurements");
+            log.debug("[단일] measurements: {}", measurementsObj);
+            if (measurementsObj instanceof Map) {
+                dto.setMeasurements((Map<String, Object>) measurementsObj);
+            }
+        }
+
+        Object recommendedExerciseObj = result.get("recommended_exercise");
+        if (recommendedExerciseObj instanceof Map) {
+            dto.setRecommendedExercise((Map<String, Object>) recommendedExerciseObj);
+        }
+
+        // 2. DB 저장 후 저장된 DTO 반환 (id 포함)
+        return analysisHistoryService.createAnalysisHistory(dto, userId);
+    }
+
+    // 정면/측면 이미지 merge 분석 결과를 분석 기록으로 저장 (측정값은 정면 + 측면을 합침)
+    @SuppressWarnings("unchecked")
+    public AnalysisHistoryDTO saveMergeResult(int userId, String frontImageUrl, String sideImageUrl, Map<String, Object> result) {
+        // 1. 결과 DTO 생성 및 저장 (기존 createAnalysisHistory와 유사하게)
+        AnalysisHistoryDTO dto = new AnalysisHistoryDTO();
+        dto.setUserId(userId);
+        dto.setFrontImageUrl(frontImageUrl);
+        dto.setSideImageUrl(sideImageUrl);
+        // Handle diagnosis field - convert Map to JSON string if needed
+        Object diagnosisObj = result.get("diagnosis");
+        if (diagnosisObj instanceof Map) {
+            try {
+                String diagnosisJson = objectMapper.writeValueAsString(diagnosisObj);
+                dto.setDiagnosis(diagnosisJson);
+            } catch (Exception e) {
+                dto.setDiagnosis("진단 정보 변환 실패");
+            }
+        } else if (diagnosisObj instanceof String) {
+            dto.setDiagnosis((String) diagnosisObj);
+        } else if (diagnosisObj == null) {
+            dto.setDiagnosis("진단 정보가 없습니다.");
+        } else {
+            dto.setDiagnosis(diagnosisObj.toString());
+        }
+        dto.setRadarChartUrl((String) result.get("radar_chart_url"));
+        // 점수 등 추가 필드도 result에서 추출해 dto에 set (예시)
+        if (result.get("spineCurvScore") != null) dto.setSpineCurvScore((Integer) result.get("spineCurvScore"));
+        if (result.get("spineScolScore") != null) dto.setSpineScolScore((Integer) result.get("spineScolScore"));
+        if (result.get("pelvicScore") != null) dto.setPelvicScore((Integer) result.get("pelvicScore"));
+        if (result.get("neckScore") != null) dto.setNeckScore((Integer) result.get("neckScore"));
+        if (result.get("shoulderScore") != null) dto.setShoulderScore((Integer) result.get("shoulderScore"));
+        Object feedbackObj = result.get("feedback");
+        if (feedbackObj instanceof Map) {
+            dto.setFeedback((Map<String, Object>) feedbackObj);
+        }
+        // --- merge measurements 합치기 ---
+        Object frontPoseObj = result.get("front_pose_data");
+        Object sidePoseObj = result.get("side_pose_data");
+        Map<String, Object> mergedMeasurements = new HashMap<>();
+        if (frontPoseObj instanceof Map) {
+            Map<String, Object> frontMap = (Map<String, Object>) frontPoseObj;
+            Object frontMeasurementsObj = frontMap.get("measurements");
+            log.debug("[merge] front measurements: {}", frontMeasurementsObj);
+            Map<String, Object> frontMeasurementsMap = null;
+            if (frontMeasurementsObj instanceof Map) {
+                frontMeasurementsMap = (Map<String, Object>) frontMeasurementsObj;
+            } else if (frontMeasurementsObj instanceof String) {
+                try {
+                    frontMeasurementsMap = objectMapper.readValue((String) frontMeasurementsObj, Map.class);
+                } catch (Exception e) {
+                    // 변환 실패 시 무시
+                }
+            }
+            if (frontMeasurementsMap != null) {
+                for (Map.Entry<String, Object> entry : frontMeasurementsMap.entrySet()) {
+                    mergedMeasurements.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        if (sidePoseObj instanceof Map) {
+            Map<String, Object> sideMap = (Map<String, Object>) sidePoseObj;
+            Object sideMeasurementsObj = sideMap.get("measurements");
+            log.debug("[merge] side measurements: {}", sideMeasurementsObj);
+            Map<String, Object> sideMeasurementsMap = null;
+            if (sideMeasurementsObj instanceof Map) {
+                sideMeasurementsMap = (Map<String, Object>) sideMeasurementsObj;
+            } else if (sideMeasurementsObj instanceof String) {
+                try {
+                    sideMeasurementsMap = objectMapper.readValue((String) sideMeasurementsObj, Map.class);
+                } catch (Exception e) {
+                    // 변환 실패 시 무시
+                }
+            }
+            if (sideMeasurementsMap != null) {
+                for (Map.Entry<String, Object> entry : sideMeasurementsMap.entrySet()) {
+                    if (entry.getValue() != null) {
+                        mergedMeasurements.put(entry.getKey(), entry.getValue());
+                    }
+                }
+            }
+        }
+        if (!mergedMeasurements.isEmpty()) {
+            dto.setMeasurements(mergedMeasurements);
+        }
+
+        Object recommendedExerciseObj = result.get("recommended_exercise");
+        if (recommendedExerciseObj instanceof Map) {
+            dto.setRecommendedExercise((Map<String, Object>) recommendedExerciseObj);
+        }
+        
+        // 2. DB 저장 후 저장된 DTO 반환 (id 포함)
+        return analysisHistoryService.createAnalysisHistory(dto, userId);
+    }
+
+    /**
+     * 멱등성 키 기준으로 분석 기록 생성을 한 번만 실행
+     * 키가 없으면 그대로 실행
+     */
+    public AnalysisHistoryDTO submitOnce(int userId, String idempotencyKey, Supplier<AnalysisHistoryDTO> submission) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return submission.get();
+        }
+        String key = IDEMPOTENCY_KEY_PREFIX + userId + ":" + idempotencyKey;
+        Boolean claimed = redisTemplate.opsForValue().setIfAbsent(key, PENDING, idempotencyTtl);
+        if (!Boolean.TRUE.equals(claimed)) {
+            String historyId = redisTemplate.opsForValue().get(key);
+            if (historyId == null || PENDING.equals(historyId)) {
+                throw new DuplicateRequestException();
+            }
+            log.info("Idempotent replay of posture analysis - userId: {}, historyId: {}", userId, historyId);
+            return analysisHistoryService.getAnalysisHistoryById(Integer.parseInt(historyId));
+        }
+
+        try {
+            AnalysisHistoryDTO saved = submission.get();
+            redisTemplate.opsForValue().set(key, String.valueOf(saved.getId()), idempotencyTtl);
+            return saved;
+        } catch (RuntimeException e) {
+            redisTemplate.delete(key);
+            throw e;
+        }
+    }
+
+    // 캐시 확인 -> 진행 중인 호출 합류 -> 직접 호출 후 캐시 저장
+    private Map<String, Object> analyzeOnce(String key, Supplier<Map<String, Object>> call) {
+        Map<String, Object> cached = readCache(key);
+        if (cached != null) {
+            cacheHits.increment();
+            return cached;
+        }
+
+        CompletableFuture<Map<String, Object>> mine = new CompletableFuture<>();
+        CompletableFuture<Map<String, Object>> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            coalesced.increment();
+            return await(running);
+        }
+
+        misses.increment();
+        try {
+            Map<String, Object> result = call.get();
+            if (result != null) {
+                writeCache(key, result);
+            }
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    // 진행 중인 호출의 예외는 원래 예외 그대로 전달
+    private static Map<String, Object> await(CompletableFuture<Map<String, Object>> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Map<String, Object> readCache(String key) {
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+            return value != null ? objectMapper.readValue(value, RESULT_TYPE) : null;
+        } catch (Exception e) {
+            log.warn("Posture analysis cache read failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeCache(String key, Map<String, Object> result) {
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(result), cacheTtl);
+        } catch (Exception e) {
+            log.warn("Posture analysis cache write failed: {}", e.getMessage());
+        }
+    }
+
+    private static String cacheKey(String type, String first, String second) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String identity = type + "\n" + first + "\n" + second;
+            return CACHE_KEY_PREFIX + HexFormat.of().formatHex(digest.digest(identity.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,514 @@
+package org.synergym.backendapi.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.synergym.backendapi.dto.AnalysisHistoryDTO;
+import org.synergym.backendapi.dto.PostureAnalysisJobDTO;
+import org.synergym.backendapi.entity.PostureAnalysisJob;
+import org.synergym.backendapi.entity.PostureAnalysisJobStatus;
+import org.synergym.backendapi.exception.AiGatewayBusyException;
+import org.synergym.backendapi.exception.EntityNotFoundException;
+import org.synergym.backendapi.exception.ErrorCode;
+import org.synergym.backendapi.repository.PostureAnalysisJobRepository;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 비동기 자세 분석 작업 대기열
+ * 분석 요청은 작업만 등록하고 바로 작업 ID를 응답하며(202),
+ * 전용 워커 풀이 PostureAnalysisGateway로 분석 후 AnalysisHistoryService로 분석 기록을 저장
+ * 요청 스레드가 모델 실행 시간 동안 묶이지 않으므로 HTTP 처리량과 모델 처리량이 분리됨
+ *
+ * [작업 저장]
+ * - 작업은 Posture_Analysis_Jobs 테이블에 저장 (노드 재시작/배포 후에도 남음)
+ * - 각 노드는 poll-interval마다 빈 워커 수만큼 SKIP LOCKED로 작업을 점유(RUNNING + lease)하여 처리
+ * - 처리 중 노드가 종료되면 lease 만료 후 다른 노드가 다시 가져가고, 최대 시도 횟수만큼 만료되면 FAILED
+ * - 정상 종료 시에는 처리 중이던 작업을 바로 재시도 대기로 되돌림
+ * - 분석 기록 저장과 작업 완료 처리는 같은 트랜잭션 (모델 호출은 트랜잭션 밖)
+ *
+ * [처리]
+ * - 노드당 워커 수만큼만 동시에 분석 (ai-gateway posture 경로 동시 요청 제한보다 작게)
+ * - 대기 중인 작업이 queue-capacity 이상이면 등록을 거절 (AiGatewayBusyException, 503)
+ * - 실패 시 지수 backoff로 max-attempts까지 재시도
+ * - Idempotency-Key가 같으면 새 작업을 만들지 않고 기존 작업 반환
+ * - 완료/실패 작업은 ttl이 지나면 삭제
+ *
+ * [SSE]
+ * - 상태가 바뀔 때마다 status 이벤트(작업 DTO) 전송, 완료/실패 시 스트림 종료
+ * - 다른 노드에서 처리 중인 작업도 poll-interval마다 DB 상태를 확인하여 전송
+ *
+ * [지표]
+ * - posture.analysis.jobs.queue.depth: 대기 중인 작업 수 (전체 노드 기준, 용량 계획용)
+ * - posture.analysis.jobs.active: 이 노드에서 분석 중인 워커 수
+ * - posture.analysis.jobs.wait: 등록부터 첫 실행까지 시간
+ * - posture.analysis.jobs.duration (outcome=succeeded|failed): 등록부터 완료까지 시간
+ */
+@Slf4j
+@Component
+public class PostureAnalysisJobQueue {
+
+    private static final Duration BASE_RETRY_DELAY = Duration.ofSeconds(2);
+    private static final Duration PURGE_INTERVAL = Duration.ofHours(1);
+    private static final int PURGE_BATCH_SIZE = 1000;
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 100;
+    private static final String LEASE_EXHAUSTED_ERROR = "작업 점유 만료 (최대 시도 횟수 초과)";
+
+    private final PostureAnalysisGateway postureAnalysisGateway;
+    private final PostureAnalysisJobRepository jobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final int queueCapacity;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration jobTtl;
+    private final long sseTimeoutMs;
+    private final long pollIntervalMs;
+
+    // 분석 워커 (빈 자리만큼만 작업을 점유, 대기열은 끝나는 중인 스레드를 기다리는 용도)
+    private final ThreadPoolTaskExecutor executor;
+    private final Semaphore freeWorkers;
+    private final int workers;
+    // 작업 점유, SSE 상태 확인, 오래된 작업 삭제 (@Scheduled 공용 스케줄러와 분리)
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "posture-job-poller");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 이 노드에서 처리 중인 작업 ID, 작업 ID -> SSE 구독자
+    private final Set<String> localJobs = ConcurrentHashMap.newKeySet();
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final Timer waitTimer;
+
+    // 작업별 SSE 구독자와 마지막으로 보낸 상태 (같은 상태를 반복 전송하지 않도록)
+    private static class Subscription {
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private volatile String lastSent;
+    }
+
+    // 한 번의 점유 결과 (점유한 작업, 점유 만료로 실패 처리한 작업 ID)
+    private record Claim(List<PostureAnalysisJob> jobs, List<String> exhaustedJobIds) {
+    }
+
+    public PostureAnalysisJobQueue(PostureAnalysisGateway postureAnalysisGateway,
+                                   PostureAnalysisJobRepository jobRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${posture-analysis.jobs.workers:4}") int workers,
+                                   @Value("${posture-analysis.jobs.queue-capacity:100}") int queueCapacity,
+                                   @Value("${posture-analysis.jobs.max-attempts:3}") int maxAttempts,
+                                   @Value("${posture-analysis.jobs.lease-ms:300000}") long leaseMs,
+                                   @Value("${posture-analysis.jobs.ttl-minutes:1440}") long jobTtlMinutes,
+                                   @Value("${posture-analysis.jobs.sse-timeout-ms:300000}") long sseTimeoutMs,
+                                   @Value("${posture-analysis.jobs.poll-interval-ms:1000}") long pollIntervalMs) {
+        this.postureAnalysisGateway = postureAnalysisGateway;
+        this.jobRepository = jobRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.workers = workers;
+        this.queueCapacity = queueCapacity;
+        this.maxAttempts = maxAttempts;
+        this.lease = Duration.ofMillis(leaseMs);
+        this.jobTtl = Duration.ofMinutes(jobTtlMinutes);
+        this.sseTimeoutMs = sseTimeoutMs;
+        this.pollIntervalMs = pollIntervalMs;
+
+        this.freeWorkers = new Semaphore(workers);
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(workers);
+        executor.setThreadNamePrefix("posture-job-");
+        executor.initialize();
+
+        Gauge.builder("posture.analysis.jobs.queue.depth", queueDepth, AtomicLong::get)
+                .register(meterRegistry);
+        Gauge.builder("posture.analysis.jobs.active", freeWorkers, free -> workers - free.availablePermits())
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("posture.analysis.jobs.wait").register(meterRegistry);
+    }
+
+    // 애플리케이션 준비 후 작업 점유/SSE 상태 확인/정리 시작
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        poller.scheduleWithFixedDelay(this::pollJobs, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+        poller.scheduleWithFixedDelay(this::publishSubscribedJobs, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+        poller.scheduleWithFixedDelay(this::purgeFinishedJobs,
+                PURGE_INTERVAL.toMillis(), PURGE_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 종료 시 새 작업 점유를 멈추고, 끝나지 않은 작업은 다른 노드가 바로 가져가도록 재시도 대기로 되돌림
+     * (강제 종료된 경우에는 lease 만료 후 다른 노드가 가져감)
+     */
+    @PreDestroy
+    public void shutdown() {
+        poller.shutdownNow();
+        executor.getThreadPoolExecutor().shutdownNow();
+        try {
+            executor.getThreadPoolExecutor().awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<String> unfinished = new ArrayList<>(localJobs);
+        if (!unfinished.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        jobRepository.requeue(unfinished, LocalDateTime.now()));
+                log.info("Requeued unfinished posture analysis jobs on shutdown - count: {}", unfinished.size());
+            } catch (Exception e) {
+                log.warn("Failed to requeue posture analysis jobs on shutdown, they will be reclaimed after lease expiry - {}",
+                        e.getMessage());
+            }
+        }
+        subscriptions.values().forEach(subscription -> subscription.emitters.forEach(SseEmitter::complete));
+    }
+
+    // 단일 이미지 분석 작업 등록
+    public PostureAnalysisJobDTO submit(int userId, String idempotencyKey, String imageUrl, String mode) {
+        return submit(PostureAnalysisJob.builder()
+                .id(UUID.randomUUID().toString())
+                .userId(userId)
+                .idempotencyKey(normalizeIdempotencyKey(idempotencyKey))
+                .type(PostureAnalysisJob.TYPE_SINGLE)
+                .imageUrl(imageUrl)
+                .mode(mode)
+                .build());
+    }
+
+    // 정면/측면 이미지 merge 분석 작업 등록
+    public PostureAnalysisJobDTO submitMerge(int userId, String idempotencyKey, String frontImageUrl, String sideImageUrl) {
+        return submit(PostureAnalysisJob.builder()
+                .id(UUID.randomUUID().toString())
+                .userId(userId)
+                .idempotencyKey(normalizeIdempotencyKey(idempotencyKey))
+                .type(PostureAnalysisJob.TYPE_MERGE)
+                .frontImageUrl(frontImageUrl)
+                .sideImageUrl(sideImageUrl)
+                .build());
+    }
+
+    // 작업 상태 조회
+    public PostureAnalysisJobDTO getJob(String jobId) {
+        return jobRepository.findById(jobId)
+                .map(this::toDTO)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.ANALYSIS_JOB_NOT_FOUND));
+    }
+
+    /**
+     * 작업 상태 SSE 구독
+     * 현재 상태를 먼저 보내고, 이미 끝난 작업이면 바로 종료
+     */
+    public SseEmitter subscribe(String jobId) {
+        PostureAnalysisJobDTO job = getJob(jobId);
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        if (job.getStatus().isFinished()) {
+            send(emitter, job);
+            emitter.complete();
+            return emitter;
+        }
+
+        Subscription subscription = subscriptions.computeIfAbsent(jobId, id -> new Subscription());
+        subscription.emitters.add(emitter);
+        Runnable remove = () -> unsubscribe(jobId, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        // 등록 전에 상태가 바뀌었을 수 있으므로 등록 후 다시 읽어 전송
+        Optional<PostureAnalysisJob> current = jobRepository.findById(jobId);
+        if (current.isPresent()) {
+            PostureAnalysisJobDTO currentJob = toDTO(current.get());
+            send(emitter, currentJob);
+            if (currentJob.getStatus().isFinished()) {
+                emitter.complete();
+            }
+        }
+        return emitter;
+    }
+
+    private PostureAnalysisJobDTO submit(PostureAnalysisJob job) {
+        if (job.getIdempotencyKey() != null) {
+            Optional<PostureAnalysisJob> existing =
+                    jobRepository.findByUserIdAndIdempotencyKey(job.getUserId(), job.getIdempotencyKey());
+            if (existing.isPresent()) {
+                log.info("Idempotent replay of posture analysis job - userId: {}, jobId: {}",
+                        job.getUserId(), existing.get().getId());
+                return toDTO(existing.get());
+            }
+        }
+        if (jobRepository.countWaitingJobs() >= queueCapacity) {
+            log.warn("Posture analysis job queue full - userId: {}", job.getUserId());
+            throw new AiGatewayBusyException("posture-job");
+        }
+
+        try {
+            PostureAnalysisJob saved = jobRepository.saveAndFlush(job);
+            log.info("Posture analysis job queued - jobId: {}, userId: {}, type: {}",
+                    saved.getId(), saved.getUserId(), saved.getType());
+            return toDTO(saved);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 Idempotency-Key로 동시에 등록된 경우 먼저 등록된 작업 반환
+            return jobRepository.findByUserIdAndIdempotencyKey(job.getUserId(), job.getIdempotencyKey())
+                    .map(this::toDTO)
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    private String normalizeIdempotencyKey(String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return null;
+        }
+        if (idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new IllegalStateException("Idempotency-Key는 " + MAX_IDEMPOTENCY_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+        return idempotencyKey;
+    }
+
+    // 빈 워커 수만큼 작업을 점유하여 실행
+    private void pollJobs() {
+        try {
+            queueDepth.set(jobRepository.countWaitingJobs());
+            Claim claim = claim(freeWorkers.availablePermits());
+            claim.exhaustedJobIds().forEach(this::publish);
+            for (PostureAnalysisJob job : claim.jobs()) {
+                freeWorkers.acquireUninterruptibly();
+                localJobs.add(job.getId());
+                try {
+                    executor.execute(() -> {
+                        try {
+                            run(job);
+                        } finally {
+                            localJobs.remove(job.getId());
+                            freeWorkers.release();
+                        }
+                    });
+                } catch (TaskRejectedException e) {
+                    localJobs.remove(job.getId());
+                    freeWorkers.release();
+                    transactionTemplate.executeWithoutResult(status ->
+                            jobRepository.requeue(List.of(job.getId()), LocalDateTime.now()));
+                }
+            }
+        } catch (Exception e) {
+            log.error("Posture analysis job polling failed", e);
+        }
+    }
+
+    private Claim claim(int limit) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<String> exhausted = jobRepository.lockExhaustedLeaseJobIds(now, maxAttempts);
+            if (!exhausted.isEmpty()) {
+                jobRepository.markFailed(exhausted, now, LEASE_EXHAUSTED_ERROR);
+                log.warn("Posture analysis jobs failed after repeated lease expiry - jobIds: {}", exhausted);
+            }
+            if (limit <= 0) {
+                return new Claim(List.of(), exhausted);
+            }
+            List<String> jobIds = jobRepository.lockClaimableJobIds(now, maxAttempts, limit);
+            if (jobIds.isEmpty()) {
+                return new Claim(List.of(), exhausted);
+            }
+            jobRepository.markRunning(jobIds, now, now.plus(lease));
+            return new Claim(jobRepository.findAllById(jobIds), exhausted);
+        });
+    }
+
+    private void run(PostureAnalysisJob job) {
+        if (job.getAttempts() == 1 && job.getCreatedAt() != null) {
+            waitTimer.record(Duration.between(job.getCreatedAt(), LocalDateTime.now()));
+        }
+        publish(job.getId());
+
+        try {
+            // 모델 호출은 트랜잭션 밖에서 (DB 연결을 잡지 않음)
+            Map<String, Object> result = PostureAnalysisJob.TYPE_MERGE.equals(job.getType())
+                    ? postureAnalysisGateway.analyzeMerge(job.getFrontImageUrl(), job.getSideImageUrl())
+                    : postureAnalysisGateway.analyze(job.getImageUrl(), job.getMode());
+
+            // 분석 기록 저장 + 작업 완료를 한 트랜잭션으로 (점유를 잃은 작업은 저장하지 않음)
+            Integer historyId = transactionTemplate.execute(status -> {
+                Optional<PostureAnalysisJob> current = findOwnedJob(job);
+                if (current.isEmpty()) {
+                    return null;
+                }
+                AnalysisHistoryDTO saved = PostureAnalysisJob.TYPE_MERGE.equals(job.getType())
+                        ? postureAnalysisGateway.saveMergeResult(job.getUserId(), job.getFrontImageUrl(), job.getSideImageUrl(), result)
+                        : postureAnalysisGateway.saveResult(job.getUserId(), job.getImageUrl(), result);
+                current.get().complete(saved.getId());
+                return saved.getId();
+            });
+            if (historyId == null) {
+                log.warn("Posture analysis job lease lost, result discarded - jobId: {}", job.getId());
+                return;
+            }
+            recordDuration(job, "succeeded");
+            log.info("Posture analysis job succeeded - jobId: {}, historyId: {}", job.getId(), historyId);
+        } catch (RuntimeException e) {
+            // 사용자 없음 등은 재시도해도 같은 결과
+            boolean retryable = !(e instanceof EntityNotFoundException);
+            long delayMs = BASE_RETRY_DELAY.toMillis() << Math.min(job.getAttempts() - 1, 10);
+            PostureAnalysisJobStatus status = transactionTemplate.execute(tx -> findOwnedJob(job)
+                    .map(current -> {
+                        current.fail(e.getMessage(), retryable, maxAttempts, LocalDateTime.now().plus(Duration.ofMillis(delayMs)));
+                        return current.getStatus();
+                    })
+                    .orElse(null));
+            if (status == PostureAnalysisJobStatus.FAILED) {
+                recordDuration(job, "failed");
+                log.error("Posture analysis job failed - jobId: {}, attempts: {}, error: {}",
+                        job.getId(), job.getAttempts(), e.getMessage());
+            } else {
+                log.warn("Posture analysis job failed, retrying in {}ms - jobId: {}, attempt: {}, error: {}",
+                        delayMs, job.getId(), job.getAttempts(), e.getMessage());
+            }
+        } finally {
+            publish(job.getId());
+        }
+    }
+
+    // 이 워커가 점유한 상태 그대로인 작업 (점유 만료 후 다른 노드가 가져갔으면 시도 횟수가 다름)
+    private Optional<PostureAnalysisJob> findOwnedJob(PostureAnalysisJob job) {
+        return jobRepository.findById(job.getId())
+                .filter(current -> current.getStatus() == PostureAnalysisJobStatus.RUNNING
+                        && current.getAttempts() == job.getAttempts());
+    }
+
+    private void recordDuration(PostureAnalysisJob job, String outcome) {
+        if (job.getCreatedAt() == null) {
+            return;
+        }
+        Timer.builder("posture.analysis.jobs.duration")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(Duration.between(job.getCreatedAt(), LocalDateTime.now()));
+    }
+
+    // 보관 기간이 지난 완료/실패 작업 삭제 (짧은 트랜잭션으로 나누어 삭제)
+    private void purgeFinishedJobs() {
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minus(jobTtl);
+            Integer deleted;
+            do {
+                deleted = transactionTemplate.execute(status -> jobRepository.deleteFinishedJobsBefore(cutoff, PURGE_BATCH_SIZE));
+            } while (deleted != null && deleted == PURGE_BATCH_SIZE);
+        } catch (Exception e) {
+            log.error("Failed to purge finished posture analysis jobs", e);
+        }
+    }
+
+    // 구독 중인 작업 상태를 한 번에 읽어 바뀐 것만 전송 (다른 노드에서 처리 중인 작업 포함)
+    private void publishSubscribedJobs() {
+        try {
+            if (subscriptions.isEmpty()) {
+                return;
+            }
+            List<String> jobIds = new ArrayList<>(subscriptions.keySet());
+            List<PostureAnalysisJob> jobs = jobRepository.findAllById(jobIds);
+            for (PostureAnalysisJob job : jobs) {
+                publish(toDTO(job));
+            }
+            // 삭제된 작업의 구독 종료
+            jobIds.removeAll(jobs.stream().map(PostureAnalysisJob::getId).toList());
+            jobIds.forEach(this::closeSubscription);
+        } catch (Exception e) {
+            log.warn("Failed to publish posture analysis job status - {}", e.getMessage());
+        }
+    }
+
+    private void publish(String jobId) {
+        if (!subscriptions.containsKey(jobId)) {
+            return;
+        }
+        try {
+            jobRepository.findById(jobId).ifPresentOrElse(job -> publish(toDTO(job)), () -> closeSubscription(jobId));
+        } catch (Exception e) {
+            log.warn("Failed to publish posture analysis job status - jobId: {}, {}", jobId, e.getMessage());
+        }
+    }
+
+    // 마지막으로 보낸 상태와 다를 때만 전송, 완료/실패면 구독 종료
+    private void publish(PostureAnalysisJobDTO job) {
+        Subscription subscription = subscriptions.get(job.getJobId());
+        if (subscription == null) {
+            return;
+        }
+        String signature = job.getStatus() + ":" + job.getAttempts();
+        if (!signature.equals(subscription.lastSent)) {
+            subscription.lastSent = signature;
+            subscription.emitters.forEach(emitter -> send(emitter, job));
+        }
+        if (job.getStatus().isFinished()) {
+            closeSubscription(job.getJobId());
+        }
+    }
+
+    private void closeSubscription(String jobId) {
+        Subscription subscription = subscriptions.remove(jobId);
+        if (subscription != null) {
+            subscription.emitters.forEach(SseEmitter::complete);
+        }
+    }
+
+    private void send(SseEmitter emitter, PostureAnalysisJobDTO job) {
+        try {
+            emitter.send(SseEmitter.event().name("status").data(job));
+        } catch (IOException | IllegalStateException e) {
+            // 연결이 끊긴 구독자 (onError/onCompletion에서 구독 해제)
+            log.debug("Failed to send posture analysis job status - jobId: {}, error: {}", job.getJobId(), e.getMessage());
+        }
+    }
+
+    private void unsubscribe(String jobId, SseEmitter emitter) {
+        subscriptions.computeIfPresent(jobId, (id, subscription) -> {
+            subscription.emitters.remove(emitter);
+            return subscription.emitters.isEmpty() ? null : subscription;
+        });
+    }
+
+    private PostureAnalysisJobDTO toDTO(PostureAnalysisJob job) {
+        return PostureAnalysisJobDTO.builder()
+                .jobId(job.getId())
+                .userId(job.getUserId())
+                .type(job.getType())
+                .status(job.getStatus())
+                .attempts(job.getAttempts())
+                .historyId(job.getHistoryId())
+                .error(job.getLastError())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .build();
+    }
+}
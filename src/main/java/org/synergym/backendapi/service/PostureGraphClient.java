@@ -1,18 +1,21 @@
 package org.synergym.backendapi.service;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.http.MediaType;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.synergym.backendapi.exception.AiGatewayBusyException;
 import java.util.HashMap;
 import java.util.Map;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class PostureGraphClient {
-    private final WebClient webClient = WebClient.create("http://localhost:8000"); // Python 서버 주소
+    private static final ParameterizedTypeReference<Map<String, Object>> RESULT_TYPE = new ParameterizedTypeReference<>() {};
+
+    private final AiGatewayClient aiGatewayClient; // Python 서버 호출
 
     public Map<String, Object> analyzeWithGraph(String imageUrl, String mode) {
         Map<String, String> request = new HashMap<>();
@@ -22,16 +25,14 @@ public class PostureGraphClient {
         log.info("Sending request to Python server - Image URL: {}, Mode: {}", imageUrl, mode);
 
         try {
-            Map<String, Object> result = webClient.post()
-                    .uri("/analyze-graph")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+            Map<String, Object> result = aiGatewayClient
+                    .post("posture", "/analyze-graph", request, RESULT_TYPE)
                     .block();
 
             log.info("Received response from Python server: {}", result);
             return result;
+        } catch (AiGatewayBusyException e) {
+            throw e;
         } catch (WebClientResponseException e) {
             log.error("Error communicating with Python server: Status {}, Message: {}, Code: {}", e.getStatusCode(), e.getMessage());
             throw new RuntimeException("Python 서버와의 통신 중 오류가 발생했습니다: " + e.getMessage());
@@ -49,16 +50,14 @@ public class PostureGraphClient {
         log.info("Sending merge request to Python server - Front: {}, Side: {}", frontImageUrl, sideImageUrl);
 
         try {
-            Map<String, Object> result = webClient.post()
-                    .uri("/analyze-graph/merge")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+            Map<String, Object> result = aiGatewayClient
+                    .post("posture", "/analyze-graph/merge", request, RESULT_TYPE)
                     .block();
 
             log.info("Received merge response from Python server: {}", result);
             return result;
+        } catch (AiGatewayBusyException e) {
+            throw e;
         } catch (WebClientResponseException e) {
             log.error("Error communicating with Python server (merge): Status {}, Message: {}, Code: {}", e.getStatusCode(), e.getMessage());
             throw new RuntimeException("Python 서버와의 통신 중 오류(merge): " + e.getMessage());
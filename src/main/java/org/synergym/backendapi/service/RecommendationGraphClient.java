@@ -1,13 +1,13 @@
 package org.synergym.backendapi.service;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.synergym.backendapi.dto.RecommendationPayloadDTO;
 import org.synergym.backendapi.dto.RecommendationResponseDTO;
 import org.synergym.backendapi.dto.ExerciseDTO;
+import org.synergym.backendapi.exception.AiGatewayBusyException;
 
 import java.util.Collections;
 import java.util.List;
@@ -16,26 +16,23 @@ import java.util.stream.Collectors;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class RecommendationGraphClient {
-    private final WebClient webClient = WebClient.create("http://localhost:8000"); // Python 서버 주소
+    private final AiGatewayClient aiGatewayClient; // Python 서버 호출
 
     public RecommendationResponseDTO fetchRecommendations(RecommendationPayloadDTO payload) {
         log.info("AI 추천 서버에 요청을 보냅니다. Payload: {}", payload);
 
         try {
-            Map<String, Object> response = webClient.post()
-                    .uri("/workflow/recommend-exercises")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(Map.of(
+            Map<String, Object> response = aiGatewayClient
+                    .post("recommendation", "/workflow/recommend-exercises", Map.of(
                             "user_id", payload.getUserId(),
                             "user_profile", payload.getUserProfile(),
                             "posture_analysis", payload.getPostureAnalysis(),
                             "exercise_history", payload.getExerciseHistory(),
                             "liked_exercises", payload.getLikedExercises(),
                             "user_routines", payload.getUserRoutines()
-                    ))
-                    .retrieve()
-                    .bodyToMono(Map.class)
+                    ), Map.class)
                     .block();
 
             log.info("AI 서버로부터 응답을 받았습니다: {}", response);
@@ -46,6 +43,8 @@ public class RecommendationGraphClient {
                     .reason((String) response.get("reason"))
                     .build();
 
+        } catch (AiGatewayBusyException e) {
+            throw e;
         } catch (WebClientResponseException e) {
             log.error("AI 서버와의 통신 중 오류 발생: 상태 코드 {}, 메시지: {}",
                     e.getStatusCode(), e.getMessage());
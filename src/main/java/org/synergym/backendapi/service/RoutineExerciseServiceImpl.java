@@ -1,6 +1,7 @@
 package org.synergym.backendapi.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.synergym.backendapi.dto.RoutineExerciseDTO;
@@ -8,6 +9,7 @@ import org.synergym.backendapi.entity.Exercise;
 import org.synergym.backendapi.entity.Routine;
 import org.synergym.backendapi.entity.RoutineExercise;
 import org.synergym.backendapi.entity.RoutineExerciseId;
+import org.synergym.backendapi.event.DashboardDataChangedEvent;
 import org.synergym.backendapi.exception.EntityNotFoundException;
 import org.synergym.backendapi.exception.ErrorCode;
 import org.synergym.backendapi.repository.ExerciseRepository;
@@ -24,6 +26,7 @@ public class RoutineExerciseServiceImpl implements RoutineExerciseService {
     private final RoutineExerciseRepository routineExerciseRepository;
     private final RoutineRepository routineRepository;
     private final ExerciseRepository exerciseRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 루틴 ID로 Routine 엔티티 조회
     private Routine findRoutineById(int routineId) {
@@ -64,6 +67,7 @@ public class RoutineExerciseServiceImpl implements RoutineExerciseService {
 
         // 저장 후 DTO로 변환하여 반환
         RoutineExercise savedRoutineExercise = routineExerciseRepository.save(routineExercise);
+        eventPublisher.publishEvent(new DashboardDataChangedEvent("routine-exercise"));
         return entityToDTO(savedRoutineExercise);
     }
 
@@ -110,5 +114,6 @@ public class RoutineExerciseServiceImpl implements RoutineExerciseService {
         }
 
         routineExerciseRepository.deleteById(id);
+        eventPublisher.publishEvent(new DashboardDataChangedEvent("routine-exercise"));
     }
 }
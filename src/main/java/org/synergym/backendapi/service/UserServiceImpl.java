@@ -3,6 +3,7 @@ package org.synergym.backendapi.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,6 +13,7 @@ import org.synergym.backendapi.dto.FinalGoalsDTO;
 import org.synergym.backendapi.dto.UserDTO;
 import org.synergym.backendapi.entity.User;
 import org.synergym.backendapi.entity.UserBadge;
+import org.synergym.backendapi.event.DashboardDataChangedEvent;
 import org.synergym.backendapi.exception.EntityNotFoundException;
 import org.synergym.backendapi.exception.ErrorCode;
 import org.synergym.backendapi.repository.UserBadgeRepository;
@@ -29,14 +31,17 @@ public class UserServiceImpl implements UserService {
     private final EmailService emailService;
     private final UserBadgeRepository userBadgeRepository;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 생성자를 통한 의존성 주입
     @Autowired
-    public UserServiceImpl(UserRepository userRepository, EmailService emailService, UserBadgeRepository userBadgeRepository, ObjectMapper objectMapper) {
+    public UserServiceImpl(UserRepository userRepository, EmailService emailService, UserBadgeRepository userBadgeRepository, ObjectMapper objectMapper,
+                           ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.emailService = emailService;
         this.userBadgeRepository = userBadgeRepository;
         this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     // ID로 User 조회, 없으면 예외 발생
@@ -127,6 +132,7 @@ public class UserServiceImpl implements UserService {
 
         // 소프트 삭제 (isDeleted 필드 등을 활용한 논리적 삭제)
         user.softDelete();
+        eventPublisher.publishEvent(new DashboardDataChangedEvent("user-withdrawal"));
     }
 
     /**
@@ -1,37 +1,124 @@
 package org.synergym.backendapi.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.synergym.backendapi.dto.ChatResponseDTO;
+import org.synergym.backendapi.exception.AiGatewayBusyException;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
+/**
+ * FastAPI /youtube 호출 클라이언트 (영상 추천, 요약, 댓글 요약)
+ *
+ * [응답 캐시]
+ * - 같은 요청 유형 + 진단 결과 + 추천 운동이면 Python 파이프라인을 다시 실행하지 않고 Redis에 저장된 응답 사용
+ * - 키: youtube:response:{SHA-256(type, diagnosis, recommended_exercise)}
+ * - 오류 응답은 저장하지 않음
+ */
+@Slf4j
 @Service
 public class YoutubeClient {
-    private final WebClient webClient = WebClient.create("http://localhost:8000");
+
+    private static final String CACHE_KEY_PREFIX = "youtube:response:";
+
+    private final AiGatewayClient aiGatewayClient;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration cacheTtl;
+    private final boolean logRawPayload;
+
+    public YoutubeClient(AiGatewayClient aiGatewayClient,
+                         StringRedisTemplate redisTemplate,
+                         ObjectMapper objectMapper,
+                         @Value("${youtube-client.cache-ttl-minutes:360}") long cacheTtlMinutes,
+                         @Value("${youtube-client.log-raw-payload:false}") boolean logRawPayload) {
+        this.aiGatewayClient = aiGatewayClient;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.cacheTtl = Duration.ofMinutes(cacheTtlMinutes);
+        this.logRawPayload = logRawPayload;
+    }
 
     public ChatResponseDTO sendYoutubeRequest(Map<String, Object> requestBody, String type) {
         requestBody.put("type", type);
         try {
-            // 원본 JSON 및 파싱 결과 로그 제거
-            webClient.post()
-                    .uri("/youtube")
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-            ChatResponseDTO response = webClient.post()
-                    .uri("/youtube")
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(ChatResponseDTO.class)
-                    .block();
+            String cacheKey = cacheKey(requestBody, type);
+            ChatResponseDTO cached = readCache(cacheKey);
+            if (cached != null) {
+                log.debug("YouTube response cache hit - type: {}", type);
+                return cached;
+            }
+
+            ChatResponseDTO response = fetch(requestBody);
+            if (response != null && !"error".equals(response.getType())) {
+                writeCache(cacheKey, response);
+            }
             return response;
+        } catch (AiGatewayBusyException e) {
+            throw e;
         } catch (Exception e) {
-            System.out.println("[YoutubeClient] FastAPI 호출 실패: " + e.getMessage());
+            log.warn("[YoutubeClient] FastAPI 호출 실패: {}", e.getMessage());
             ChatResponseDTO errorResponse = new ChatResponseDTO();
             errorResponse.setType("error");
             errorResponse.setResponse("YouTube 서비스 호출 중 오류가 발생했습니다: " + e.getMessage());
             return errorResponse;
         }
     }
-} 
\ No newline at end of file
+
+    // 한 번만 호출하여 DTO로 변환 (원본 확인이 필요하면 log-raw-payload 설정 후 DEBUG 로그로 확인)
+    private ChatResponseDTO fetch(Map<String, Object> requestBody) throws Exception {
+        if (!logRawPayload) {
+            return aiGatewayClient.post("youtube", "/youtube", requestBody, ChatResponseDTO.class).block();
+        }
+        String raw = aiGatewayClient.post("youtube", "/youtube", requestBody, String.class).block();
+        log.debug("[YoutubeClient] FastAPI 원본 응답: {}", raw);
+        return raw != null ? objectMapper.readValue(raw, ChatResponseDTO.class) : null;
+    }
+
+    // 요청 유형 + 진단 결과 + 추천 운동 기준 키 (Map 순서와 무관하도록 키 정렬 후 직렬화)
+    private String cacheKey(Map<String, Object> requestBody, String type) throws Exception {
+        Map<String, Object> identity = new LinkedHashMap<>();
+        identity.put("type", type);
+        identity.put("diagnosis", requestBody.get("diagnosis"));
+        identity.put("recommended_exercise", requestBody.get("recommended_exercise"));
+        byte[] canonical = objectMapper.writer()
+                .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                .writeValueAsBytes(identity);
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(canonical);
+            return CACHE_KEY_PREFIX + HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ChatResponseDTO readCache(String key) {
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+            return value != null ? objectMapper.readValue(value, ChatResponseDTO.class) : null;
+        } catch (Exception e) {
+            log.warn("YouTube response cache read failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeCache(String key, ChatResponseDTO response) {
+        try {
+            // 세션 ID는 요청마다 컨트롤러에서 정하므로 저장하지 않음
+            ChatResponseDTO stored = objectMapper.convertValue(response, ChatResponseDTO.class);
+            stored.setSessionId(null);
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(stored), cacheTtl);
+        } catch (Exception e) {
+            log.warn("YouTube response cache write failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.synergym.backendapi.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서(keyset) 페이지네이션용 continuation token 인코더/디코더
+ * (정렬 종류, 정렬 키, 마지막 ID)를 URL-safe Base64 문자열로 감싸 클라이언트에는 불투명하게 전달
+ */
+public final class CursorCodec {
+
+    private static final String SEPARATOR = "|";
+
+    private CursorCodec() {
+    }
+
+    // 디코딩된 커서 (정렬 키 문자열 + 마지막으로 내려준 게시글 ID)
+    public record Cursor(String sortKey, int id) {
+    }
+
+    public static String encode(String type, String sortKey, int id) {
+        String raw = type + SEPARATOR + sortKey + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param type 기대하는 정렬 종류 (다른 정렬의 커서를 넘기면 거부)
+     * @throws IllegalStateException 형식이 올바르지 않은 커서
+     */
+    public static Cursor decode(String type, String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3 || !parts[0].equals(type)) {
+                throw new IllegalStateException("유효하지 않은 커서입니다.");
+            }
+            return new Cursor(parts[1], Integer.parseInt(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.synergym.backendapi.util;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.Locale;
+
+/**
+ * 검색어 처리 유틸리티
+ * - LIKE 패턴 변환 (와일드카드 이스케이프)
+ * - 검색 결과 하이라이트 스니펫 생성
+ * - 게시글/댓글 검색 공통 상한값
+ */
+public final class SearchTextUtils {
+
+    // 검색 결과 최대 페이지 크기
+    public static final int MAX_SEARCH_SIZE = 50;
+    // 기존 목록형 검색 API의 결과 상한
+    public static final int LEGACY_SEARCH_LIMIT = 100;
+    // 인덱스로 처리할 수 없는 1글자 검색어는 최근 글 이 개수 안에서만 검색
+    public static final int SHORT_KEYWORD_SCAN_LIMIT = 5000;
+
+    private static final int SNIPPET_CONTEXT = 40;
+    private static final String MARK_OPEN = "<mark>";
+    private static final String MARK_CLOSE = "</mark>";
+
+    private SearchTextUtils() {
+    }
+
+    // '%키워드%' 패턴 (키워드 안의 %, _, \ 는 문자 그대로 검색)
+    public static String toContainsPattern(String keyword) {
+        String escaped = keyword
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    // 검색어 글자 수 (서로게이트 쌍은 한 글자로)
+    public static int keywordLength(String keyword) {
+        return keyword.codePointCount(0, keyword.length());
+    }
+
+    /**
+     * 키워드가 처음 등장하는 위치 주변을 잘라 <mark>로 감싼 스니펫 반환
+     * 본문은 HTML 이스케이프 처리하므로 그대로 렌더링해도 안전
+     * @return 키워드가 없으면 null
+     */
+    public static String highlight(String text, String keyword) {
+        if (text == null || keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        int index = text.toLowerCase(Locale.ROOT).indexOf(keyword.toLowerCase(Locale.ROOT));
+        if (index < 0) {
+            return null;
+        }
+        int end = Math.min(text.length(), index + keyword.length());
+        int from = Math.max(0, index - SNIPPET_CONTEXT);
+        int to = Math.min(text.length(), end + SNIPPET_CONTEXT);
+
+        StringBuilder snippet = new StringBuilder();
+        if (from > 0) {
+            snippet.append("…");
+        }
+        snippet.append(HtmlUtils.htmlEscape(text.substring(from, index)))
+                .append(MARK_OPEN)
+                .append(HtmlUtils.htmlEscape(text.substring(index, end)))
+                .append(MARK_CLOSE)
+                .append(HtmlUtils.htmlEscape(text.substring(end, to)));
+        if (to < text.length()) {
+            snippet.append("…");
+        }
+        return snippet.toString();
+    }
+}
@@ -0,0 +1,141 @@
+package org.synergym.backendapi;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.synergym.backendapi.dto.CalendarSummaryDTO;
+import org.synergym.backendapi.entity.User;
+import org.synergym.backendapi.repository.UserRepository;
+import org.synergym.backendapi.service.ActivityCalendarService;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 일별 운동 기록 롤업 기반 캘린더 요약 테스트
+ * 연속 운동일(오늘/어제 기준 유지, 연도 경계), 연간 히트맵 길이(윤년), 롤업 0 미만 방지
+ */
+@SpringBootTest
+public class ActivityCalendarServiceTest {
+
+    @Autowired
+    private ActivityCalendarService activityCalendarService;
+    @Autowired
+    private UserRepository userRepository;
+
+    private User createTestUser() {
+        return userRepository.save(
+                User.builder()
+                        .email("calendar_" + UUID.randomUUID() + "@test.com")
+                        .name("캘린더유저")
+                        .password("pw123")
+                        .goal("체력증진")
+                        .build()
+        );
+    }
+
+    private void record(User user, LocalDate... dates) {
+        for (LocalDate date : dates) {
+            activityCalendarService.recordLogAdded(user.getId(), date);
+        }
+    }
+
+    @Test
+    @DisplayName("오늘까지 이어진 연속 운동일")
+    void currentStreakIncludesToday() {
+        User user = createTestUser();
+        LocalDate today = LocalDate.now();
+        record(user, today.minusDays(2), today.minusDays(1), today);
+
+        CalendarSummaryDTO summary = activityCalendarService.getCalendarSummary(user.getId(), today.getYear());
+        System.out.printf("currentStreak: %d, longestStreak: %d%n", summary.getCurrentStreak(), summary.getLongestStreak());
+
+        assertEquals(3, summary.getCurrentStreak());
+        assertEquals(3, summary.getLongestStreak());
+        assertEquals(today, summary.getLastExerciseDate());
+    }
+
+    @Test
+    @DisplayName("어제까지 운동했으면 오늘 기록이 없어도 연속 유지")
+    void currentStreakCarriesOverFromYesterday() {
+        User user = createTestUser();
+        LocalDate today = LocalDate.now();
+        record(user, today.minusDays(2), today.minusDays(1));
+
+        CalendarSummaryDTO summary = activityCalendarService.getCalendarSummary(user.getId(), today.getYear());
+
+        assertEquals(2, summary.getCurrentStreak());
+        assertEquals(today.minusDays(1), summary.getLastExerciseDate());
+    }
+
+    @Test
+    @DisplayName("마지막 운동일이 그제 이전이면 현재 연속은 0, 최장 연속은 유지")
+    void currentStreakResetsAfterGap() {
+        User user = createTestUser();
+        LocalDate today = LocalDate.now();
+        record(user, today.minusDays(5), today.minusDays(4), today.minusDays(3), today.minusDays(2));
+
+        CalendarSummaryDTO summary = activityCalendarService.getCalendarSummary(user.getId(), today.getYear());
+
+        assertEquals(0, summary.getCurrentStreak());
+        assertEquals(4, summary.getLongestStreak());
+    }
+
+    @Test
+    @DisplayName("12월 31일 -> 1월 1일 연속 운동일은 연도를 넘어 이어짐")
+    void streakContinuesAcrossYearBoundary() {
+        User user = createTestUser();
+        record(user, LocalDate.of(2023, 12, 30), LocalDate.of(2023, 12, 31), LocalDate.of(2024, 1, 1));
+
+        CalendarSummaryDTO summary2023 = activityCalendarService.getCalendarSummary(user.getId(), 2023);
+        CalendarSummaryDTO summary2024 = activityCalendarService.getCalendarSummary(user.getId(), 2024);
+        System.out.printf("2023 activeDays: %d, 2024 activeDays: %d, longestStreak: %d%n",
+                summary2023.getActiveDays(), summary2024.getActiveDays(), summary2024.getLongestStreak());
+
+        assertEquals(3, summary2023.getLongestStreak());
+        assertEquals(3, summary2024.getLongestStreak());
+        assertEquals(0, summary2024.getCurrentStreak());
+        // 히트맵과 운동일 수는 해당 연도 기록만
+        assertEquals(2, summary2023.getActiveDays());
+        assertEquals(1, summary2023.getDailyCounts().get(363));
+        assertEquals(1, summary2023.getDailyCounts().get(364));
+        assertEquals(1, summary2024.getActiveDays());
+        assertEquals(1, summary2024.getDailyCounts().get(0));
+    }
+
+    @Test
+    @DisplayName("히트맵 길이는 연도의 일 수 (윤년 366)")
+    void heatmapLengthFollowsLeapYear() {
+        User user = createTestUser();
+        record(user, LocalDate.of(2024, 2, 29), LocalDate.of(2024, 12, 31), LocalDate.of(2024, 12, 31));
+
+        CalendarSummaryDTO leapYear = activityCalendarService.getCalendarSummary(user.getId(), 2024);
+        CalendarSummaryDTO commonYear = activityCalendarService.getCalendarSummary(user.getId(), 2023);
+
+        assertEquals(366, leapYear.getDailyCounts().size());
+        assertEquals(365, commonYear.getDailyCounts().size());
+        assertEquals(1, leapYear.getDailyCounts().get(59));
+        assertEquals(2, leapYear.getDailyCounts().get(365));
+        assertEquals(2, leapYear.getActiveDays());
+    }
+
+    @Test
+    @DisplayName("기록 삭제가 더 많아도 롤업은 0 미만으로 내려가지 않음")
+    void rollupCountIsClampedAtZero() {
+        User user = createTestUser();
+        LocalDate date = LocalDate.of(2024, 3, 15);
+
+        activityCalendarService.recordLogAdded(user.getId(), date);
+        activityCalendarService.recordLogRemoved(user.getId(), date);
+        activityCalendarService.recordLogRemoved(user.getId(), date);
+        assertEquals(0, activityCalendarService.countLogs(user.getId(), date, date));
+
+        // 0으로 보정된 뒤 추가된 기록은 1부터 다시 집계
+        activityCalendarService.recordLogAdded(user.getId(), date);
+        assertEquals(1, activityCalendarService.countLogs(user.getId(), date, date));
+        assertEquals(1, activityCalendarService.getCalendarSummary(user.getId(), 2024).getActiveDays());
+    }
+}
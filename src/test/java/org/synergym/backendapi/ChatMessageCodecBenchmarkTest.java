@@ -0,0 +1,137 @@
+package org.synergym.backendapi;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.synergym.backendapi.dto.ChatMessageDTO;
+import org.synergym.backendapi.service.ChatMessageCodec;
+import org.synergym.backendapi.service.CompactChatMessageCodec;
+import org.synergym.backendapi.service.JsonChatMessageCodec;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 챗봇 대화 저장 형식 비교
+ * 50개 메시지(짧은 질문 + 긴 한국어 답변) 세션 기준 세션당 바이트 수와 인코딩/디코딩 시간을 출력
+ */
+public class ChatMessageCodecBenchmarkTest {
+
+    private static final String[] WORDS = {
+            "스쿼트", "런지", "플랭크", "자세", "무릎이", "허리를", "곧게", "유지하세요", "호흡은", "천천히",
+            "반복", "세트", "근육", "스트레칭", "골반", "어깨", "균형", "체중을", "발뒤꿈치에", "실어",
+            "코어", "힘을", "주고", "10회", "3세트", "휴식", "30초", "통증이", "있다면", "중단하세요",
+            "거북목", "교정", "운동을", "추천드립니다", "영상을", "참고해", "주세요", "매일", "꾸준히", "하면"
+    };
+
+    // Spring Boot 기본 ObjectMapper와 같은 날짜 설정
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private List<ChatMessageDTO> createSession() {
+        Random random = new Random(42);
+        LocalDateTime time = LocalDateTime.of(2025, 7, 1, 9, 0, 0, 123_456_000);
+        List<ChatMessageDTO> messages = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            ChatMessageDTO question = new ChatMessageDTO("user", sentence(random, 8));
+            question.setTimestamp(time.plusMinutes(i * 2L));
+            ChatMessageDTO answer = new ChatMessageDTO("bot", sentence(random, 120));
+            answer.setTimestamp(time.plusMinutes(i * 2L + 1));
+            messages.add(question);
+            messages.add(answer);
+        }
+        return messages;
+    }
+
+    private String sentence(Random random, int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            builder.append(WORDS[random.nextInt(WORDS.length)]).append(i % 12 == 11 ? ". " : " ");
+        }
+        return builder.toString().trim();
+    }
+
+    @Test
+    void compactCodecRoundTripsAllFields() {
+        ChatMessageCodec codec = new CompactChatMessageCodec(512);
+        ChatMessageDTO video = new ChatMessageDTO("bot", "추천 영상입니다", "https://youtu.be/abc");
+        ChatMessageDTO custom = new ChatMessageDTO("video", null);
+        custom.setTimestamp(null);
+
+        for (ChatMessageDTO message : List.of(video, custom, createSession().get(1))) {
+            assertEquals(message, codec.decode(codec.encode(message)));
+        }
+    }
+
+    @Test
+    void readsLegacyJsonAlongsideCompact() {
+        ChatMessageCodec json = new JsonChatMessageCodec(objectMapper);
+        ChatMessageCodec compact = new CompactChatMessageCodec(512);
+        ChatMessageDTO message = createSession().get(0);
+
+        byte[] legacy = json.encode(message);
+        assertTrue(json.supports(legacy));
+        assertFalse(compact.supports(legacy));
+        assertEquals(message, json.decode(legacy));
+        assertFalse(json.supports(compact.encode(message)));
+    }
+
+    @Test
+    void benchmarkBytesAndLatency() throws Exception {
+        List<ChatMessageDTO> session = createSession();
+        ChatMessageCodec json = new JsonChatMessageCodec(objectMapper);
+        ChatMessageCodec compact = new CompactChatMessageCodec(512);
+
+        long legacyBlobBytes = objectMapper.writeValueAsBytes(session).length;
+        long jsonBytes = totalBytes(json, session);
+        long compactBytes = totalBytes(compact, session);
+
+        System.out.printf("[ChatMessageCodec] bytes/session - legacy JSON blob: %d, JSON list: %d, compact: %d (%.1f%% of blob)%n",
+                legacyBlobBytes, jsonBytes, compactBytes, compactBytes * 100.0 / legacyBlobBytes);
+        measure("json", json, session);
+        measure("compact", compact, session);
+
+        assertTrue(compactBytes < jsonBytes);
+    }
+
+    private long totalBytes(ChatMessageCodec codec, List<ChatMessageDTO> session) {
+        long total = 0;
+        for (ChatMessageDTO message : session) {
+            total += codec.encode(message).length;
+        }
+        return total;
+    }
+
+    private void measure(String name, ChatMessageCodec codec, List<ChatMessageDTO> session) {
+        int iterations = 200;
+        List<byte[]> encoded = new ArrayList<>();
+        for (ChatMessageDTO message : session) {
+            encoded.add(codec.encode(message));
+        }
+        // 워밍업
+        for (int i = 0; i < iterations; i++) {
+            session.forEach(codec::encode);
+            encoded.forEach(codec::decode);
+        }
+
+        long encodeStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            session.forEach(codec::encode);
+        }
+        long encodeNanos = (System.nanoTime() - encodeStart) / iterations;
+
+        long decodeStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            encoded.forEach(codec::decode);
+        }
+        long decodeNanos = (System.nanoTime() - decodeStart) / iterations;
+
+        System.out.printf("[ChatMessageCodec] %s - encode: %.1f us/session, decode: %.1f us/session%n",
+                name, encodeNanos / 1000.0, decodeNanos / 1000.0);
+    }
+}
@@ -0,0 +1,46 @@
+package org.synergym.backendapi;
+
+import org.junit.jupiter.api.Test;
+import org.synergym.backendapi.util.CursorCodec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 커서 페이지네이션 continuation token 인코딩/디코딩 테스트
+ */
+public class CursorCodecTest {
+
+    @Test
+    void roundTripsSortKeyAndId() {
+        String createdAt = LocalDateTime.of(2025, 7, 1, 9, 30, 15, 123_456_000).toString();
+        String token = CursorCodec.encode("latest", createdAt, 42);
+
+        CursorCodec.Cursor cursor = CursorCodec.decode("latest", token);
+
+        assertEquals(createdAt, cursor.sortKey());
+        assertEquals(42, cursor.id());
+        // URL에 그대로 넣을 수 있는 문자만 사용
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void rejectsCursorOfOtherSortType() {
+        String token = CursorCodec.encode("popular", "10", 7);
+
+        assertThrows(IllegalStateException.class, () -> CursorCodec.decode("latest", token));
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThrows(IllegalStateException.class, () -> CursorCodec.decode("latest", "not a cursor!"));
+        assertThrows(IllegalStateException.class, () -> CursorCodec.decode("latest", CursorCodec.encode("latest", "x", 1) + "%%"));
+        // 마지막 ID가 숫자가 아닌 경우
+        String noId = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("latest|x|abc".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IllegalStateException.class, () -> CursorCodec.decode("latest", noId));
+    }
+}
@@ -0,0 +1,117 @@
+package org.synergym.backendapi;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.synergym.backendapi.entity.User;
+import org.synergym.backendapi.repository.UserRepository;
+import org.synergym.backendapi.service.ExerciseFrequencyRanking;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 최근 운동 빈도 백분위(Fenwick 트리) 테스트
+ * 다른 테스트가 만든 사용자도 함께 집계되므로 절대값 대신 상대 순위와 증감을 확인
+ */
+@SpringBootTest
+public class ExerciseFrequencyRankingTest {
+
+    @Autowired
+    private ExerciseFrequencyRanking exerciseFrequencyRanking;
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        // 적재 전 반영분은 무시되므로 먼저 DB 기준으로 구성
+        exerciseFrequencyRanking.percentileOf(0);
+    }
+
+    private User createTestUser() {
+        return userRepository.save(
+                User.builder()
+                        .email("frequency_" + UUID.randomUUID() + "@test.com")
+                        .name("빈도유저")
+                        .password("pw123")
+                        .goal("체력증진")
+                        .build()
+        );
+    }
+
+    private void addLogs(User user, int count) {
+        for (int i = 0; i < count; i++) {
+            exerciseFrequencyRanking.recordLogAdded(user.getId(), LocalDate.now());
+        }
+    }
+
+    @Test
+    @DisplayName("기록 수가 적은 사용자가 더 낮은 백분위")
+    void fewerLogsRankLower() {
+        User low = createTestUser();
+        User high = createTestUser();
+        addLogs(low, 1);
+        addLogs(high, 3);
+
+        ExerciseFrequencyRanking.Percentile lowRank = exerciseFrequencyRanking.percentileOf(low.getId());
+        ExerciseFrequencyRanking.Percentile highRank = exerciseFrequencyRanking.percentileOf(high.getId());
+        System.out.printf("low: %s (%.1f%%), high: %s (%.1f%%)%n",
+                lowRank, lowRank.percentile(), highRank, highRank.percentile());
+
+        assertEquals(1, lowRank.count());
+        assertEquals(3, highRank.count());
+        // 기록 수 1은 보관 중인 사용자 중 가장 적은 값
+        assertEquals(0, lowRank.usersWithLessCount());
+        assertTrue(highRank.usersWithLessCount() >= 1);
+        assertTrue(highRank.percentile() > lowRank.percentile());
+        assertEquals(lowRank.totalUsers(), highRank.totalUsers());
+    }
+
+    @Test
+    @DisplayName("기록 수가 초기 트리 크기를 넘어도 순위 계산 유지")
+    void treeGrowsBeyondInitialCapacity() {
+        User low = createTestUser();
+        User high = createTestUser();
+        addLogs(low, 1);
+        addLogs(high, 100);
+
+        ExerciseFrequencyRanking.Percentile highRank = exerciseFrequencyRanking.percentileOf(high.getId());
+
+        assertEquals(100, highRank.count());
+        assertTrue(highRank.usersWithLessCount() >= 1);
+        assertTrue(highRank.usersWithLessCount() < highRank.totalUsers());
+        assertTrue(highRank.percentile() <= 100.0);
+    }
+
+    @Test
+    @DisplayName("기록 삭제 시 기록 수 감소, 0이 되면 집계 대상에서 제외")
+    void removingLogsLowersCount() {
+        User user = createTestUser();
+        addLogs(user, 2);
+        long totalBefore = exerciseFrequencyRanking.percentileOf(user.getId()).totalUsers();
+
+        exerciseFrequencyRanking.recordLogRemoved(user.getId(), LocalDate.now());
+        assertEquals(1, exerciseFrequencyRanking.percentileOf(user.getId()).count());
+
+        exerciseFrequencyRanking.recordLogRemoved(user.getId(), LocalDate.now());
+        exerciseFrequencyRanking.recordLogRemoved(user.getId(), LocalDate.now());
+        ExerciseFrequencyRanking.Percentile removed = exerciseFrequencyRanking.percentileOf(user.getId());
+        assertEquals(0, removed.count());
+        assertEquals(0, removed.usersWithLessCount());
+        assertEquals(totalBefore - 1, removed.totalUsers());
+    }
+
+    @Test
+    @DisplayName("비교 기간(최근 30일) 밖의 기록은 반영하지 않음")
+    void logsOutsideWindowAreIgnored() {
+        User user = createTestUser();
+        exerciseFrequencyRanking.recordLogAdded(user.getId(), LocalDate.now().minusDays(31));
+        exerciseFrequencyRanking.recordLogAdded(user.getId(), LocalDate.now().plusDays(1));
+
+        assertEquals(0, exerciseFrequencyRanking.percentileOf(user.getId()).count());
+    }
+}